@@ -180,6 +180,8 @@ public enum FieldValueType {
                 return BINARY;
             } else if (ByteArray.class.equals(type)) {
                 return BYTE_ARRAY;
+            } else if (Lazy.class.equals(type)) {
+                throw new IllegalArgumentException("Raw Lazy type cannot be used in databinding, specify Lazy<T>: " + type);
             } else if (Collection.class.isAssignableFrom(clazz)) {
                 throw new IllegalArgumentException("Raw collection types cannot be used in databinding: " + type);
             } else if (Object.class.equals(clazz)) {
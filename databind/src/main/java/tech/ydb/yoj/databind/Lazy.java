@@ -0,0 +1,137 @@
+package tech.ydb.yoj.databind;
+
+import lombok.NonNull;
+
+import javax.annotation.Nullable;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Value of an {@link FieldValueType#OBJECT OBJECT} field which is deserialized on first access, and not when the
+ * entity is read from the database. Use it for large serialized fields which are rarely needed by the code reading
+ * the entity, e.g.:
+ * <blockquote><pre>
+ * &#064;Column(dbType = DbType.JSON)
+ * Lazy&lt;BigDocument&gt; document;
+ * </pre></blockquote>
+ * If a lazy value has not been accessed, it is written back to the database in its original serialized form, without
+ * serializing it again. Once the value has been accessed, it is serialized on every write, because it might have been
+ * mutated in place.
+ * <p>{@code Lazy} is only supported as the declared type of an entity field. Lazy values nested inside other
+ * serialized values are not supported. Equality of lazy values is determined by their {@link #get() values}. Two lazy
+ * values which have not been accessed and have the same serialized form are equal without deserializing them; other
+ * comparisons cause deserialization.
+ *
+ * @param <T> value type
+ */
+public final class Lazy<T> {
+    @Nullable
+    private final String serialized;
+
+    private volatile Supplier<? extends T> loader;
+    private T value;
+
+    private Lazy(@Nullable String serialized, @Nullable Supplier<? extends T> loader, @Nullable T value) {
+        this.serialized = serialized;
+        this.loader = loader;
+        this.value = value;
+    }
+
+    /**
+     * @param value value
+     * @return lazy value which is already loaded
+     */
+    public static <T> Lazy<T> of(@Nullable T value) {
+        return new Lazy<>(null, null, value);
+    }
+
+    /**
+     * @param serialized   serialized representation of the value
+     * @param deserializer function which deserializes the value; called at most once, on first {@link #get()}
+     * @return lazy value which will be deserialized on first access
+     */
+    public static <T> Lazy<T> deserializing(@NonNull String serialized, @NonNull Function<String, ? extends T> deserializer) {
+        return new Lazy<>(serialized, () -> deserializer.apply(serialized), null);
+    }
+
+    /**
+     * @return value, deserializing it if this is the first access
+     */
+    @Nullable
+    public T get() {
+        if (loader != null) {
+            synchronized (this) {
+                Supplier<? extends T> l = loader;
+                if (l != null) {
+                    value = l.get();
+                    loader = null;
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * @return {@code true} if the value has already been deserialized or was not serialized in the first place;
+     * {@code false} otherwise
+     */
+    public boolean isLoaded() {
+        return loader == null;
+    }
+
+    /**
+     * @return serialized representation which this value was read from; {@code null} if the value was created using
+     * {@link #of(Object)}
+     */
+    @Nullable
+    public String getSerialized() {
+        return serialized;
+    }
+
+    /**
+     * @param type {@code Lazy<T>} type
+     * @return {@code T}
+     * @throws IllegalArgumentException {@code type} is not a parameterized {@code Lazy} type
+     */
+    public static Type getValueType(@NonNull Type type) {
+        if (type instanceof ParameterizedType pt && pt.getRawType() == Lazy.class) {
+            return pt.getActualTypeArguments()[0];
+        }
+        throw new IllegalArgumentException("Not a parameterized Lazy<T> type: " + type.getTypeName());
+    }
+
+    /**
+     * @param type Java type
+     * @return {@code true} if {@code type} is {@code Lazy} or its parameterization; {@code false} otherwise
+     */
+    public static boolean isLazyType(@NonNull Type type) {
+        return type == Lazy.class || type instanceof ParameterizedType pt && pt.getRawType() == Lazy.class;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof Lazy<?> other)) {
+            return false;
+        }
+        if (!isLoaded() && !other.isLoaded() && Objects.equals(serialized, other.serialized)) {
+            return true;
+        }
+        return Objects.equals(get(), other.get());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(get());
+    }
+
+    @Override
+    public String toString() {
+        return isLoaded() ? "Lazy[" + value + "]" : "Lazy[<not loaded>]";
+    }
+}
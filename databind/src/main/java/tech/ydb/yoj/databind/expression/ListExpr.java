@@ -40,7 +40,7 @@ public class ListExpr<T> extends LeafExpression<T> {
 
     @Nullable
     public Comparable<?> getActualValue(@NonNull T obj) {
-        return FieldValue.getComparable(schema.flatten(obj), field);
+        return FieldValue.getComparable(schema.flattenToRow(obj), field);
     }
 
     @NonNull
@@ -3,9 +3,9 @@ package tech.ydb.yoj.databind.expression;
 import lombok.AllArgsConstructor;
 import lombok.NonNull;
 import lombok.Value;
+import tech.ydb.yoj.databind.schema.FlatRow;
 import tech.ydb.yoj.databind.schema.Schema;
 
-import java.util.Map;
 import java.util.function.UnaryOperator;
 
 import static java.lang.String.format;
@@ -33,7 +33,7 @@ public class NullExpr<T> extends LeafExpression<T> {
     }
 
     public boolean isActualValueNull(@NonNull T obj) {
-        Map<String, Object> flattened = schema.flatten(obj);
+        FlatRow flattened = schema.flattenToRow(obj);
         return field.flatten().allMatch(f -> flattened.get(field.getName()) == null);
     }
 
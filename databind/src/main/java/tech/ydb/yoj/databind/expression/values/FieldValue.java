@@ -6,6 +6,7 @@ import tech.ydb.yoj.databind.ByteArray;
 import tech.ydb.yoj.databind.CustomValueTypes;
 import tech.ydb.yoj.databind.FieldValueType;
 import tech.ydb.yoj.databind.expression.IllegalExpressionException;
+import tech.ydb.yoj.databind.schema.FlatRow;
 import tech.ydb.yoj.databind.schema.ObjectSchema;
 import tech.ydb.yoj.databind.schema.Schema.JavaField;
 
@@ -63,12 +64,10 @@ public sealed interface FieldValue extends tech.ydb.yoj.databind.expression.Fiel
             case UUID -> new UuidFieldValue((UUID) obj);
             case COMPOSITE -> {
                 ObjectSchema<?> schema = ObjectSchema.of(obj.getClass());
-                List<JavaField> flatFields = schema.flattenFields();
-
                 @SuppressWarnings({"rawtypes", "unchecked"})
-                Map<String, Object> flattenedObj = ((ObjectSchema) schema).flatten(obj);
+                FlatRow flattenedObj = ((ObjectSchema) schema).flattenToRow(obj);
 
-                List<Tuple.FieldAndValue> allFieldValues = tupleValues(flatFields, flattenedObj);
+                List<Tuple.FieldAndValue> allFieldValues = tupleValues(flattenedObj.getFields(), flattenedObj);
                 if (allFieldValues.size() == 1) {
                     FieldValue singleValue = allFieldValues.iterator().next().value();
                     Preconditions.checkArgument(singleValue != null, "Wrappers must have a non-null value inside them");
@@ -88,6 +87,23 @@ public sealed interface FieldValue extends tech.ydb.yoj.databind.expression.Fiel
                 .collect(collectingAndThen(toCollection(ArrayList::new), Collections::unmodifiableList));
     }
 
+    private static @NonNull List<Tuple.FieldAndValue> tupleValues(List<JavaField> flatFields, FlatRow flattenedObj) {
+        return flatFields.stream()
+                .map(jf -> new Tuple.FieldAndValue(jf, flattenedObj))
+                // Tuple field values are allowed to be null, so we explicitly use ArrayList, just make it unmodifiable
+                .collect(collectingAndThen(toCollection(ArrayList::new), Collections::unmodifiableList));
+    }
+
+    @Nullable
+    static Comparable<?> getComparable(@NonNull FlatRow values, @NonNull JavaField field) {
+        if (field.isFlat()) {
+            Object rawValue = values.get(field.getName());
+            return rawValue == null ? null : ofObj(rawValue, field.toFlatField()).getComparable(field);
+        } else {
+            return new Tuple(null, tupleValues(field.flatten().toList(), values));
+        }
+    }
+
     @Nullable
     static Comparable<?> getComparable(@NonNull Map<String, Object> values, @NonNull JavaField field) {
         if (field.isFlat()) {
@@ -5,6 +5,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Value;
+import tech.ydb.yoj.databind.schema.FlatRow;
 import tech.ydb.yoj.databind.schema.Schema;
 
 import javax.annotation.Nullable;
@@ -103,6 +104,10 @@ public class Tuple implements Comparable<Tuple> {
             this(jf, getValue(jf, flattenedObj));
         }
 
+        public FieldAndValue(@NonNull Schema.JavaField jf, @NonNull FlatRow flattenedObj) {
+            this(jf, getValue(jf, flattenedObj));
+        }
+
         public FieldAndValue {
             Preconditions.checkArgument(field.isFlat(), "field must be flat");
         }
@@ -113,6 +118,12 @@ public class Tuple implements Comparable<Tuple> {
             return flattenedObj.containsKey(name) ? FieldValue.ofObj(flattenedObj.get(name), jf) : null;
         }
 
+        @Nullable
+        private static FieldValue getValue(@NonNull Schema.JavaField jf, @NonNull FlatRow flattenedObj) {
+            Object value = flattenedObj.get(jf.getName());
+            return value == null ? null : FieldValue.ofObj(value, jf);
+        }
+
         @Nullable
         public Comparable<?> toComparable() {
             return value == null ? null : value.getComparable(field);
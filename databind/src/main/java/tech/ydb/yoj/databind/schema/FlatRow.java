@@ -0,0 +1,120 @@
+package tech.ydb.yoj.databind.schema;
+
+import lombok.NonNull;
+import tech.ydb.yoj.databind.schema.Schema.JavaField;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Values of an object's {@link Schema#flattenFields() flattened fields}, indexed by the position of the field in
+ * {@link Schema#flattenFields()}. This is a cheaper alternative to {@link Schema#flatten(Object) the map of flattened
+ * field values}: the values are stored in a plain array, and field name-to-index mapping is computed once per schema.
+ * <p>A value is {@code null} if the field itself is {@code null}, or if any of the composite fields containing it
+ * is {@code null}.
+ *
+ * @see Schema#flattenToRow(Object)
+ */
+public final class FlatRow {
+    private final Layout layout;
+    private final Object[] values;
+
+    FlatRow(@NonNull Layout layout, @NonNull Object[] values) {
+        this.layout = layout;
+        this.values = values;
+    }
+
+    /**
+     * @return number of flattened fields
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * @return flattened fields, in the same order as values in this row
+     */
+    public List<JavaField> getFields() {
+        return layout.fields;
+    }
+
+    /**
+     * @param index flattened field index
+     * @return flattened field value; might be {@code null}
+     * @throws IndexOutOfBoundsException {@code index} is out of bounds
+     */
+    @Nullable
+    public Object get(int index) {
+        return values[index];
+    }
+
+    /**
+     * @param fieldName {@link JavaField#getName() flattened field name}
+     * @return flattened field value; {@code null} if the value is {@code null} or there is no such field
+     */
+    @Nullable
+    public Object get(@NonNull String fieldName) {
+        int index = indexOf(fieldName);
+        return index < 0 ? null : values[index];
+    }
+
+    /**
+     * @param fieldName {@link JavaField#getName() flattened field name}
+     * @return {@code true} if the field exists and has a non-{@code null} value; {@code false} otherwise
+     */
+    public boolean contains(@NonNull String fieldName) {
+        return get(fieldName) != null;
+    }
+
+    /**
+     * @param fieldName {@link JavaField#getName() flattened field name}
+     * @return flattened field index; {@code -1} if there is no such field
+     */
+    public int indexOf(@NonNull String fieldName) {
+        return layout.indexOf(fieldName);
+    }
+
+    /**
+     * @return map: {@link JavaField#getName() flattened field name} -> non-{@code null} field value, in flattened
+     * field order. This is the same as {@link Schema#flatten(Object)}
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> res = new LinkedHashMap<>();
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                res.put(layout.fields.get(i).getName(), values[i]);
+            }
+        }
+        return res;
+    }
+
+    @Override
+    public String toString() {
+        return "FlatRow" + toMap();
+    }
+
+    static final class Layout {
+        private final List<JavaField> fields;
+        private final Map<String, Integer> indexByName;
+
+        Layout(List<JavaField> fields) {
+            this.fields = List.copyOf(fields);
+            this.indexByName = new HashMap<>(fields.size() * 2);
+            for (int i = 0; i < fields.size(); i++) {
+                indexByName.put(fields.get(i).getName(), i);
+            }
+        }
+
+        int size() {
+            return fields.size();
+        }
+
+        int indexOf(String fieldName) {
+            Integer index = indexByName.get(fieldName);
+            return index == null ? -1 : index;
+        }
+    }
+}
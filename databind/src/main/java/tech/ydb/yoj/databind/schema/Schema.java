@@ -6,7 +6,6 @@ import com.google.common.collect.Lists;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NonNull;
-import lombok.SneakyThrows;
 import lombok.Value;
 import lombok.With;
 import tech.ydb.yoj.ExperimentalApi;
@@ -18,9 +17,10 @@ import tech.ydb.yoj.databind.schema.reflect.ReflectField;
 import tech.ydb.yoj.databind.schema.reflect.ReflectType;
 import tech.ydb.yoj.databind.schema.reflect.Reflector;
 import tech.ydb.yoj.databind.schema.reflect.StdReflector;
+import tech.ydb.yoj.util.function.MoreSuppliers;
+import tech.ydb.yoj.util.function.MoreSuppliers.Memoizer;
 
 import javax.annotation.Nullable;
-import java.lang.reflect.Constructor;
 import java.lang.reflect.Type;
 import java.time.Duration;
 import java.time.Instant;
@@ -71,6 +71,10 @@ public abstract class Schema<T> {
 
     private final String staticName;
 
+    private final Memoizer<FlatInstantiator> flatInstantiator = MoreSuppliers.memoize(this::buildFlatInstantiator);
+
+    private final Memoizer<FlatExtractor> flatExtractor = MoreSuppliers.memoize(this::buildFlatExtractor);
+
     protected Schema(@NonNull Class<T> type) {
         this(type, StdReflector.instance);
     }
@@ -309,10 +313,25 @@ public abstract class Schema<T> {
         return fields.stream().flatMap(JavaField::flatten);
     }
 
+    /**
+     * @param t object to flatten
+     * @return map: <code>{@link JavaField#getName() flattened field name} -> non-{@code null} field value</code>, in
+     * {@link #flattenFields()} order
+     * @see #flattenToRow(Object)
+     */
     public final Map<String, Object> flatten(T t) {
-        Map<String, Object> res = new LinkedHashMap<>();
-        fields.forEach(f -> f.collectTo(t, res));
-        return res;
+        return flattenToRow(t).toMap();
+    }
+
+    /**
+     * Flattens the object into an array of {@link #flattenFields() flattened field} values. This is faster than
+     * {@link #flatten(Object)}, because no map is built, and flattened field indexes are computed once per schema.
+     *
+     * @param t object to flatten
+     * @return flattened field values, in {@link #flattenFields()} order
+     */
+    public final FlatRow flattenToRow(T t) {
+        return flatExtractor.get().flatten(t);
     }
 
     public final Map<String, Object> flattenOneField(String fieldPath, Object fieldValue) {
@@ -335,17 +354,41 @@ public abstract class Schema<T> {
      * @throws ConstructionException could not construct object from {@code cells}
      */
     public final T newInstance(Map<String, Object> cells) throws ConstructionException {
-        Object[] args = fields.stream().map(f -> f.newInstance(cells)).toArray();
-        return safeNewInstance(reflectType.getConstructor(), args);
+        Object[] args = new Object[fields.size()];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = fields.get(i).newInstance(cells);
+        }
+        return reflectType.newInstance(args);
     }
 
-    @SneakyThrows
-    private static <T> T safeNewInstance(Constructor<T> ctor, Object[] args) throws ConstructionException {
-        try {
-            return ctor.newInstance(args);
-        } catch (Exception e) {
-            throw new ConstructionException(ctor, args, e);
-        }
+    /**
+     * Creates a new object having the specified {@link #flattenFields() flattened field} values.
+     * <p>This is a faster alternative to {@link #newInstance(Map)} for callers which know the position of each value
+     * in {@link #flattenFields()} in advance, e.g. database result set readers with a precomputed column mapping.
+     *
+     * @param flatValues flattened field values, in {@link #flattenFields()} order
+     * @return object with the specified field values
+     * @throws ConstructionException could not construct object from {@code flatValues}
+     */
+    public final T newInstance(Object[] flatValues) throws ConstructionException {
+        @SuppressWarnings("unchecked")
+        T instance = (T) flatInstantiator.get().newInstance(flatValues);
+        return instance;
+    }
+
+    private FlatInstantiator buildFlatInstantiator() {
+        int[] nextFlatIndex = {0};
+        return new FlatInstantiator(reflectType, fields.stream()
+                .map(f -> FlatInstantiator.of(f, nextFlatIndex))
+                .toArray(FlatInstantiator[]::new), true, -1);
+    }
+
+    private FlatExtractor buildFlatExtractor() {
+        int[] nextFlatIndex = {0};
+        FlatExtractor.Node[] roots = fields.stream()
+                .map(f -> FlatExtractor.Node.of(f, nextFlatIndex))
+                .toArray(FlatExtractor.Node[]::new);
+        return new FlatExtractor(new FlatRow.Layout(flattenFields()), roots);
     }
 
     /**
@@ -682,16 +725,20 @@ public abstract class Schema<T> {
             }
         }
 
-        @SneakyThrows
         private Object newInstance(Map<String, Object> cells) {
             if (isSimple()) {
                 return cells.get(name);
             } else {
-                Object[] args = fields.stream().map(f -> f.newInstance(cells)).toArray();
-                if (Stream.of(args).allMatch(Objects::isNull)) {
+                Object[] args = new Object[fields.size()];
+                boolean allNull = true;
+                for (int i = 0; i < args.length; i++) {
+                    args[i] = fields.get(i).newInstance(cells);
+                    allNull &= args[i] == null;
+                }
+                if (allNull) {
                     return null;
                 }
-                return safeNewInstance(field.getReflectType().getConstructor(), args);
+                return field.getReflectType().newInstance(args);
             }
         }
 
@@ -758,6 +805,84 @@ public abstract class Schema<T> {
         }
     }
 
+    @AllArgsConstructor
+    private static final class FlatInstantiator {
+        private final ReflectType<?> reflectType;
+        private final FlatInstantiator[] args;
+        private final boolean root;
+        private final int flatIndex;
+
+        private static FlatInstantiator of(JavaField field, int[] nextFlatIndex) {
+            if (field.isSimple()) {
+                return new FlatInstantiator(null, null, false, nextFlatIndex[0]++);
+            }
+            return new FlatInstantiator(field.field.getReflectType(), field.fields.stream()
+                    .map(f -> of(f, nextFlatIndex))
+                    .toArray(FlatInstantiator[]::new), false, -1);
+        }
+
+        private Object newInstance(Object[] flatValues) {
+            if (args == null) {
+                return flatValues[flatIndex];
+            }
+
+            Object[] ctorArgs = new Object[args.length];
+            boolean allNull = true;
+            for (int i = 0; i < args.length; i++) {
+                ctorArgs[i] = args[i].newInstance(flatValues);
+                allNull &= ctorArgs[i] == null;
+            }
+            if (allNull && !root) {
+                return null;
+            }
+            return reflectType.newInstance(ctorArgs);
+        }
+    }
+
+    @AllArgsConstructor
+    private static final class FlatExtractor {
+        private final FlatRow.Layout layout;
+        private final Node[] roots;
+
+        private FlatRow flatten(Object o) {
+            Object[] values = new Object[layout.size()];
+            for (Node root : roots) {
+                root.collectTo(o, values);
+            }
+            return new FlatRow(layout, values);
+        }
+
+        @AllArgsConstructor
+        private static final class Node {
+            private final ReflectField field;
+            private final Node[] children;
+            private final int flatIndex;
+
+            private static Node of(JavaField field, int[] nextFlatIndex) {
+                if (field.isSimple()) {
+                    return new Node(field.field, null, nextFlatIndex[0]++);
+                }
+                return new Node(field.field, field.fields.stream()
+                        .map(f -> of(f, nextFlatIndex))
+                        .toArray(Node[]::new), -1);
+            }
+
+            private void collectTo(Object o, Object[] values) {
+                Object v = field.getValue(o);
+                if (v == null) {
+                    return;
+                }
+                if (children == null) {
+                    values[flatIndex] = v;
+                } else {
+                    for (Node child : children) {
+                        child.collectTo(v, values);
+                    }
+                }
+            }
+        }
+    }
+
     @Value
     public static class JavaFieldValue {
         @NonNull
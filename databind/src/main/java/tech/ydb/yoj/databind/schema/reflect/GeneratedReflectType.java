@@ -0,0 +1,235 @@
+package tech.ydb.yoj.databind.schema.reflect;
+
+import lombok.NonNull;
+import tech.ydb.yoj.ExperimentalApi;
+import tech.ydb.yoj.databind.FieldValueType;
+import tech.ydb.yoj.databind.schema.ConstructionException;
+import tech.ydb.yoj.databind.schema.FieldValueException;
+
+import javax.annotation.Nullable;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.lang.reflect.Modifier.isStatic;
+import static java.lang.reflect.Modifier.isTransient;
+
+/**
+ * Base class for {@link ReflectType}s generated at compile time by the {@code yoj-ext-meta-generator} annotation
+ * processor. Generated code constructs objects and reads their field values directly, without any reflection.
+ * The annotation processor also emits field names and constructor parameter types, so fields and the constructor are
+ * looked up directly by name and signature, once per type, without inspecting all the declared fields and constructors
+ * of the class like {@link PojoType} does.
+ * <p>A generated type for class {@code com.example.Outer.Inner} is named
+ * {@code com.example.Outer$Inner_ReflectType} (see {@link #generatedClassName(String)}), and has a public constructor
+ * accepting a single {@link Reflector} argument. {@link StdReflector} uses generated types when they are available,
+ * in preference to {@link PojoType} and {@link RecordType}.
+ *
+ * @param <T> reflected type
+ */
+@ExperimentalApi(issue = "https://github.com/ydb-platform/yoj-project/pull/57")
+public abstract class GeneratedReflectType<T> implements ReflectType<T> {
+    public static final StdReflector.TypeFactory FACTORY = new StdReflector.TypeFactory() {
+        @Override
+        public int priority() {
+            return 1000;
+        }
+
+        @Override
+        public boolean matches(Class<?> rawType, FieldValueType fvt) {
+            return fvt.isComposite() && GENERATED_CONSTRUCTORS.get(rawType).isPresent();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <R> ReflectType<R> create(Reflector reflector, Class<R> rawType, FieldValueType fvt) {
+            Constructor<?> ctor = GENERATED_CONSTRUCTORS.get(rawType).orElseThrow();
+            try {
+                return (ReflectType<R>) ctor.newInstance(reflector);
+            } catch (InvocationTargetException e) {
+                throw new IllegalArgumentException("Could not instantiate generated reflection type for " + rawType, e.getCause());
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalArgumentException("Could not instantiate generated reflection type for " + rawType, e);
+            }
+        }
+    };
+
+    private static final String CLASS_NAME_SUFFIX = "_ReflectType";
+
+    private static final ClassValue<Optional<Constructor<?>>> GENERATED_CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected Optional<Constructor<?>> computeValue(Class<?> type) {
+            Class<?> generated;
+            try {
+                generated = Class.forName(generatedClassName(type.getName()), false, type.getClassLoader());
+            } catch (ClassNotFoundException | LinkageError e) {
+                return Optional.empty();
+            }
+            if (!GeneratedReflectType.class.isAssignableFrom(generated)) {
+                return Optional.empty();
+            }
+
+            try {
+                return Optional.of(generated.getConstructor(Reflector.class));
+            } catch (NoSuchMethodException e) {
+                return Optional.empty();
+            }
+        }
+    };
+
+    private final Class<T> type;
+    private final Constructor<T> constructor;
+    private final List<ReflectField> fields;
+
+    /**
+     * @param reflector                 reflector to use for field types
+     * @param type                      reflected type
+     * @param fieldNames                names of fields in the order expected by the generated {@link #construct(Object[])}
+     *                                  and {@link #getValue(Object, int)} methods; must be the same order as in
+     *                                  {@link PojoType} or {@link RecordType} for the {@code type}
+     * @param constructorParameterTypes parameter types of the all-args constructor, in field order
+     */
+    protected GeneratedReflectType(
+            @NonNull Reflector reflector,
+            @NonNull Class<T> type,
+            @NonNull List<String> fieldNames,
+            @NonNull List<Class<?>> constructorParameterTypes
+    ) {
+        this.type = type;
+        try {
+            this.constructor = type.getDeclaredConstructor(constructorParameterTypes.toArray(Class<?>[]::new));
+        } catch (NoSuchMethodException e) {
+            throw outOfDate(type, "no constructor with parameter types " + constructorParameterTypes);
+        }
+
+        if (type.isRecord()) {
+            RecordComponent[] components = type.getRecordComponents();
+            List<String> componentNames = Stream.of(components).map(RecordComponent::getName).toList();
+            if (!componentNames.equals(fieldNames)) {
+                throw outOfDate(type, "expected record components " + fieldNames + ", but got " + componentNames);
+            }
+            this.fields = IntStream.range(0, components.length)
+                    .<ReflectField>mapToObj(i -> new GeneratedField(reflector, components[i], i))
+                    .toList();
+        } else {
+            this.fields = IntStream.range(0, fieldNames.size())
+                    .<ReflectField>mapToObj(i -> new GeneratedField(reflector, getField(type, fieldNames.get(i)), i))
+                    .toList();
+        }
+    }
+
+    private static Field getField(Class<?> type, String fieldName) {
+        Field field;
+        try {
+            field = type.getDeclaredField(fieldName);
+        } catch (NoSuchFieldException e) {
+            throw outOfDate(type, "field '" + fieldName + "' not found");
+        }
+        if (isStatic(field.getModifiers()) || isTransient(field.getModifiers())) {
+            throw outOfDate(type, "field '" + fieldName + "' is transient, static, or both");
+        }
+        return field;
+    }
+
+    private static IllegalStateException outOfDate(Class<?> type, String reason) {
+        return new IllegalStateException("Generated reflection type for %s is out of date: %s. Please recompile".formatted(type, reason));
+    }
+
+    /**
+     * @param binaryName binary name of the reflected class, e.g. {@code com.example.Outer$Inner}
+     * @return binary name of the generated reflection type for the class, e.g.
+     * {@code com.example.Outer$Inner_ReflectType}. The {@code $} is kept, so that the generated names of
+     * {@code Outer.Inner} and of a top-level {@code Outer_Inner} class do not collide
+     */
+    public static String generatedClassName(@NonNull String binaryName) {
+        return binaryName + CLASS_NAME_SUFFIX;
+    }
+
+    /**
+     * Calls the all-args constructor of the reflected type.
+     *
+     * @param args constructor arguments, in field order
+     * @return new instance of the reflected type
+     * @throws Exception could not construct the instance, e.g. because of a {@code null} value for primitive field
+     */
+    protected abstract T construct(Object[] args) throws Exception;
+
+    /**
+     * Reads a field value.
+     *
+     * @param containingObject object to read field value of
+     * @param fieldIndex       field index, in field order
+     * @return field value; might be {@code null}
+     */
+    @Nullable
+    protected abstract Object getValue(T containingObject, int fieldIndex);
+
+    @Override
+    public final T newInstance(Object[] args) {
+        try {
+            return construct(args);
+        } catch (Exception e) {
+            throw new ConstructionException(getConstructor(), args, e);
+        }
+    }
+
+    @Override
+    public final List<ReflectField> getFields() {
+        return fields;
+    }
+
+    @Override
+    public final Constructor<T> getConstructor() {
+        return constructor;
+    }
+
+    @Override
+    public final Class<T> getRawType() {
+        return type;
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedReflectType[" + getRawType() + "]";
+    }
+
+    private final class GeneratedField extends ReflectFieldBase {
+        private final int index;
+
+        private GeneratedField(Reflector reflector, Field field, int index) {
+            super(reflector, field.getName(), field.getGenericType(), field.getType(), field);
+            this.index = index;
+        }
+
+        private GeneratedField(Reflector reflector, RecordComponent component, int index) {
+            super(reflector, component.getName(), component.getGenericType(), component.getType(), component);
+            this.index = index;
+        }
+
+        @Nullable
+        @Override
+        public Object getValue(Object containingObject) {
+            T obj;
+            try {
+                obj = GeneratedReflectType.this.type.cast(containingObject);
+            } catch (ClassCastException e) {
+                throw new FieldValueException(e, getName(), containingObject);
+            }
+            try {
+                return GeneratedReflectType.this.getValue(obj, index);
+            } catch (Exception e) {
+                throw new FieldValueException(e, getName(), containingObject);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "GeneratedField[" + getGenericType().getTypeName() + "::" + getName() + "]";
+        }
+    }
+}
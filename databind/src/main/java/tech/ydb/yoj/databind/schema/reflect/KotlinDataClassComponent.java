@@ -12,6 +12,7 @@ import kotlin.reflect.jvm.ReflectJvmMapping;
 import tech.ydb.yoj.databind.schema.FieldValueException;
 
 import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 import java.lang.reflect.Type;
 
@@ -21,11 +22,25 @@ import java.lang.reflect.Type;
 public final class KotlinDataClassComponent extends ReflectFieldBase {
     private final KProperty1.Getter<?, ?> getter;
 
+    @Nullable
+    private final MethodHandle javaGetter;
+
     public KotlinDataClassComponent(Reflector reflector, String name, KProperty1<?, ?> property) {
         super(reflector, name, genericType(property), rawType(property), field(property));
 
         this.getter = property.getGetter();
         KCallablesJvm.setAccessible(this.getter, true);
+        this.javaGetter = javaGetter(property);
+    }
+
+    @Nullable
+    private static MethodHandle javaGetter(KProperty1<?, ?> property) {
+        var method = ReflectJvmMapping.getJavaGetter(property);
+        if (method == null) {
+            return null;
+        }
+        method.setAccessible(true);
+        return ReflectHandles.getter(method);
     }
 
     private static Type genericType(KProperty1<?, ?> property) {
@@ -55,6 +70,10 @@ public final class KotlinDataClassComponent extends ReflectFieldBase {
     @Nullable
     @Override
     public Object getValue(Object containingObject) {
+        if (javaGetter != null) {
+            return ReflectHandles.getValue(javaGetter, getName(), containingObject);
+        }
+
         try {
             return getter.call(containingObject);
         } catch (Exception e) {
@@ -9,6 +9,7 @@ import kotlin.reflect.KProperty1;
 import kotlin.reflect.full.KClasses;
 import kotlin.reflect.jvm.ReflectJvmMapping;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.List;
@@ -21,6 +22,7 @@ import static java.util.stream.Collectors.toMap;
 public final class KotlinDataClassType<T> implements ReflectType<T> {
     private final Class<T> type;
     private final Constructor<T> constructor;
+    private final MethodHandle instantiator;
     private final List<ReflectField> fields;
 
     public KotlinDataClassType(Reflector reflector, Class<T> type) {
@@ -43,6 +45,7 @@ public final class KotlinDataClassType<T> implements ReflectType<T> {
                 kClassName, primaryKtConstructor);
         this.constructor = primaryJavaConstructor;
         this.constructor.setAccessible(true);
+        this.instantiator = ReflectHandles.instantiator(constructor);
 
         var mutableProperties = KClasses.getDeclaredMemberProperties(kClass).stream()
                 .filter(p -> p instanceof KMutableProperty)
@@ -73,6 +76,11 @@ public final class KotlinDataClassType<T> implements ReflectType<T> {
         return constructor;
     }
 
+    @Override
+    public T newInstance(Object[] args) {
+        return ReflectHandles.newInstance(instantiator, constructor, args);
+    }
+
     @Override
     public List<ReflectField> getFields() {
         return fields;
@@ -2,15 +2,15 @@ package tech.ydb.yoj.databind.schema.reflect;
 
 import com.google.common.base.Preconditions;
 import lombok.NonNull;
-import tech.ydb.yoj.databind.schema.FieldValueException;
-
 import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandle;
 
 /**
  * Represents a field of a POJO class, hand-written or generated e.g. by Lombok.
  */
 public final class PojoField extends ReflectFieldBase {
     private final java.lang.reflect.Field delegate;
+    private final MethodHandle getter;
 
     public PojoField(@NonNull Reflector reflector, @NonNull java.lang.reflect.Field delegate) {
         super(reflector, delegate.getName(), delegate.getGenericType(), delegate.getType(), delegate);
@@ -19,16 +19,13 @@ public final class PojoField extends ReflectFieldBase {
                 "Encountered a synthetic field, did you forget to declare the ID class as static? Field is: %s", delegate);
         this.delegate = delegate;
         this.delegate.setAccessible(true);
+        this.getter = ReflectHandles.getter(delegate);
     }
 
     @Nullable
     @Override
     public Object getValue(Object containingObject) {
-        try {
-            return delegate.get(containingObject);
-        } catch (Exception e) {
-            throw new FieldValueException(e, getName(), containingObject);
-        }
+        return ReflectHandles.getValue(getter, getName(), containingObject);
     }
 
     @Override
@@ -6,6 +6,7 @@ import lombok.NonNull;
 import tech.ydb.yoj.databind.FieldValueType;
 
 import java.beans.ConstructorProperties;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.util.List;
@@ -43,6 +44,8 @@ public final class PojoType<T> implements ReflectType<T> {
     @Getter
     private final Constructor<T> constructor;
 
+    private final MethodHandle instantiator;
+
     @Getter
     private final List<ReflectField> fields;
 
@@ -56,6 +59,7 @@ public final class PojoType<T> implements ReflectType<T> {
 
         this.constructor = findAllArgsCtor(type);
         this.constructor.setAccessible(true);
+        this.instantiator = ReflectHandles.instantiator(constructor);
         ConstructorProperties propNamesAnnotation = constructor.getAnnotation(ConstructorProperties.class);
         if (propNamesAnnotation != null) {
             this.fields = Stream.of(propNamesAnnotation.value())
@@ -81,6 +85,11 @@ public final class PojoType<T> implements ReflectType<T> {
         }
     }
 
+    @Override
+    public T newInstance(Object[] args) {
+        return ReflectHandles.newInstance(instantiator, constructor, args);
+    }
+
     @Override
     public Class<T> getRawType() {
         return type;
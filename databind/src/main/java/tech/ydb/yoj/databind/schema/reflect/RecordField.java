@@ -1,31 +1,27 @@
 package tech.ydb.yoj.databind.schema.reflect;
 
 import lombok.NonNull;
-import tech.ydb.yoj.databind.schema.FieldValueException;
-
 import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandle;
 
 /**
  * Represents a record class component for the purposes of YOJ data-binding.
  */
 public final class RecordField extends ReflectFieldBase {
-    private final java.lang.reflect.Method accessor;
+    private final MethodHandle getter;
 
     public RecordField(@NonNull Reflector reflector, @NonNull java.lang.reflect.RecordComponent delegate) {
         super(reflector, delegate.getName(), delegate.getGenericType(), delegate.getType(), delegate);
 
-        this.accessor = delegate.getAccessor();
+        var accessor = delegate.getAccessor();
         accessor.setAccessible(true);
+        this.getter = ReflectHandles.getter(accessor);
     }
 
     @Nullable
     @Override
     public Object getValue(Object containingObject) {
-        try {
-            return accessor.invoke(containingObject);
-        } catch (Exception e) {
-            throw new FieldValueException(e, getName(), containingObject);
-        }
+        return ReflectHandles.getValue(getter, getName(), containingObject);
     }
 
     @Override
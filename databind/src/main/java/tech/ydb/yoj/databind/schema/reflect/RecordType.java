@@ -5,6 +5,7 @@ import lombok.Getter;
 import lombok.NonNull;
 import tech.ydb.yoj.databind.FieldValueType;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.RecordComponent;
 import java.util.Arrays;
@@ -38,6 +39,8 @@ public final class RecordType<R extends Record> implements ReflectType<R> {
     @Getter
     private final Constructor<R> constructor;
 
+    private final MethodHandle instantiator;
+
     @Getter
     private final List<ReflectField> fields;
 
@@ -49,6 +52,7 @@ public final class RecordType<R extends Record> implements ReflectType<R> {
 
         this.constructor = getCanonicalConstructor(recordType);
         this.constructor.setAccessible(true);
+        this.instantiator = ReflectHandles.instantiator(constructor);
     }
 
     private static <T extends Record> Constructor<T> getCanonicalConstructor(Class<T> clazz) {
@@ -62,6 +66,11 @@ public final class RecordType<R extends Record> implements ReflectType<R> {
         }
     }
 
+    @Override
+    public R newInstance(Object[] args) {
+        return ReflectHandles.newInstance(instantiator, constructor, args);
+    }
+
     @Override
     public Class<R> getRawType() {
         return recordType;
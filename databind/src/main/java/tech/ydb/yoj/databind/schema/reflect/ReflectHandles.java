@@ -0,0 +1,87 @@
+package tech.ydb.yoj.databind.schema.reflect;
+
+import tech.ydb.yoj.databind.schema.ConstructionException;
+import tech.ydb.yoj.databind.schema.FieldValueException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Method handles for constructing objects and reading their fields, built once per {@link ReflectType type} and
+ * {@link ReflectField field}. These are considerably cheaper to invoke than {@link Constructor#newInstance(Object...)
+ * reflective construction} and {@link Field#get(Object) reflective field reads}, because they do not allocate
+ * varargs arrays or check access on each call.
+ */
+final class ReflectHandles {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType INSTANTIATOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private ReflectHandles() {
+    }
+
+    /**
+     * @param ctor accessible constructor
+     * @return method handle of type {@code (Object[])Object} that calls {@code ctor} with the array elements as arguments
+     */
+    static MethodHandle instantiator(Constructor<?> ctor) {
+        try {
+            return LOOKUP.unreflectConstructor(ctor)
+                    .asSpreader(Object[].class, ctor.getParameterCount())
+                    .asType(INSTANTIATOR_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Could not access constructor " + ctor, e);
+        }
+    }
+
+    /**
+     * @param field accessible instance field
+     * @return method handle of type {@code (Object)Object} that reads {@code field} value
+     */
+    static MethodHandle getter(Field field) {
+        try {
+            return LOOKUP.unreflectGetter(field).asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Could not access field " + field, e);
+        }
+    }
+
+    /**
+     * @param method accessible no-arg instance method
+     * @return method handle of type {@code (Object)Object} that calls {@code method}
+     */
+    static MethodHandle getter(Method method) {
+        try {
+            return LOOKUP.unreflect(method).asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Could not access method " + method, e);
+        }
+    }
+
+    static <T> T newInstance(MethodHandle instantiator, Constructor<T> ctor, Object[] args) {
+        try {
+            @SuppressWarnings("unchecked")
+            T instance = (T) (Object) instantiator.invokeExact(args);
+            return instance;
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new ConstructionException(ctor, args, t);
+        }
+    }
+
+    static Object getValue(MethodHandle getter, String fieldName, Object containingObject) {
+        try {
+            return (Object) getter.invokeExact(containingObject);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new FieldValueException(t, fieldName, containingObject);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package tech.ydb.yoj.databind.schema.reflect;
 
+import tech.ydb.yoj.databind.schema.ConstructionException;
+
 import java.lang.reflect.Constructor;
 import java.util.List;
 
@@ -23,6 +25,25 @@ public interface ReflectType<T> {
      */
     Constructor<T> getConstructor();
 
+    /**
+     * Creates a new instance of this type by calling its {@link #getConstructor() canonical all-args constructor}.
+     * <p>Implementations are encouraged to override this method with something faster than reflective
+     * {@link Constructor#newInstance(Object...) Constructor.newInstance()}, e.g. a precomputed method handle.
+     *
+     * @param args constructor arguments, in {@link #getFields() field order}
+     * @return new instance of this type
+     * @throws ConstructionException could not construct a new instance
+     * @throws UnsupportedOperationException if this type cannot be constructed from a list of its field values
+     */
+    default T newInstance(Object[] args) throws ConstructionException {
+        Constructor<T> ctor = getConstructor();
+        try {
+            return ctor.newInstance(args);
+        } catch (Exception e) {
+            throw new ConstructionException(ctor, args, e);
+        }
+    }
+
     /**
      * @return raw type that this reflection information describes
      */
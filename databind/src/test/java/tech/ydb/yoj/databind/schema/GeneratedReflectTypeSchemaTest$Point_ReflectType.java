@@ -0,0 +1,34 @@
+package tech.ydb.yoj.databind.schema;
+
+import tech.ydb.yoj.databind.schema.reflect.GeneratedReflectType;
+import tech.ydb.yoj.databind.schema.reflect.Reflector;
+
+import java.util.List;
+
+/**
+ * Hand-written equivalent of reflection type generated by {@code yoj-ext-meta-generator}.
+ */
+public final class GeneratedReflectTypeSchemaTest$Point_ReflectType
+        extends GeneratedReflectType<GeneratedReflectTypeSchemaTest.Point> {
+    public GeneratedReflectTypeSchemaTest$Point_ReflectType(Reflector reflector) {
+        super(reflector, GeneratedReflectTypeSchemaTest.Point.class, List.of("y", "x"),
+                List.of(java.lang.Integer.class, int.class));
+    }
+
+    @Override
+    protected GeneratedReflectTypeSchemaTest.Point construct(Object[] args) {
+        return new GeneratedReflectTypeSchemaTest.Point(
+                (java.lang.Integer) args[0],
+                (int) args[1]
+        );
+    }
+
+    @Override
+    protected Object getValue(GeneratedReflectTypeSchemaTest.Point obj, int fieldIndex) {
+        return switch (fieldIndex) {
+            case 0 -> obj.y;
+            case 1 -> obj.x;
+            default -> throw new IndexOutOfBoundsException(fieldIndex);
+        };
+    }
+}
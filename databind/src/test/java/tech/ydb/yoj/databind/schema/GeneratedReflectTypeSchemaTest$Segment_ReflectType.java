@@ -0,0 +1,34 @@
+package tech.ydb.yoj.databind.schema;
+
+import tech.ydb.yoj.databind.schema.reflect.GeneratedReflectType;
+import tech.ydb.yoj.databind.schema.reflect.Reflector;
+
+import java.util.List;
+
+/**
+ * Hand-written equivalent of reflection type generated by {@code yoj-ext-meta-generator}.
+ */
+public final class GeneratedReflectTypeSchemaTest$Segment_ReflectType
+        extends GeneratedReflectType<GeneratedReflectTypeSchemaTest.Segment> {
+    public GeneratedReflectTypeSchemaTest$Segment_ReflectType(Reflector reflector) {
+        super(reflector, GeneratedReflectTypeSchemaTest.Segment.class, List.of("from", "to"),
+                List.of(GeneratedReflectTypeSchemaTest.Point.class, GeneratedReflectTypeSchemaTest.Point.class));
+    }
+
+    @Override
+    protected GeneratedReflectTypeSchemaTest.Segment construct(Object[] args) {
+        return new GeneratedReflectTypeSchemaTest.Segment(
+                (GeneratedReflectTypeSchemaTest.Point) args[0],
+                (GeneratedReflectTypeSchemaTest.Point) args[1]
+        );
+    }
+
+    @Override
+    protected Object getValue(GeneratedReflectTypeSchemaTest.Segment obj, int fieldIndex) {
+        return switch (fieldIndex) {
+            case 0 -> obj.from();
+            case 1 -> obj.to();
+            default -> throw new IndexOutOfBoundsException(fieldIndex);
+        };
+    }
+}
@@ -0,0 +1,133 @@
+package tech.ydb.yoj.databind.schema;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import tech.ydb.yoj.databind.DbType;
+import tech.ydb.yoj.databind.schema.reflect.GeneratedReflectType;
+import tech.ydb.yoj.databind.schema.reflect.PojoType;
+import tech.ydb.yoj.databind.schema.reflect.RecordType;
+import tech.ydb.yoj.databind.schema.reflect.ReflectField;
+import tech.ydb.yoj.databind.schema.reflect.ReflectType;
+import tech.ydb.yoj.databind.schema.reflect.Reflector;
+import tech.ydb.yoj.databind.schema.reflect.SimpleType;
+import tech.ydb.yoj.databind.schema.reflect.StdReflector;
+
+import java.beans.ConstructorProperties;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class GeneratedReflectTypeSchemaTest {
+    private static final Reflector REFLECTIVE = new StdReflector(List.of(RecordType.FACTORY, PojoType.FACTORY, SimpleType.FACTORY));
+
+    private static Schema<Segment> schema;
+
+    @BeforeClass
+    public static void setUpClass() {
+        schema = new TestSchema<>(Segment.class);
+    }
+
+    @Test
+    public void testGeneratedTypeIsPreferred() {
+        assertThat(StdReflector.instance.reflectRootType(Point.class)).isInstanceOf(GeneratedReflectType.class);
+        assertThat(StdReflector.instance.reflectRootType(Segment.class)).isInstanceOf(GeneratedReflectType.class);
+        assertThat(StdReflector.instance.reflectRootType(Segment.class).getFields().get(0).getReflectType())
+                .isInstanceOf(GeneratedReflectType.class);
+    }
+
+    @Test
+    public void testSameTypesAsReflective() {
+        assertSameType(StdReflector.instance.reflectRootType(Point.class), new PojoType<>(REFLECTIVE, Point.class));
+        assertSameType(StdReflector.instance.reflectRootType(Segment.class), new RecordType<>(REFLECTIVE, Segment.class));
+    }
+
+    @Test
+    public void testSameSchemaAsReflective() {
+        var reflectiveSchema = new TestSchema<>(Segment.class, REFLECTIVE);
+
+        assertThat(schema.flattenFields()).hasSameSizeAs(reflectiveSchema.flattenFields());
+        for (int i = 0; i < schema.flattenFields().size(); i++) {
+            var generated = schema.flattenFields().get(i);
+            var reflective = reflectiveSchema.flattenFields().get(i);
+            assertThat(generated.getName()).isEqualTo(reflective.getName());
+            assertThat(generated.getType()).isEqualTo(reflective.getType());
+            assertThat(generated.getValueType()).isEqualTo(reflective.getValueType());
+            assertThat(generated.getDbType()).isEqualTo(reflective.getDbType());
+        }
+    }
+
+    private static void assertSameType(ReflectType<?> generated, ReflectType<?> reflective) {
+        assertThat(generated).isInstanceOf(GeneratedReflectType.class);
+        assertThat(generated.getRawType()).isEqualTo(reflective.getRawType());
+        assertThat(generated.getConstructor()).isEqualTo(reflective.getConstructor());
+        assertThat(generated.getFields()).hasSameSizeAs(reflective.getFields());
+        for (int i = 0; i < generated.getFields().size(); i++) {
+            ReflectField g = generated.getFields().get(i);
+            ReflectField r = reflective.getFields().get(i);
+            assertThat(g.getName()).isEqualTo(r.getName());
+            assertThat(g.getGenericType()).isEqualTo(r.getGenericType());
+            assertThat(g.getType()).isEqualTo(r.getType());
+            assertThat(g.getValueType()).isEqualTo(r.getValueType());
+            assertThat(g.getColumn()).isEqualTo(r.getColumn());
+            assertThat(g.getCustomValueTypeInfo()).isEqualTo(r.getCustomValueTypeInfo());
+            assertThat(g.getReflectType().getRawType()).isEqualTo(r.getReflectType().getRawType());
+        }
+    }
+
+    @Test
+    public void testFlattenAndNewInstance() {
+        Segment segment = new Segment(new Point(2, 1), new Point(null, 3));
+
+        Map<String, Object> flat = schema.flatten(segment);
+        assertThat(flat).containsOnly(
+                Map.entry("from_x", 1),
+                Map.entry("from_y", 2),
+                Map.entry("to_x", 3)
+        );
+        assertThat(schema.newInstance(flat)).isEqualTo(segment);
+    }
+
+    @Test
+    public void testConstructionFailure() {
+        assertThatThrownBy(() -> schema.newInstance(Map.of("from_y", 1)))
+                .isInstanceOf(ConstructionException.class);
+    }
+
+    private static class TestSchema<T> extends Schema<T> {
+        private TestSchema(Class<T> entityType) {
+            super(entityType);
+        }
+
+        private TestSchema(Class<T> entityType, Reflector reflector) {
+            super(entityType, reflector);
+        }
+    }
+
+    record Segment(Point from, Point to) {
+    }
+
+    static final class Point {
+        final int x;
+        @Column(dbType = DbType.INT32)
+        final Integer y;
+
+        @ConstructorProperties({"y", "x"})
+        Point(Integer y, int x) {
+            this.x = x;
+            this.y = y;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Point p && x == p.x && Objects.equals(y, p.y);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(x, y);
+        }
+    }
+}
@@ -3,8 +3,13 @@ package tech.ydb.yoj.databind.schema;
 import lombok.Value;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import tech.ydb.yoj.databind.FieldValueType;
+import tech.ydb.yoj.databind.Lazy;
+
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 public class PojoSchemaTest {
     private static Schema<UberEntity> schema;
@@ -83,6 +88,59 @@ public class PojoSchemaTest {
         assertThat(schema.getField("emptyEmptyEntity").isFlat()).isFalse();
     }
 
+    @Test
+    public void testNewInstanceFromFlatValues() {
+        var entity1 = new Entity1(new Entity2(new Entity3(42)));
+        var twoFieldEntity = new TwoFieldEntity(entity1, true);
+        var entity = new UberEntity(
+                entity1,
+                new FlatEntity(null, new Entity1(new Entity2(new Entity3(1))), null),
+                twoFieldEntity,
+                new NotFlatEntity(twoFieldEntity, new TwoFieldEntity(entity1, null)),
+                null
+        );
+
+        var cells = schema.flatten(entity);
+        Object[] flatValues = schema.flattenFields().stream().map(f -> cells.get(f.getName())).toArray();
+
+        assertThat(schema.newInstance(flatValues))
+                .isEqualTo(entity)
+                .isEqualTo(schema.newInstance(cells));
+    }
+
+    @Test
+    public void testFlattenToRow() {
+        var entity1 = new Entity1(new Entity2(new Entity3(42)));
+        var entity = new UberEntity(
+                entity1,
+                null,
+                new TwoFieldEntity(entity1, null),
+                null,
+                null
+        );
+
+        FlatRow row = schema.flattenToRow(entity);
+        assertThat(row.getFields()).isEqualTo(schema.flattenFields());
+        assertThat(row.toMap()).isEqualTo(schema.flatten(entity));
+
+        assertThat(row.get(schema.getField("twoFieldEntity.entity1.entity2.entity3.value").getName())).isEqualTo(42);
+        assertThat(row.contains(schema.getField("twoFieldEntity.boolValue").getName())).isFalse();
+        assertThat(row.indexOf("no_such_field")).isEqualTo(-1);
+
+        Object[] flatValues = IntStream.range(0, row.size()).mapToObj(row::get).toArray();
+        assertThat(schema.newInstance(flatValues)).isEqualTo(entity);
+    }
+
+    @Test
+    public void testRawLazyFieldIsRejected() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new TestSchema<>(RawLazyEntity.class));
+    }
+
+    @Test
+    public void testLazyFieldIsObject() {
+        assertThat(new TestSchema<>(LazyEntity.class).getField("value").getValueType()).isEqualTo(FieldValueType.OBJECT);
+    }
+
     private static class TestSchema<T> extends Schema<T> {
         private TestSchema(Class<T> entityType) {
             super(entityType);
@@ -150,4 +208,15 @@ public class PojoSchemaTest {
         TwoFieldEntity twoFieldEntity;
         TwoFieldEntity otherTwoFieldEntity;
     }
+
+    @Value
+    private static class RawLazyEntity {
+        @SuppressWarnings("rawtypes")
+        Lazy value;
+    }
+
+    @Value
+    private static class LazyEntity {
+        Lazy<String> value;
+    }
 }
@@ -10,6 +10,7 @@ import javax.annotation.processing.AbstractProcessor;
 import javax.annotation.processing.Processor;
 import javax.annotation.processing.RoundEnvironment;
 import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
 import javax.annotation.processing.SupportedSourceVersion;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.Element;
@@ -19,6 +20,7 @@ import javax.lang.model.element.TypeElement;
 import javax.tools.FileObject;
 import java.io.IOException;
 import java.io.Writer;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -30,6 +32,9 @@ import java.util.Set;
 @SupportedAnnotationTypes({
         "tech.ydb.yoj.databind.schema.Table",
 })
+@SupportedOptions({
+        FieldGeneratorAnnotationProcessor.GENERATE_REFLECT_TYPES_OPTION,
+})
 @SupportedSourceVersion(SourceVersion.RELEASE_17)
 @AutoService(Processor.class)
 public class FieldGeneratorAnnotationProcessor extends AbstractProcessor {
@@ -39,6 +44,12 @@ public class FieldGeneratorAnnotationProcessor extends AbstractProcessor {
     private static final String TARGET_PACKAGE = "generated";
     private static final String TARGET_CLASS_NAME_SUFFIX = "Fields";
 
+    /**
+     * If set to {@code true}, {@link tech.ydb.yoj.databind.schema.reflect.GeneratedReflectType reflection types} are
+     * generated for the annotated classes and their nested classes, in addition to the "-Fields" classes
+     */
+    public static final String GENERATE_REFLECT_TYPES_OPTION = "yoj.generateReflectTypes";
+
     @Override
     public boolean process(Set<? extends TypeElement> set, RoundEnvironment roundEnvironment) {
         Set<? extends Element> elementsAnnotatedWith = roundEnvironment.getElementsAnnotatedWith(Table.class);
@@ -68,11 +79,38 @@ public class FieldGeneratorAnnotationProcessor extends AbstractProcessor {
                             targetClassStructure.className()
                     )
             );
+
+            if (isGenerateReflectTypes()) {
+                generateReflectTypes((TypeElement) rootElement);
+            }
         }
 
         return false;
     }
 
+    private boolean isGenerateReflectTypes() {
+        return Boolean.parseBoolean(processingEnv.getOptions().get(GENERATE_REFLECT_TYPES_OPTION));
+    }
+
+    private void generateReflectTypes(TypeElement rootElement) {
+        List<ReflectTypeStructure> structures = ReflectTypeStructure.analyse(
+                rootElement,
+                processingEnv.getElementUtils(),
+                processingEnv.getTypeUtils()
+        );
+        for (ReflectTypeStructure structure : structures) {
+            String generatedSource = ReflectTypeRenderer.render(structure);
+            log.debug("Generated:\n {}", generatedSource);
+            saveFile(
+                    generatedSource,
+                    Utils.concatFieldNameChain(
+                            structure.packageName(),
+                            structure.className()
+                    )
+            );
+        }
+    }
+
     private String calcPackage(Element element) {
         while (element.getKind() != ElementKind.PACKAGE) {
             element = element.getEnclosingElement();
@@ -0,0 +1,75 @@
+package tech.ydb.yoj.generator;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class ReflectTypeRenderer {
+    /**
+     * returns the source code of the generated reflection type
+     */
+    public static String render(ReflectTypeStructure structure) {
+        StringBuilder result = new StringBuilder();
+
+        if (structure.packageName() != null) {
+            result.append("package %s;\n\n".formatted(structure.packageName()));
+        }
+
+        String fieldNames = structure.fields().stream()
+                .map(f -> "\"" + f.name() + "\"")
+                .collect(Collectors.joining(", "));
+        String ctorParamTypes = structure.fields().stream()
+                .map(f -> f.type() + ".class")
+                .collect(Collectors.joining(", "));
+        String ctorArgs = IntStream.range(0, structure.fields().size())
+                .mapToObj(i -> "                (%s) args[%d]".formatted(structure.fields().get(i).type(), i))
+                .collect(Collectors.joining(",\n"));
+        String getterCases = IntStream.range(0, structure.fields().size())
+                .mapToObj(i -> "            case %d -> obj.%s%s;\n".formatted(
+                        i,
+                        structure.fields().get(i).name(),
+                        structure.isRecord() ? "()" : ""
+                ))
+                .collect(Collectors.joining());
+
+        result.append("""
+                import java.util.List;
+                import javax.annotation.processing.Generated;
+
+                import tech.ydb.yoj.databind.schema.reflect.GeneratedReflectType;
+                import tech.ydb.yoj.databind.schema.reflect.Reflector;
+
+                @Generated("%1$s")
+                public final class %2$s extends GeneratedReflectType<%3$s> {
+                    public %2$s(Reflector reflector) {
+                        super(reflector, %3$s.class, List.of(%4$s),
+                                List.of(%5$s));
+                    }
+
+                    @Override
+                    @SuppressWarnings({"unchecked", "rawtypes"})
+                    protected %3$s construct(Object[] args) {
+                        return new %3$s(
+                %6$s
+                        );
+                    }
+
+                    @Override
+                    protected Object getValue(%3$s obj, int fieldIndex) {
+                        return switch (fieldIndex) {
+                %7$s            default -> throw new IndexOutOfBoundsException(fieldIndex);
+                        };
+                    }
+                }
+                """.formatted(
+                FieldGeneratorAnnotationProcessor.class.getName(),
+                structure.className(),
+                structure.sourceClass(),
+                fieldNames,
+                ctorParamTypes,
+                ctorArgs,
+                getterCases
+        ));
+
+        return result.toString();
+    }
+}
@@ -0,0 +1,242 @@
+package tech.ydb.yoj.generator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tech.ydb.yoj.databind.schema.reflect.GeneratedReflectType;
+
+import javax.annotation.Nullable;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Information needed to generate a {@link GeneratedReflectType} for a class.
+ * <p>Generated code must be able to call the all-args constructor and read all the fields directly, so reflection types
+ * are generated only for records and for POJOs with non-private fields and a non-private all-args constructor. The
+ * constructor and the field order are the same as {@code PojoType} would use: the {@code @ConstructorProperties}
+ * order if the constructor has this annotation, the field declaration order otherwise. Classes with several
+ * candidate all-args constructors, generic classes, abstract classes, non-static inner classes and Kotlin classes are
+ * skipped.
+ *
+ * @param packageName  package of the source class, and of the generated class; {@code null} for the default package
+ * @param className    simple name of the generated class; contains {@code $} for nested classes, see
+ *                     {@link GeneratedReflectType#generatedClassName(String)}
+ * @param sourceClass  canonical name of the source class
+ * @param isRecord     whether the source class is a record
+ * @param fields       fields of the source class, in constructor order
+ */
+record ReflectTypeStructure(
+        @Nullable String packageName,
+        String className,
+        String sourceClass,
+        boolean isRecord,
+        List<Field> fields
+) {
+    private static final Logger log = LoggerFactory.getLogger(ReflectTypeStructure.class);
+
+    private static final String CONSTRUCTOR_PROPERTIES = "java.beans.ConstructorProperties";
+    private static final String KOTLIN_METADATA = "kotlin.Metadata";
+
+    /**
+     * Analyses the given class and all its nested classes
+     *
+     * @return structures for all classes which can have a generated reflection type
+     */
+    public static List<ReflectTypeStructure> analyse(TypeElement root, Elements elementUtils, Types typeUtils) {
+        List<ReflectTypeStructure> result = new ArrayList<>();
+        analyse(root, elementUtils, typeUtils, result);
+        return result;
+    }
+
+    private static void analyse(
+            TypeElement classElement,
+            Elements elementUtils,
+            Types typeUtils,
+            List<ReflectTypeStructure> result
+    ) {
+        String skipReason = checkClass(classElement);
+        if (skipReason == null) {
+            List<Field> fields = classElement.getKind() == ElementKind.RECORD
+                    ? recordFields(classElement, typeUtils)
+                    : pojoFields(classElement, typeUtils);
+            if (fields != null) {
+                result.add(create(classElement, elementUtils, fields));
+            } else {
+                log.debug("Not generating reflection type for {}: no accessible all-args constructor",
+                        classElement.getQualifiedName());
+            }
+        } else {
+            log.debug("Not generating reflection type for {}: {}", classElement.getQualifiedName(), skipReason);
+        }
+
+        for (TypeElement nested : ElementFilter.typesIn(classElement.getEnclosedElements())) {
+            if (nested.getKind() == ElementKind.CLASS || nested.getKind() == ElementKind.RECORD) {
+                analyse(nested, elementUtils, typeUtils, result);
+            }
+        }
+    }
+
+    private static ReflectTypeStructure create(TypeElement classElement, Elements elementUtils, List<Field> fields) {
+        String packageName = elementUtils.getPackageOf(classElement).getQualifiedName().toString();
+        String binaryName = elementUtils.getBinaryName(classElement).toString();
+        String generatedName = GeneratedReflectType.generatedClassName(binaryName);
+        return new ReflectTypeStructure(
+                packageName.isEmpty() ? null : packageName,
+                packageName.isEmpty() ? generatedName : generatedName.substring(packageName.length() + 1),
+                classElement.getQualifiedName().toString(),
+                classElement.getKind() == ElementKind.RECORD,
+                fields
+        );
+    }
+
+    @Nullable
+    private static String checkClass(TypeElement classElement) {
+        if (classElement.getModifiers().contains(Modifier.ABSTRACT)) {
+            return "class is abstract";
+        }
+        if (!classElement.getTypeParameters().isEmpty()) {
+            return "class is generic";
+        }
+        if (hasAnnotation(classElement, KOTLIN_METADATA)) {
+            return "Kotlin classes are not supported";
+        }
+        if (classElement.getNestingKind() == NestingKind.MEMBER
+                && classElement.getKind() == ElementKind.CLASS
+                && !classElement.getModifiers().contains(Modifier.STATIC)) {
+            return "class is a non-static inner class";
+        }
+        for (Element e = classElement; e instanceof TypeElement; e = e.getEnclosingElement()) {
+            if (e.getModifiers().contains(Modifier.PRIVATE)) {
+                return "class is not accessible from its package";
+            }
+        }
+        return null;
+    }
+
+    private static List<Field> recordFields(TypeElement classElement, Types typeUtils) {
+        return classElement.getRecordComponents().stream()
+                .map(rc -> new Field(rc.getSimpleName().toString(), typeName(rc.asType(), typeUtils)))
+                .toList();
+    }
+
+    /*
+        Must pick the same constructor and field order as PojoType: the constructor with @ConstructorProperties if there
+        is one, with fields in @ConstructorProperties order; otherwise the only constructor with as many parameters as
+        there are non-static non-transient fields, with fields in declaration order
+     */
+    @Nullable
+    private static List<Field> pojoFields(TypeElement classElement, Types typeUtils) {
+        List<VariableElement> fieldElements = ElementFilter.fieldsIn(classElement.getEnclosedElements()).stream()
+                .filter(f -> !f.getModifiers().contains(Modifier.STATIC) && !f.getModifiers().contains(Modifier.TRANSIENT))
+                .toList();
+        if (fieldElements.stream().anyMatch(f -> f.getModifiers().contains(Modifier.PRIVATE))) {
+            return null;
+        }
+
+        List<ExecutableElement> candidates = ElementFilter.constructorsIn(classElement.getEnclosedElements()).stream()
+                .filter(c -> c.getParameters().size() == fieldElements.size())
+                .toList();
+        List<ExecutableElement> annotated = candidates.stream()
+                .filter(c -> hasAnnotation(c, CONSTRUCTOR_PROPERTIES))
+                .toList();
+        ExecutableElement ctor;
+        List<VariableElement> orderedFields;
+        if (annotated.size() == 1) {
+            ctor = annotated.get(0);
+            orderedFields = fieldsByName(fieldElements, constructorProperties(ctor));
+        } else if (annotated.isEmpty() && candidates.size() == 1) {
+            ctor = candidates.get(0);
+            orderedFields = fieldElements;
+        } else {
+            return null;
+        }
+        if (orderedFields == null
+                || ctor.getModifiers().contains(Modifier.PRIVATE)
+                || !isAllArgsCtor(ctor, orderedFields, typeUtils)) {
+            return null;
+        }
+
+        return orderedFields.stream()
+                .map(f -> new Field(f.getSimpleName().toString(), typeName(f.asType(), typeUtils)))
+                .toList();
+    }
+
+    @Nullable
+    private static List<VariableElement> fieldsByName(List<VariableElement> fields, List<String> names) {
+        List<VariableElement> result = new ArrayList<>();
+        for (String name : names) {
+            VariableElement field = fields.stream()
+                    .filter(f -> f.getSimpleName().contentEquals(name))
+                    .findFirst()
+                    .orElse(null);
+            if (field == null) {
+                return null;
+            }
+            result.add(field);
+        }
+        return result;
+    }
+
+    private static List<String> constructorProperties(ExecutableElement ctor) {
+        return ctor.getAnnotationMirrors().stream()
+                .filter(a -> ((TypeElement) a.getAnnotationType().asElement()).getQualifiedName().contentEquals(CONSTRUCTOR_PROPERTIES))
+                .flatMap(a -> a.getElementValues().entrySet().stream())
+                .filter(e -> e.getKey().getSimpleName().contentEquals("value"))
+                .flatMap(e -> ((List<?>) e.getValue().getValue()).stream())
+                .map(v -> (String) ((AnnotationValue) v).getValue())
+                .toList();
+    }
+
+    private static boolean isAllArgsCtor(ExecutableElement ctor, List<VariableElement> fields, Types typeUtils) {
+        var params = ctor.getParameters();
+        if (params.size() != fields.size()) {
+            return false;
+        }
+        for (int i = 0; i < params.size(); i++) {
+            if (!typeUtils.isSameType(typeUtils.erasure(params.get(i).asType()), typeUtils.erasure(fields.get(i).asType()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasAnnotation(Element element, String annotationName) {
+        return element.getAnnotationMirrors().stream()
+                .anyMatch(a -> ((TypeElement) a.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationName));
+    }
+
+    /*
+        Same problem as in FieldInfo: `TypeMirror.toString()` might include type annotations, so we build erased
+        type names ourselves
+     */
+    private static String typeName(TypeMirror type, Types typeUtils) {
+        TypeMirror erased = typeUtils.erasure(type);
+        return switch (erased.getKind()) {
+            case DECLARED -> ((TypeElement) typeUtils.asElement(erased)).getQualifiedName().toString();
+            case ARRAY -> typeName(((ArrayType) erased).getComponentType(), typeUtils) + "[]";
+            default -> erased.getKind().isPrimitive()
+                    ? erased.getKind().name().toLowerCase(Locale.ROOT)
+                    : erased.toString();
+        };
+    }
+
+    /**
+     * @param name the original name of a field
+     * @param type erased type of the field, suitable for a cast
+     */
+    record Field(String name, String type) {
+    }
+}
@@ -8,6 +8,7 @@ import com.tschuchort.compiletesting.SourceFile;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.Test;
 
+import javax.tools.JavaFileObject;
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileReader;
@@ -61,6 +62,52 @@ public class FieldGeneratorAnnotationProcessorTest {
         testCase("input/NoSimpleFieldsClass.java", "output/NoSimpleFieldsClassFields.java");
     }
 
+    @Test
+    public void recordReflectTypes() {
+        Compilation compilation = compileWithReflectTypes("input/TestRecord.java");
+
+        assertThat(getGeneratedSource(compilation, "TestRecord_ReflectType"))
+                .contains(getExpectations("output/TestRecord_ReflectType.java"));
+        assertThat(getGeneratedSource(compilation, "TestRecord$Id_ReflectType")).isPresent();
+        // InnerClass has no all-args constructor
+        assertThat(getGeneratedSource(compilation, "TestRecord$InnerClass_ReflectType")).isEmpty();
+    }
+
+    @Test
+    public void pojoReflectTypes() {
+        Compilation compilation = compileWithReflectTypes("input/AccessiblePojo.java");
+
+        assertThat(getGeneratedSource(compilation, "AccessiblePojo_ReflectType"))
+                .contains(getExpectations("output/AccessiblePojo_ReflectType.java"));
+        assertThat(getGeneratedSource(compilation, "AccessiblePojo$Id_ReflectType")).isPresent();
+        // Hidden has a private field
+        assertThat(getGeneratedSource(compilation, "AccessiblePojo$Hidden_ReflectType")).isEmpty();
+    }
+
+    @Test
+    public void pojoReflectTypesUseConstructorPropertiesOrder() {
+        Compilation compilation = compileWithReflectTypes("input/ReorderedPojo.java");
+
+        assertThat(getGeneratedSource(compilation, "ReorderedPojo_ReflectType")).hasValueSatisfying(source -> assertThat(source)
+                .contains("List.of(\"version\", \"id\", \"name\")")
+                .contains("List.of(long.class, tech.ydb.yoj.generator.test.ReorderedPojo.Id.class, java.lang.String.class)"));
+        // Nested ReorderedPojo.Id and top-level ReorderedPojo_Id get different generated classes
+        assertThat(getGeneratedSource(compilation, "ReorderedPojo$Id_ReflectType")).hasValueSatisfying(source -> assertThat(source)
+                .contains("GeneratedReflectType<tech.ydb.yoj.generator.test.ReorderedPojo.Id>"));
+        assertThat(getGeneratedSource(compilation, "ReorderedPojo_Id_ReflectType")).hasValueSatisfying(source -> assertThat(source)
+                .contains("GeneratedReflectType<tech.ydb.yoj.generator.test.ReorderedPojo_Id>"));
+    }
+
+    @Test
+    public void noReflectTypesByDefault() {
+        Compilation compilation = Compiler.javac()
+                .withProcessors(new FieldGeneratorAnnotationProcessor())
+                .compile(JavaFileObjects.forResource("input/TestRecord.java"));
+
+        assertThat(compilation.status()).isEqualTo(Compilation.Status.SUCCESS);
+        assertThat(getGeneratedSource(compilation, "TestRecord_ReflectType")).isEmpty();
+    }
+
     @Test
     public void nonEntity() {
 
@@ -109,6 +156,17 @@ public class FieldGeneratorAnnotationProcessorTest {
         assertThat(getGeneratedSource(compilation)).contains(getExpectations(expectations));
     }
 
+    private Compilation compileWithReflectTypes(String source) {
+        Compilation compilation = Compiler.javac()
+                .withProcessors(new FieldGeneratorAnnotationProcessor())
+                .withOptions("-A" + FieldGeneratorAnnotationProcessor.GENERATE_REFLECT_TYPES_OPTION + "=true")
+                .compile(JavaFileObjects.forResource(source));
+
+        assertThat(compilation.errors()).isEmpty();
+        assertThat(compilation.status()).isEqualTo(Compilation.Status.SUCCESS);
+        return compilation;
+    }
+
     private String getExpectations(String fileName) {
         try (
                 Reader reader = JavaFileObjects.forResource(fileName).openReader(false);
@@ -136,6 +194,19 @@ public class FieldGeneratorAnnotationProcessorTest {
         }
     }
 
+    private Optional<String> getGeneratedSource(Compilation compilation, String simpleClassName) {
+        return compilation.generatedSourceFiles().stream()
+                .filter(f -> f.isNameCompatible(simpleClassName, JavaFileObject.Kind.SOURCE))
+                .findFirst()
+                .map(f -> {
+                    try (Reader reader = f.openReader(false); BufferedReader bufferedReader = new BufferedReader(reader)) {
+                        return bufferedReader.lines().collect(Collectors.joining("\n"));
+                    } catch (Exception e) {
+                        throw new RuntimeException(e);
+                    }
+                });
+    }
+
     private Optional<String> getGeneratedSource(Compilation compilation) {
         if (compilation.generatedSourceFiles().isEmpty()) {
             return Optional.empty();
@@ -0,0 +1,41 @@
+package tech.ydb.yoj.generator.test;
+
+import java.util.List;
+
+import tech.ydb.yoj.databind.schema.Table;
+import tech.ydb.yoj.repository.db.Entity;
+
+@Table(name = "accessible_pojo")
+public class AccessiblePojo implements Entity<AccessiblePojo> {
+    final Id id;
+    final List<String> tags;
+    final int count;
+    private transient String ignored;
+
+    AccessiblePojo(Id id, List<String> tags, int count) {
+        this.id = id;
+        this.tags = tags;
+        this.count = count;
+    }
+
+    @Override
+    public Id getId() {
+        return id;
+    }
+
+    static final class Id implements Entity.Id<AccessiblePojo> {
+        final String value;
+
+        Id(String value) {
+            this.value = value;
+        }
+    }
+
+    static final class Hidden {
+        private final String secret;
+
+        Hidden(String secret) {
+            this.secret = secret;
+        }
+    }
+}
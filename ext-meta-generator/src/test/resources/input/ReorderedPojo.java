@@ -0,0 +1,46 @@
+package tech.ydb.yoj.generator.test;
+
+import java.beans.ConstructorProperties;
+
+import tech.ydb.yoj.databind.schema.Table;
+import tech.ydb.yoj.repository.db.Entity;
+
+@Table(name = "reordered_pojo")
+public class ReorderedPojo implements Entity<ReorderedPojo> {
+    final Id id;
+    final String name;
+    final long version;
+
+    @ConstructorProperties({"version", "id", "name"})
+    ReorderedPojo(long version, Id id, String name) {
+        this.id = id;
+        this.name = name;
+        this.version = version;
+    }
+
+    ReorderedPojo(Id id, String name, long version) {
+        this(version, id, name);
+    }
+
+    @Override
+    public Id getId() {
+        return id;
+    }
+
+    static final class Id implements Entity.Id<ReorderedPojo> {
+        final String value;
+
+        Id(String value) {
+            this.value = value;
+        }
+    }
+}
+
+@Table(name = "reordered_pojo_id")
+class ReorderedPojo_Id {
+    final String value;
+
+    ReorderedPojo_Id(String value) {
+        this.value = value;
+    }
+}
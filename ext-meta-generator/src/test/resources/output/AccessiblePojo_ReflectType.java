@@ -0,0 +1,35 @@
+package tech.ydb.yoj.generator.test;
+
+import java.util.List;
+import javax.annotation.processing.Generated;
+
+import tech.ydb.yoj.databind.schema.reflect.GeneratedReflectType;
+import tech.ydb.yoj.databind.schema.reflect.Reflector;
+
+@Generated("tech.ydb.yoj.generator.FieldGeneratorAnnotationProcessor")
+public final class AccessiblePojo_ReflectType extends GeneratedReflectType<tech.ydb.yoj.generator.test.AccessiblePojo> {
+    public AccessiblePojo_ReflectType(Reflector reflector) {
+        super(reflector, tech.ydb.yoj.generator.test.AccessiblePojo.class, List.of("id", "tags", "count"),
+                List.of(tech.ydb.yoj.generator.test.AccessiblePojo.Id.class, java.util.List.class, int.class));
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected tech.ydb.yoj.generator.test.AccessiblePojo construct(Object[] args) {
+        return new tech.ydb.yoj.generator.test.AccessiblePojo(
+                (tech.ydb.yoj.generator.test.AccessiblePojo.Id) args[0],
+                (java.util.List) args[1],
+                (int) args[2]
+        );
+    }
+
+    @Override
+    protected Object getValue(tech.ydb.yoj.generator.test.AccessiblePojo obj, int fieldIndex) {
+        return switch (fieldIndex) {
+            case 0 -> obj.id;
+            case 1 -> obj.tags;
+            case 2 -> obj.count;
+            default -> throw new IndexOutOfBoundsException(fieldIndex);
+        };
+    }
+}
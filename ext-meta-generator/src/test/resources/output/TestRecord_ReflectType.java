@@ -0,0 +1,35 @@
+import java.util.List;
+import javax.annotation.processing.Generated;
+
+import tech.ydb.yoj.databind.schema.reflect.GeneratedReflectType;
+import tech.ydb.yoj.databind.schema.reflect.Reflector;
+
+@Generated("tech.ydb.yoj.generator.FieldGeneratorAnnotationProcessor")
+public final class TestRecord_ReflectType extends GeneratedReflectType<TestRecord> {
+    public TestRecord_ReflectType(Reflector reflector) {
+        super(reflector, TestRecord.class, List.of("fieldOne", "field", "id", "ic"),
+                List.of(java.lang.String.class, java.lang.String.class, TestRecord.Id.class, TestRecord.InnerClass.class));
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected TestRecord construct(Object[] args) {
+        return new TestRecord(
+                (java.lang.String) args[0],
+                (java.lang.String) args[1],
+                (TestRecord.Id) args[2],
+                (TestRecord.InnerClass) args[3]
+        );
+    }
+
+    @Override
+    protected Object getValue(TestRecord obj, int fieldIndex) {
+        return switch (fieldIndex) {
+            case 0 -> obj.fieldOne();
+            case 1 -> obj.field();
+            case 2 -> obj.id();
+            case 3 -> obj.ic();
+            default -> throw new IndexOutOfBoundsException(fieldIndex);
+        };
+    }
+}
@@ -8,6 +8,7 @@ import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.factory.Maps;
 import tech.ydb.yoj.databind.ByteArray;
 import tech.ydb.yoj.databind.CustomValueTypes;
+import tech.ydb.yoj.databind.schema.FlatRow;
 import tech.ydb.yoj.databind.schema.Schema;
 import tech.ydb.yoj.repository.DbTypeQualifier;
 import tech.ydb.yoj.repository.db.Entity;
@@ -33,12 +34,12 @@ final class Columns {
     private final ImmutableMap<String, Object> map;
 
     public static <T extends Entity<T>> Columns fromEntity(EntitySchema<T> schema, T entity) {
-        Map<String, Object> cells = schema.flatten(entity);
-        List<Pair<String, Object>> newValues = new ArrayList<>();
-        for (Schema.JavaField field : schema.flattenFields()) {
-            String column = field.getName();
-            Object value = serialize(field, cells.get(column));
-            newValues.add(pair(column, value));
+        FlatRow cells = schema.flattenToRow(entity);
+        List<Schema.JavaField> fields = cells.getFields();
+        List<Pair<String, Object>> newValues = new ArrayList<>(fields.size());
+        for (int i = 0; i < fields.size(); i++) {
+            Schema.JavaField field = fields.get(i);
+            newValues.add(pair(field.getName(), serialize(field, cells.get(i))));
         }
         return new Columns(Maps.immutable.<String, Object>empty().newWithAllKeyValues(newValues));
     }
@@ -1,5 +1,6 @@
 package tech.ydb.yoj.repository.test.inmemory;
 
+import com.google.common.annotations.VisibleForTesting;
 import tech.ydb.yoj.repository.db.Entity;
 import tech.ydb.yoj.repository.db.TableDescriptor;
 
@@ -7,8 +8,14 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 final class InMemoryStorage {
+    // Not a monitor, so that transactions running on virtual threads do not pin their carrier threads
+    @VisibleForTesting
+    final Lock lock = new ReentrantLock();
+
     private final Map<TableDescriptor<?>, InMemoryDataShard<?>> shards;
     private final Map<Long, Set<TableDescriptor<?>>> uncommited = new HashMap<>();
 
@@ -23,56 +30,86 @@ final class InMemoryStorage {
         this.currentVersion = version;
     }
 
-    public synchronized long getCurrentVersion() {
-        return currentVersion;
-    }
-
-    public synchronized InMemoryStorage createSnapshot() {
-        Map<TableDescriptor<?>, InMemoryDataShard<?>> snapshotDb = new HashMap<>();
-        for (Map.Entry<TableDescriptor<?>, InMemoryDataShard<?>> entry : shards.entrySet()) {
-            snapshotDb.put(entry.getKey(), entry.getValue().createSnapshot());
+    public long getCurrentVersion() {
+        lock.lock();
+        try {
+            return currentVersion;
+        } finally {
+            lock.unlock();
         }
-        return new InMemoryStorage(currentVersion, snapshotDb);
     }
 
-    public synchronized void commit(long txId, long version, InMemoryTxLockWatcher watcher) {
-        if (!uncommited.containsKey(txId)) {
-            return;
+    public InMemoryStorage createSnapshot() {
+        lock.lock();
+        try {
+            Map<TableDescriptor<?>, InMemoryDataShard<?>> snapshotDb = new HashMap<>();
+            for (Map.Entry<TableDescriptor<?>, InMemoryDataShard<?>> entry : shards.entrySet()) {
+                snapshotDb.put(entry.getKey(), entry.getValue().createSnapshot());
+            }
+            return new InMemoryStorage(currentVersion, snapshotDb);
+        } finally {
+            lock.unlock();
         }
+    }
 
-        for (InMemoryDataShard<?> shard : shards.values()) {
-            shard.checkLocks(version, watcher);
-        }
-
-        currentVersion++;
-
-        Set<TableDescriptor<?>> uncommitedTables = uncommited.remove(txId);
-        for (TableDescriptor<?> tableDescriptor : uncommitedTables) {
-            shards.get(tableDescriptor).commit(txId, currentVersion);
+    public void commit(long txId, long version, InMemoryTxLockWatcher watcher) {
+        lock.lock();
+        try {
+            if (!uncommited.containsKey(txId)) {
+                return;
+            }
+
+            for (InMemoryDataShard<?> shard : shards.values()) {
+                shard.checkLocks(version, watcher);
+            }
+
+            currentVersion++;
+
+            Set<TableDescriptor<?>> uncommitedTables = uncommited.remove(txId);
+            for (TableDescriptor<?> tableDescriptor : uncommitedTables) {
+                shards.get(tableDescriptor).commit(txId, currentVersion);
+            }
+        } finally {
+            lock.unlock();
         }
     }
 
-    public synchronized void rollback(long txId) {
-        Set<TableDescriptor<?>> uncommitedTables = uncommited.remove(txId);
-        if (uncommitedTables == null) {
-            return;
-        }
-        for (TableDescriptor<?> tableDescriptor : uncommitedTables) {
-            shards.get(tableDescriptor).rollback(txId);
+    public void rollback(long txId) {
+        lock.lock();
+        try {
+            Set<TableDescriptor<?>> uncommitedTables = uncommited.remove(txId);
+            if (uncommitedTables == null) {
+                return;
+            }
+            for (TableDescriptor<?> tableDescriptor : uncommitedTables) {
+                shards.get(tableDescriptor).rollback(txId);
+            }
+        } finally {
+            lock.unlock();
         }
     }
 
-    public synchronized <T extends Entity<T>> WriteTxDataShard<T> getWriteTxDataShard(
+    public <T extends Entity<T>> WriteTxDataShard<T> getWriteTxDataShard(
             TableDescriptor<T> tableDescriptor, long txId, long version
     ) {
-        uncommited.computeIfAbsent(txId, __ -> new HashSet<>()).add(tableDescriptor);
-        return getTxDataShard(tableDescriptor, txId, version, InMemoryTxLockWatcher.NO_LOCKS);
+        lock.lock();
+        try {
+            uncommited.computeIfAbsent(txId, __ -> new HashSet<>()).add(tableDescriptor);
+            return getTxDataShard(tableDescriptor, txId, version, InMemoryTxLockWatcher.NO_LOCKS);
+        } finally {
+            lock.unlock();
+        }
     }
 
-    public synchronized <T extends Entity<T>> ReadOnlyTxDataShard<T> getReadOnlyTxDataShard(
+    public <T extends Entity<T>> ReadOnlyTxDataShard<T> getReadOnlyTxDataShard(
             TableDescriptor<T> tableDescriptor, long txId, long version, InMemoryTxLockWatcher watcher
     ) {
-        return getTxDataShard(tableDescriptor, txId, version, watcher);
+        lock.lock();
+        try {
+            return getTxDataShard(tableDescriptor, txId, version, watcher);
+        } finally {
+            lock.unlock();
+        }
     }
 
     private <T extends Entity<T>> TxDataShardImpl<T> getTxDataShard(
@@ -86,30 +123,51 @@ final class InMemoryStorage {
         return new TxDataShardImpl<>(shard, txId, version, watcher);
     }
 
-    public synchronized void dropDb() {
-        shards.clear();
+    public void dropDb() {
+        lock.lock();
+        try {
+            shards.clear();
+        } finally {
+            lock.unlock();
+        }
     }
 
-    public synchronized Set<TableDescriptor<?>> tables() {
-        return shards.keySet();
+    public Set<TableDescriptor<?>> tables() {
+        lock.lock();
+        try {
+            return shards.keySet();
+        } finally {
+            lock.unlock();
+        }
     }
 
-    public synchronized boolean containsTable(TableDescriptor<?> tableDescriptor) {
-        return shards.containsKey(tableDescriptor);
+    public boolean containsTable(TableDescriptor<?> tableDescriptor) {
+        lock.lock();
+        try {
+            return shards.containsKey(tableDescriptor);
+        } finally {
+            lock.unlock();
+        }
     }
 
-    public synchronized <T extends Entity<T>> void createTable(TableDescriptor<T> tableDescriptor) {
-        if (containsTable(tableDescriptor)) {
-            return;
+    public <T extends Entity<T>> void createTable(TableDescriptor<T> tableDescriptor) {
+        lock.lock();
+        try {
+            if (containsTable(tableDescriptor)) {
+                return;
+            }
+            shards.put(tableDescriptor, new InMemoryDataShard<>(tableDescriptor));
+        } finally {
+            lock.unlock();
         }
-        shards.put(tableDescriptor, new InMemoryDataShard<>(tableDescriptor));
     }
 
-    public synchronized boolean dropTable(TableDescriptor<?> tableDescriptor) {
-        if (!containsTable(tableDescriptor)) {
-            return false;
+    public boolean dropTable(TableDescriptor<?> tableDescriptor) {
+        lock.lock();
+        try {
+            return shards.remove(tableDescriptor) != null;
+        } finally {
+            lock.unlock();
         }
-        shards.remove(tableDescriptor);
-        return true;
     }
 }
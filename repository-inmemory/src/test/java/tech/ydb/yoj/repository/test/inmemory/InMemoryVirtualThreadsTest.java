@@ -0,0 +1,60 @@
+package tech.ydb.yoj.repository.test.inmemory;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs in a separate JVM with a single carrier thread for virtual threads (see {@code pom.xml}), and is skipped
+ * otherwise, e.g. on JVMs without virtual threads.
+ */
+public class InMemoryVirtualThreadsTest {
+    private static final String PARALLELISM_PROPERTY = "jdk.virtualThreadScheduler.parallelism";
+
+    @Test
+    public void virtualThreadWaitingForStorageLockDoesNotBlockCarrierThread() throws Exception {
+        Assume.assumeTrue("Must run with a single carrier thread", "1".equals(System.getProperty(PARALLELISM_PROPERTY)));
+        Assume.assumeTrue("Virtual threads are not available in this JVM", Runtime.version().feature() >= 21);
+
+        InMemoryStorage storage = new InMemoryStorage();
+        CountDownLatch otherVirtualThreadRan = new CountDownLatch(1);
+
+        Thread waiting;
+        storage.lock.lock();
+        try {
+            waiting = startVirtualThread(storage::getCurrentVersion);
+            awaitWaiting(waiting);
+
+            // If the waiting thread held the only carrier thread, no other virtual thread could run until the unlock
+            startVirtualThread(otherVirtualThreadRan::countDown);
+            assertThat(otherVirtualThreadRan.await(10, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            storage.lock.unlock();
+        }
+
+        waiting.join(TimeUnit.SECONDS.toMillis(10));
+        assertThat(waiting.isAlive()).isFalse();
+    }
+
+    private static void awaitWaiting(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (thread.getState() == Thread.State.NEW || thread.getState() == Thread.State.RUNNABLE) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(1);
+        }
+        // A virtual thread that blocks on a monitor is BLOCKED, and keeps its carrier thread; a parked one is WAITING
+        assertThat(thread.getState()).isEqualTo(Thread.State.WAITING);
+    }
+
+    private static Thread startVirtualThread(Runnable task) {
+        try {
+            return (Thread) Thread.class.getMethod("startVirtualThread", Runnable.class).invoke(null, task);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
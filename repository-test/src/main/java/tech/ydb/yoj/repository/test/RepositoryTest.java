@@ -81,6 +81,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -425,6 +426,38 @@ public abstract class RepositoryTest extends RepositoryTestSupport {
                 .isThrownBy(() -> db.tx(() -> db.projects().readTable(defaultReadTableParamsNonLegacy()).count()));
     }
 
+    @Test
+    public void parallelReadsInReadOnlyTx() {
+        db.tx(() -> {
+            db.projects().save(new Project(new Project.Id("1"), "p1"));
+            db.projects().save(new Project(new Project.Id("2"), "p2"));
+        });
+
+        List<Object> results = db.readOnly()
+                .withStatementIsolationLevel(IsolationLevel.ONLINE_INCONSISTENT_READ_ONLY)
+                .run(() -> Tx.Current.get().parallel(List.<Supplier<Object>>of(
+                        () -> db.projects().find(new Project.Id("1")),
+                        () -> db.projects().find(new Project.Id("2")),
+                        () -> db.projects().countAll()
+                )));
+        assertThat(results).containsExactly(
+                new Project(new Project.Id("1"), "p1"),
+                new Project(new Project.Id("2"), "p2"),
+                2L
+        );
+
+        Project cached = db.readOnly()
+                .withStatementIsolationLevel(IsolationLevel.ONLINE_INCONSISTENT_READ_ONLY)
+                .run(() -> {
+                    Tx.Current.get().parallel(List.<Supplier<Object>>of(() -> null, () -> db.projects().find(new Project.Id("2"))));
+                    return db.projects().getFirstLevelCache().peek(new Project.Id("2")).orElse(null);
+                });
+        assertThat(cached).isEqualTo(new Project(new Project.Id("2"), "p2"));
+
+        assertThatExceptionOfType(IllegalTransactionIsolationLevelException.class)
+                .isThrownBy(() -> db.tx(() -> Tx.Current.get().parallel(List.<Supplier<Long>>of(() -> db.projects().countAll()))));
+    }
+
     @Test
     public void readTableIds() {
         assertThat(db.readOnly().run(() -> db.projects().readTableIds(defaultReadTableParamsNonLegacy()).count()))
@@ -727,6 +760,26 @@ public abstract class RepositoryTest extends RepositoryTestSupport {
         );
     }
 
+    @Test
+    public void deleteRange() {
+        db.tx(this::makeComplexes);
+        Complex cached = db.tx(() -> db.complexes().find(new Complex.Id(0, 1L, "aab", Complex.Status.OK)));
+
+        db.tx(() -> {
+            assertThat(db.complexes().find(cached.getId())).isEqualTo(cached);
+            db.complexes().deleteAll(Range.create(new Complex.Id(0, 1L, null, null)));
+            assertThat(db.complexes().find(cached.getId())).isNull();
+        });
+        db.tx(() -> db.complexes().delete(Range.create(new Complex.Id(1, null, null, null))));
+
+        db.tx(() -> {
+            assertThat(db.complexes().find(Range.create(new Complex.Id(0, 1L, null, null)))).isEmpty();
+            assertThat(db.complexes().find(Range.create(new Complex.Id(1, null, null, null)))).isEmpty();
+            assertThat(db.complexes().find(Range.create(new Complex.Id(0, null, null, null)))).hasSize(12);
+            assertThat(db.complexes().find(Range.create(new Complex.Id(2, null, null, null)))).hasSize(18);
+        });
+    }
+
     @Test
     public void streamPartialWithPartitioning() {
         db.tx(() -> {
@@ -2172,6 +2225,30 @@ public abstract class RepositoryTest extends RepositoryTestSupport {
                 .isEqualTo(0L);
     }
 
+    @Test
+    public void projectionsOfStreamedEntities() {
+        db.tx(() -> {
+            db.table(Book.class).save(new Book(new Book.Id("1"), 1, "title1", List.of("author1")));
+            db.table(Book.class).save(new Book(new Book.Id("2"), 1, "title1", List.of("author2")));
+            db.table(Book.class).save(new Book(new Book.Id("3"), 1, "title3", List.of("author1")));
+        });
+
+        db.tx(() -> {
+            List<Book> books = db.table(Book.class).query().where("title").eq("title1").stream().toList();
+            assertThat(books).hasSize(2);
+            books.forEach(b -> db.table(Book.class).save(b.updateTitle("title2")));
+        });
+
+        assertThat(db.tx(() -> db.table(Book.ByTitle.class).countAll()))
+                .isEqualTo(3L);
+        assertThat(db.tx(() -> db.table(Book.ByTitle.class).find(Range.create(new Book.ByTitle.Id("title1", null)))))
+                .isEmpty();
+        assertThat(db.tx(() -> db.table(Book.ByTitle.class).find(Range.create(new Book.ByTitle.Id("title2", null)))))
+                .hasSize(2);
+        assertThat(db.tx(() -> db.table(Book.ByAuthor.class).countAll()))
+                .isEqualTo(3L);
+    }
+
     /**
      * {@link #parallelTx(boolean, boolean, Consumer)} make two tx.
      * In first  - read from table (see consumers - findAll, findId, findRange)
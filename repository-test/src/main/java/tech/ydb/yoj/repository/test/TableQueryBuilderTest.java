@@ -17,6 +17,7 @@ import tech.ydb.yoj.repository.test.sample.model.TypeFreak.Status;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Set;
 
 import static java.time.temporal.ChronoUnit.MILLIS;
 import static java.util.Collections.emptyList;
@@ -513,6 +514,26 @@ public abstract class TableQueryBuilderTest extends RepositoryTestSupport {
         )).isEmpty();
     }
 
+    @Test
+    public void streamReturnsSameResultsAsFind() {
+        Project p1 = new Project(new Project.Id("uuid002"), "AAA");
+        Project p2 = new Project(new Project.Id("uuid333"), "WWW");
+        Project p3 = new Project(new Project.Id("uuid777"), "XXX");
+        db.tx(() -> db.projects().insert(p1, p2, p3));
+
+        assertThat(db.tx(() -> db.projects().query()
+                .where("name").in(p1.getName(), p3.getName())
+                .orderBy(ob -> ob.orderBy("id").descending())
+                .stream()
+                .toList()
+        )).containsExactly(p3, p1);
+        assertThat(db.tx(() -> db.projects().query()
+                .ids(Set.of(p2.getId()))
+                .stream()
+                .toList()
+        )).containsExactly(p2);
+    }
+
     protected <T extends Entity<T>> TableQueryBuilder<T> getQueryBuilder(@NonNull Table<T> table) {
         return new TableQueryBuilder<>(table);
     }
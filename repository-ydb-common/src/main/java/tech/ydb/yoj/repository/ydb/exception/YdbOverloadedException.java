@@ -16,6 +16,11 @@ public final class YdbOverloadedException extends RetryableException {
         super(Strings.join("\n", request, response), OVERLOADED_BACKOFF);
     }
 
+    @Override
+    public boolean isOverloaded() {
+        return true;
+    }
+
     @Override
     public RepositoryException rethrow() {
         return UnavailableException.afterRetries("Database overloaded, retries failed", this);
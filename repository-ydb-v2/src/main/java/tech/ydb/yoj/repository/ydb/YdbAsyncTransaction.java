@@ -0,0 +1,304 @@
+package tech.ydb.yoj.repository.ydb;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import lombok.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tech.ydb.core.Result;
+import tech.ydb.core.Status;
+import tech.ydb.table.Session;
+import tech.ydb.table.query.DataQueryResult;
+import tech.ydb.table.query.Params;
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.settings.CommitTxSettings;
+import tech.ydb.table.settings.ExecuteDataQuerySettings;
+import tech.ydb.table.settings.RollbackTxSettings;
+import tech.ydb.yoj.repository.db.Entity;
+import tech.ydb.yoj.repository.db.EntitySchema;
+import tech.ydb.yoj.repository.db.IsolationLevel;
+import tech.ydb.yoj.repository.db.TableDescriptor;
+import tech.ydb.yoj.repository.db.TxOptions;
+import tech.ydb.yoj.repository.db.cache.FirstLevelCache;
+import tech.ydb.yoj.repository.db.cache.RepositoryCache;
+import tech.ydb.yoj.repository.db.cache.RepositoryCacheImpl;
+import tech.ydb.yoj.repository.db.exception.IllegalTransactionIsolationLevelException;
+import tech.ydb.yoj.repository.db.exception.UnavailableException;
+import tech.ydb.yoj.repository.ydb.async.AsyncTable;
+import tech.ydb.yoj.repository.ydb.async.AsyncTx;
+import tech.ydb.yoj.repository.ydb.client.YdbValidator;
+import tech.ydb.yoj.repository.ydb.exception.YdbComponentUnavailableException;
+import tech.ydb.yoj.repository.ydb.exception.YdbOverloadedException;
+import tech.ydb.yoj.repository.ydb.merge.QueriesMerger;
+import tech.ydb.yoj.repository.ydb.statement.Statement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Strings.emptyToNull;
+import static java.util.stream.Collectors.toList;
+import static tech.ydb.yoj.repository.ydb.client.YdbValidator.validatePkConstraint;
+
+/**
+ * Transaction which executes YDB queries without blocking the calling thread. This is the asynchronous counterpart
+ * of {@link YdbRepositoryTransaction}, used by {@link tech.ydb.yoj.repository.ydb.async.YdbAsyncTxManager}.
+ * <p>A YDB session can only execute one query at a time, so queries are executed one after another, in the order
+ * they were submitted. Writes are buffered and sent to YDB on {@link #commit()}, like in a
+ * {@link tech.ydb.yoj.repository.db.TxManager#delayedWrites() delayedWrites()} transaction.
+ * <p>All returned futures complete exceptionally with a {@code RepositoryException} (wrapped in a
+ * {@code CompletionException}) if a YDB request fails.
+ */
+public class YdbAsyncTransaction implements AsyncTx, AsyncTable.QueryExecutor {
+    private static final Logger log = LoggerFactory.getLogger(YdbAsyncTransaction.class);
+
+    private final YdbRepository repo;
+    @Getter
+    private final TxOptions options;
+    private final RepositoryCache cache;
+    @Getter
+    private final FirstLevelCache firstLevelCache;
+
+    // Guarded by this. All other state is only accessed from the operation chain, which provides happens-before
+    private final List<YdbRepository.Query<?>> pendingWrites = new ArrayList<>();
+    private CompletableFuture<?> tail = CompletableFuture.completedFuture(null);
+    private String closeAction = null;
+
+    private CompletableFuture<Session> session = null;
+    private String txId = null;
+    private boolean isBadSession = false;
+
+    public YdbAsyncTransaction(@NonNull YdbRepository repo, @NonNull TxOptions options) {
+        Preconditions.checkArgument(!options.isScan(), "Scan transactions cannot be run asynchronously");
+        this.repo = repo;
+        this.options = options;
+        this.cache = options.isFirstLevelCache() ? new RepositoryCacheImpl() : RepositoryCache.empty();
+        this.firstLevelCache = options.isFirstLevelCache() ? FirstLevelCache.create() : FirstLevelCache.empty();
+    }
+
+    @Override
+    public <T extends Entity<T>> AsyncTable<T> table(Class<T> c) {
+        return new AsyncTable<>(TableDescriptor.from(EntitySchema.of(c)), this);
+    }
+
+    @Override
+    public <T extends Entity<T>> AsyncTable<T> table(TableDescriptor<T> tableDescriptor) {
+        return new AsyncTable<>(tableDescriptor, this);
+    }
+
+    @Override
+    public <PARAMS, RESULT> CompletableFuture<List<RESULT>> execute(Statement<PARAMS, RESULT> statement, PARAMS params) {
+        return enqueue(() -> doExecute(statement, params));
+    }
+
+    @Override
+    public <PARAMS> void pendingExecute(Statement<PARAMS, ?> statement, PARAMS value) {
+        if (options.isReadOnly()) {
+            throw new IllegalTransactionIsolationLevelException("Mutable operations", options.getIsolationLevel());
+        }
+        synchronized (this) {
+            checkNotClosed();
+            pendingWrites.add(new YdbRepository.Query<>(statement, value));
+        }
+    }
+
+    /**
+     * Flushes pending writes and commits the transaction.
+     *
+     * @return future that completes when the transaction is committed
+     */
+    public CompletableFuture<Void> commit() {
+        return enqueue(() -> flushPendingWrites()
+                .thenCompose(__ -> isFinalActionNeeded("commit") ? doCommit() : CompletableFuture.completedFuture(null))
+                .thenRun(() -> close("commit")));
+    }
+
+    /**
+     * Rolls back the transaction. Does nothing if the transaction has already been committed or rolled back.
+     * Rollback errors are logged and otherwise ignored.
+     *
+     * @return future that completes when the transaction is rolled back
+     */
+    public synchronized CompletableFuture<Void> rollback() {
+        if (closeAction != null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        closeAction = "rollback";
+        pendingWrites.clear();
+
+        // Rollback must run even if the last operation in the chain has failed
+        CompletableFuture<Void> result = tail.handle((__, ___) -> null).thenCompose(__ -> {
+            if (!isFinalActionNeeded("rollback")) {
+                return CompletableFuture.completedFuture(null);
+            }
+            return session
+                    .thenCompose(s -> s.rollbackTransaction(txId, new RollbackTxSettings()))
+                    .thenAccept(status -> validate("rollback", status));
+        }).handle((__, e) -> {
+            if (e != null) {
+                log.info("Failed to rollback the transaction", e);
+            }
+            releaseSession();
+            return null;
+        });
+        tail = result;
+        return result;
+    }
+
+    private synchronized <R> CompletableFuture<R> enqueue(Supplier<CompletableFuture<R>> operation) {
+        checkNotClosed();
+        // Each operation starts after the previous one completes, even if the previous one failed: the caller
+        // decides whether to continue the transaction after an error
+        CompletableFuture<R> result = tail.handle((__, ___) -> null).thenCompose(__ -> operation.get());
+        tail = result;
+        return result;
+    }
+
+    private void checkNotClosed() {
+        if (closeAction != null) {
+            throw new IllegalStateException("Transaction already closed by " + closeAction);
+        }
+    }
+
+    private <PARAMS, RESULT> CompletableFuture<List<RESULT>> doExecute(Statement<PARAMS, RESULT> statement, PARAMS params) {
+        List<RESULT> cached = statement.readFromCache(params, cache);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        String yql = statement.getYql(repo.getTablespace());
+        Params sdkParams = params == null ? Params.empty() : Params.copyOf(statement.toSdkParameters(params));
+        ExecuteDataQuerySettings settings = new ExecuteDataQuerySettings();
+        if (!statement.isPreparable()) {
+            settings.disableQueryCache();
+        }
+        TxOptions.TimeoutOptions timeoutOptions = options.minTimeoutOptions(null);
+        settings.setTimeout(timeoutOptions.getTimeout());
+        settings.setCancelAfter(timeoutOptions.getCancelAfter());
+
+        return getSession()
+                .thenCompose(s -> sdkCall(s.executeDataQuery(
+                        yql, YdbRepositoryTransaction.getTxControl(options.getIsolationLevel(), txId), sdkParams, settings
+                )))
+                .thenApply(result -> {
+                    List<RESULT> res = readResults(statement, yql, result);
+                    statement.storeToCache(params, res, cache);
+                    return res;
+                });
+    }
+
+    private <RESULT> List<RESULT> readResults(Statement<?, RESULT> statement, String yql, Result<DataQueryResult> result) {
+        if (result.isSuccess()) {
+            txId = emptyToNull(result.getValue().getTxId());
+        }
+
+        validatePkConstraint(result.getStatus().getIssues());
+        validate(yql, result.getStatus());
+
+        ResultSetReader resultSet = YdbRepositoryTransaction.getSingleResultSet(yql, result.getValue());
+        return resultSet == null ? List.of() : statement.readResults(resultSet).collect(toList());
+    }
+
+    private CompletableFuture<Void> flushPendingWrites() {
+        List<YdbRepository.Query<?>> writes;
+        synchronized (this) {
+            writes = List.copyOf(pendingWrites);
+            pendingWrites.clear();
+        }
+
+        CompletableFuture<Void> result = CompletableFuture.completedFuture(null);
+        QueriesMerger merger = options.isCombinedWrites()
+                ? QueriesMerger.createMultiStatement(cache)
+                : QueriesMerger.create(cache);
+        if (options.isPartialUpdates()) {
+            merger = merger.withPartialUpdates();
+        }
+        for (YdbRepository.Query<?> query : merger.merge(writes)) {
+            result = result.thenCompose(__ -> executeWrite(query));
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <PARAMS> CompletableFuture<Void> executeWrite(YdbRepository.Query<PARAMS> query) {
+        PARAMS params = query.getValues().size() == 1
+                ? query.getValues().get(0)
+                : (PARAMS) query.getValues();
+        return doExecute(query.getStatement(), params).thenApply(__ -> null);
+    }
+
+    private CompletableFuture<Void> doCommit() {
+        return session
+                .thenCompose(s -> sdkCall(s.commitTransaction(txId, new CommitTxSettings())))
+                .thenAccept(status -> {
+                    try {
+                        validatePkConstraint(status.getIssues());
+                        validate("commit", status);
+                    } catch (YdbComponentUnavailableException | YdbOverloadedException e) {
+                        throw new UnavailableException("Unknown transaction state: commit was sent, but result is unknown", e);
+                    }
+                });
+    }
+
+    private boolean isFinalActionNeeded(String actionName) {
+        if (session == null || isBadSession) {
+            log.debug("No-op {}: no active DB session", actionName);
+            return false;
+        }
+        if (options.isReadOnly() && options.getIsolationLevel() != IsolationLevel.SNAPSHOT) {
+            log.debug("No-op {}: read-only tx @{}", actionName, options.getIsolationLevel());
+            return false;
+        }
+        if (txId == null) {
+            log.debug("No-op {}: no active transaction in session", actionName);
+            return false;
+        }
+        return true;
+    }
+
+    private void close(String actionName) {
+        synchronized (this) {
+            closeAction = actionName;
+        }
+        releaseSession();
+    }
+
+    private void releaseSession() {
+        if (session != null) {
+            // NB: We use getSessionManager() method to allow mocking YdbRepository
+            boolean discard = isBadSession;
+            session.thenAccept(s -> {
+                if (discard) {
+                    repo.getSessionManager().discard(s);
+                } else {
+                    repo.getSessionManager().release(s);
+                }
+            });
+            session = null;
+        }
+    }
+
+    private CompletableFuture<Session> getSession() {
+        if (session == null) {
+            session = repo.getSessionManager().getSessionAsync();
+        }
+        return session;
+    }
+
+    private void validate(String request, Status status) {
+        if (!isBadSession) {
+            isBadSession = YdbValidator.isTransactionClosedByServer(status.getCode());
+        }
+        YdbValidator.validate(request, status.getCode(), status.toString());
+    }
+
+    private static <T> CompletableFuture<T> sdkCall(CompletableFuture<T> future) {
+        return future.handle((result, e) -> {
+            if (e != null) {
+                throw YdbOperations.convertToRepositoryException(e);
+            }
+            return result;
+        });
+    }
+}
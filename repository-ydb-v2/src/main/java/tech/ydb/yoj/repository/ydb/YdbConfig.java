@@ -40,7 +40,8 @@ public class YdbConfig {
                 false,
                 false,
                 null,
-                true
+                true,
+                null
         );
     }
 
@@ -107,6 +108,16 @@ public class YdbConfig {
     @With
     Boolean useSingleChannelTransport;
 
+    /**
+     * If set, each thread reuses the session of its previous transaction, if the session has been idle for
+     * at most this time. At most half of the {@link #getSessionPoolMax() session pool} is kept for the threads.
+     * If {@code null} (default), each transaction gets a session from the session pool.
+     *
+     * @see tech.ydb.yoj.repository.ydb.client.ThreadAffinitySessionManager
+     */
+    @With
+    Duration sessionAffinityMaxIdleTime;
+
     public Duration getSessionCreationTimeout() {
         return Optional.ofNullable(sessionCreationTimeout).orElse(SESSION_CREATE_TIMEOUT_DEFAULT);
     }
@@ -22,6 +22,7 @@ import tech.ydb.yoj.repository.db.SchemaOperations;
 import tech.ydb.yoj.repository.db.TableDescriptor;
 import tech.ydb.yoj.repository.db.TxOptions;
 import tech.ydb.yoj.repository.ydb.client.SessionManager;
+import tech.ydb.yoj.repository.ydb.client.ThreadAffinitySessionManager;
 import tech.ydb.yoj.repository.ydb.client.YdbPaths;
 import tech.ydb.yoj.repository.ydb.client.YdbSchemaOperations;
 import tech.ydb.yoj.repository.ydb.client.YdbSessionManager;
@@ -33,6 +34,7 @@ import tech.ydb.yoj.util.function.MoreSuppliers;
 import tech.ydb.yoj.util.function.MoreSuppliers.CloseableMemoizer;
 
 import java.lang.reflect.Field;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -80,12 +82,20 @@ public class YdbRepository implements Repository {
         this.entityClassesByTableName = new ConcurrentHashMap<>();
         this.transport = transport;
 
-        CloseableMemoizer<SessionManager> sessionManager = MoreSuppliers.memoizeCloseable(() -> new YdbSessionManager(config, transport));
+        CloseableMemoizer<SessionManager> sessionManager = MoreSuppliers.memoizeCloseable(() -> createSessionManager(config, transport));
         this.sessionManager = sessionManager;
 
         this.schemaOperations = MoreSuppliers.memoize(() -> buildSchemaOperations(config.getTablespace(), transport, sessionManager.get()));
     }
 
+    private static SessionManager createSessionManager(YdbConfig config, GrpcTransport transport) {
+        SessionManager sessionManager = new YdbSessionManager(config, transport);
+        Duration affinityMaxIdleTime = config.getSessionAffinityMaxIdleTime();
+        return affinityMaxIdleTime == null
+                ? sessionManager
+                : new ThreadAffinitySessionManager(sessionManager, affinityMaxIdleTime, config.getSessionPoolMax() / 2);
+    }
+
     private static GrpcTransport makeGrpcTransport(
             @NonNull YdbConfig config,
             @NonNull AuthProvider authProvider,
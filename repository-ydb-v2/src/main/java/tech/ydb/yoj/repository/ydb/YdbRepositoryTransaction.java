@@ -37,19 +37,21 @@ import tech.ydb.yoj.repository.db.IsolationLevel;
 import tech.ydb.yoj.repository.db.RepositoryTransaction;
 import tech.ydb.yoj.repository.db.Table;
 import tech.ydb.yoj.repository.db.TableDescriptor;
+import tech.ydb.yoj.repository.db.TxDeadline;
 import tech.ydb.yoj.repository.db.TxOptions;
 import tech.ydb.yoj.repository.db.bulk.BulkParams;
 import tech.ydb.yoj.repository.db.cache.RepositoryCache;
 import tech.ydb.yoj.repository.db.cache.RepositoryCacheImpl;
 import tech.ydb.yoj.repository.db.cache.TransactionLocal;
+import tech.ydb.yoj.repository.db.exception.DeadlineExceededException;
 import tech.ydb.yoj.repository.db.exception.IllegalTransactionIsolationLevelException;
 import tech.ydb.yoj.repository.db.exception.IllegalTransactionScanException;
 import tech.ydb.yoj.repository.db.exception.OptimisticLockException;
 import tech.ydb.yoj.repository.db.exception.RepositoryException;
+import tech.ydb.yoj.repository.db.exception.RetryableException;
 import tech.ydb.yoj.repository.db.exception.UnavailableException;
 import tech.ydb.yoj.repository.db.readtable.ReadTableParams;
 import tech.ydb.yoj.repository.ydb.bulk.BulkMapper;
-import tech.ydb.yoj.repository.ydb.client.ResultSetConverter;
 import tech.ydb.yoj.repository.ydb.client.YdbConverter;
 import tech.ydb.yoj.repository.ydb.client.YdbValidator;
 import tech.ydb.yoj.repository.ydb.exception.BadSessionException;
@@ -66,13 +68,15 @@ import tech.ydb.yoj.util.lang.Interrupts;
 
 import javax.annotation.Nullable;
 import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static com.google.common.base.Strings.emptyToNull;
@@ -84,6 +88,7 @@ import static tech.ydb.yoj.repository.ydb.client.YdbValidator.validateTruncatedR
 public class YdbRepositoryTransaction<REPO extends YdbRepository>
         implements BaseDb, RepositoryTransaction, YdbTable.QueryExecutor, TransactionLocal.Holder {
     private static final Logger log = LoggerFactory.getLogger(YdbRepositoryTransaction.class);
+    private static final int DEFAULT_STREAMING_BULK_UPSERT_CHUNK_ROWS = 1000;
 
     private final List<YdbRepository.Query<?>> pendingWrites = new ArrayList<>();
     private final List<YdbSpliterator<?>> spliterators = new ArrayList<>();
@@ -102,6 +107,8 @@ public class YdbRepositoryTransaction<REPO extends YdbRepository>
     private String firstNonNullTxId = null; // used for logs
     private String closeAction = null; // used to detect of usage transaction after commit()/rollback()
     private boolean isBadSession = false;
+    private boolean commitWithQuery = false; // next data query commits the transaction
+    private boolean committedWithQuery = false;
 
     public YdbRepositoryTransaction(REPO repo, @NonNull TxOptions options) {
         this.repo = repo;
@@ -132,7 +139,7 @@ public class YdbRepositoryTransaction<REPO extends YdbRepository>
             log.error("Transaction was invalidated, but exception was omitted. Commit must not be called after error");
         }
         try {
-            flushPendingWrites();
+            flushPendingWritesAndCommit();
         } catch (Throwable t) {
             rollback();
             throw t;
@@ -155,8 +162,12 @@ public class YdbRepositoryTransaction<REPO extends YdbRepository>
     }
 
     private void doCommit() {
+        CommitTxSettings settings = new CommitTxSettings();
+        if (options.getDeadline() != null) {
+            settings.setTimeout(options.minTimeoutOptions(null).getTimeout());
+        }
         try {
-            Status status = YdbOperations.safeJoin(session.commitTransaction(txId, new CommitTxSettings()));
+            Status status = YdbOperations.safeJoin(session.commitTransaction(txId, settings));
             validatePkConstraint(status.getIssues());
             validate("commit", status.getCode(), status.toString());
         } catch (YdbComponentUnavailableException | YdbOverloadedException e) {
@@ -164,6 +175,93 @@ public class YdbRepositoryTransaction<REPO extends YdbRepository>
         }
     }
 
+    private final class BulkUpsertRequest {
+        private final String tableName;
+        private final ListValue rows;
+        private final BulkUpsertSettings settings;
+        private int attempt = 1;
+        private CompletableFuture<Status> future;
+
+        private BulkUpsertRequest(String tableName, ListValue rows, BulkUpsertSettings settings) {
+            this.tableName = tableName;
+            this.rows = rows;
+            this.settings = settings;
+        }
+
+        private BulkUpsertRequest send() {
+            future = session.executeBulkUpsert(tableName, rows, settings);
+            return this;
+        }
+
+        private void cancel() {
+            future.cancel(true);
+        }
+    }
+
+    /**
+     * Encodes bulk upsert input into chunks of rows, limited by {@link BulkParams#getMaxChunkRows() row count} and
+     * {@link BulkParams#getMaxChunkBytes() approximate size}. Input is consumed lazily, one chunk at a time.
+     */
+    private static final class BulkUpsertChunks<IN> {
+        private final BulkMapper<IN> mapper;
+        private final Iterator<IN> input;
+        private final int maxRows;
+        private final long maxBytes;
+
+        private StructValue pendingRow;
+        private long pendingRowBytes;
+
+        private BulkUpsertChunks(BulkMapper<IN> mapper, Iterator<IN> input, BulkParams params, int defaultMaxRows) {
+            this.mapper = mapper;
+            this.input = input;
+            this.maxRows = params.getMaxChunkRows() > 0 ? params.getMaxChunkRows() : defaultMaxRows;
+            this.maxBytes = params.getMaxChunkBytes() > 0 ? params.getMaxChunkBytes() : Long.MAX_VALUE;
+        }
+
+        private boolean hasNext() {
+            return pendingRow != null || input.hasNext();
+        }
+
+        private ListValue next() {
+            List<Value<?>> rows = new ArrayList<>();
+            long bytes = 0;
+            while (rows.size() < maxRows) {
+                if (pendingRow == null) {
+                    if (!input.hasNext()) {
+                        break;
+                    }
+                    encode(input.next());
+                }
+                if (!rows.isEmpty() && bytes + pendingRowBytes > maxBytes) {
+                    break;
+                }
+                rows.add(pendingRow);
+                bytes += pendingRowBytes;
+                pendingRow = null;
+            }
+            return ListValue.of(rows.toArray(Value[]::new));
+        }
+
+        private void encode(IN entity) {
+            Map<String, ValueProtos.TypedValue> columns = mapper.map(entity);
+            Map<String, Value<?>> values = new HashMap<>(columns.size());
+            long bytes = 0;
+            for (Map.Entry<String, ValueProtos.TypedValue> column : columns.entrySet()) {
+                values.put(column.getKey(), YdbConverter.toSDK(column.getValue()));
+                bytes += column.getKey().length() + column.getValue().getSerializedSize();
+            }
+            pendingRow = StructValue.of(values);
+            pendingRowBytes = bytes;
+        }
+    }
+
+    private void checkDeadline(String action) {
+        TxDeadline deadline = options.getDeadline();
+        if (deadline != null && deadline.isExpired()) {
+            throw new DeadlineExceededException("Transaction deadline exceeded before " + action);
+        }
+    }
+
     private void closeStreams() {
         Exception summaryException = null;
         for (YdbSpliterator<?> spliterator : spliterators) {
@@ -196,6 +294,10 @@ public class YdbRepositoryTransaction<REPO extends YdbRepository>
     }
 
     private boolean isFinalActionNeeded(String actionName) {
+        if (committedWithQuery) {
+            transactionLocal.log().info("No-op %s: tx was committed by the last write", actionName);
+            return false;
+        }
         if (session == null || isBadSession) {
             transactionLocal.log().info("No-op %s: no active DB session", actionName);
             return false;
@@ -231,14 +333,23 @@ public class YdbRepositoryTransaction<REPO extends YdbRepository>
             if (session != null) {
                 transactionLocal.log().info("[[%s]] TOTAL (txId=%s,sessionId=%s)", sessionSw, firstNonNullTxId, session.getId());
                 // NB: We use getSessionManager() method to allow mocking YdbRepository
-                repo.getSessionManager().release(session);
+                if (isBadSession) {
+                    repo.getSessionManager().discard(session);
+                } else {
+                    repo.getSessionManager().release(session);
+                }
                 session = null;
             }
         }
     }
 
     private TxControl<?> getTxControl() {
-        return switch (options.getIsolationLevel()) {
+        TxControl<?> txControl = getTxControl(options.getIsolationLevel(), txId);
+        return commitWithQuery ? txControl.setCommitTx(true) : txControl;
+    }
+
+    static TxControl<?> getTxControl(IsolationLevel isolationLevel, @Nullable String txId) {
+        return switch (isolationLevel) {
             case SERIALIZABLE_READ_WRITE -> {
                 TxControl<?> txControl = (txId != null ? TxControl.id(txId) : TxControl.serializableRw());
                 yield txControl.setCommitTx(false);
@@ -254,19 +365,44 @@ public class YdbRepositoryTransaction<REPO extends YdbRepository>
     }
 
     private String getYql(Statement<?, ?> statement) {
-        return "--!syntax_v1\n" + statement.getQuery(repo.getTablespace());
+        return statement.getYql(repo.getTablespace());
     }
 
     private <PARAMS> Params getSdkParams(Statement<PARAMS, ?> statement, PARAMS params) {
-        Map<String, ValueProtos.TypedValue> values = params == null ? Map.of() : statement.toQueryParameters(params);
-        return YdbConverter.convertToParams(values);
+        return params == null ? Params.empty() : Params.copyOf(statement.toSdkParameters(params));
     }
 
-    private void flushPendingWrites() {
+    /**
+     * Flushes pending writes. The last write also commits the transaction, which saves a separate commit request.
+     * If there is nothing to write, the transaction is committed later, by {@link #doCommit()}.
+     */
+    private void flushPendingWritesAndCommit() {
         transactionLocal.projectionCache().applyProjectionChanges(this);
-        QueriesMerger.create(cache)
-                .merge(pendingWrites)
-                .forEach(this::execute);
+        QueriesMerger merger = options.isCombinedWrites()
+                ? QueriesMerger.createMultiStatement(cache)
+                : QueriesMerger.create(cache);
+        if (options.isPartialUpdates()) {
+            merger = merger.withPartialUpdates();
+        }
+        List<YdbRepository.Query<?>> queries = merger.merge(pendingWrites);
+        for (int i = 0; i < queries.size() - 1; i++) {
+            execute(queries.get(i));
+        }
+        if (!queries.isEmpty()) {
+            executeAndCommit(queries.get(queries.size() - 1));
+        }
+    }
+
+    private void executeAndCommit(YdbRepository.Query<?> query) {
+        commitWithQuery = true;
+        try {
+            execute(query);
+        } catch (YdbComponentUnavailableException | YdbOverloadedException e) {
+            throw new UnavailableException("Unknown transaction state: commit was sent, but result is unknown", e);
+        } finally {
+            commitWithQuery = false;
+        }
+        committedWithQuery = true;
     }
 
     @Override
@@ -297,7 +433,40 @@ public class YdbRepositoryTransaction<REPO extends YdbRepository>
         return result;
     }
 
+    /**
+     * Executes a data query and returns a stream which converts result set rows as they are consumed, so that only
+     * the raw query result, and not all the converted results, is held in memory at once. Results read this way are
+     * not stored in the query result cache of the transaction.
+     * <p>Scan transactions fall back to {@link #execute(Statement, Object) reading all the results}.
+     */
+    @Override
+    public <PARAMS, RESULT> Stream<RESULT> executeStream(Statement<PARAMS, RESULT> statement, PARAMS params) {
+        if (options.isScan()) {
+            List<RESULT> result = execute(statement, params);
+            return result == null ? Stream.empty() : result.stream();
+        }
+
+        List<RESULT> cached = statement.readFromCache(params, cache);
+        if (cached != null) {
+            return cached.stream();
+        }
+
+        ResultSetReader resultSet = doCall(statement.toDebugString(params), () -> doExecuteDataQueryRaw(statement, params));
+        if (resultSet == null) {
+            return Stream.empty();
+        }
+        trace(statement, resultSet);
+        return statement.readResults(resultSet);
+    }
+
     private <PARAMS, RESULT> List<RESULT> doExecuteDataQuery(Statement<PARAMS, RESULT> statement, PARAMS params) {
+        ResultSetReader resultSet = doExecuteDataQueryRaw(statement, params);
+        return resultSet == null ? null : statement.readResults(resultSet).collect(toList());
+    }
+
+    @Nullable
+    private <PARAMS> ResultSetReader doExecuteDataQueryRaw(Statement<PARAMS, ?> statement, PARAMS params) {
+        checkDeadline("query");
         String yql = getYql(statement);
         TxControl<?> txControl = getTxControl();
         Params sdkParams = getSdkParams(statement, params);
@@ -332,7 +501,11 @@ public class YdbRepositoryTransaction<REPO extends YdbRepository>
         validatePkConstraint(result.getStatus().getIssues());
         validate(yql, result.getStatus().getCode(), result.toString());
 
-        DataQueryResult queryResult = result.getValue();
+        return getSingleResultSet(yql, result.getValue());
+    }
+
+    @Nullable
+    static ResultSetReader getSingleResultSet(String yql, DataQueryResult queryResult) {
         if (queryResult.getResultSetCount() > 1) {
             throw new YdbRepositoryException("Multi-table queries are not supported", yql, queryResult);
         }
@@ -341,8 +514,7 @@ public class YdbRepositoryTransaction<REPO extends YdbRepository>
         }
         validateTruncatedResults(yql, queryResult);
 
-        ResultSetReader resultSet = queryResult.getResultSet(0);
-        return new ResultSetConverter(resultSet).stream(statement::readResult).collect(toList());
+        return queryResult.getResultSet(0);
     }
 
     private <PARAMS, RESULT> List<RESULT> doExecuteScanQueryLegacy(Statement<PARAMS, RESULT> statement, PARAMS params) {
@@ -362,7 +534,7 @@ public class YdbRepositoryTransaction<REPO extends YdbRepository>
                         yql, result.size()
                 );
             }
-            new ResultSetConverter(rs).stream(statement::readResult).forEach(result::add);
+            statement.readResults(rs).forEach(result::add);
         }));
 
         validate("SCAN_QUERY: " + yql, status.getCode(), status.toString());
@@ -405,7 +577,7 @@ public class YdbRepositoryTransaction<REPO extends YdbRepository>
         initSession();
         session.executeScanQuery(
                 yql, sdkParams, settings,
-                rs -> new ResultSetConverter(rs).stream(statement::readResult).forEach(spliterator::onNext)
+                rs -> statement.readResults(rs).forEach(spliterator::onNext)
         ).whenComplete(spliterator::onSupplierThreadComplete);
 
         return spliterator.createStream();
@@ -439,42 +611,67 @@ public class YdbRepositoryTransaction<REPO extends YdbRepository>
 
     @Override
     public <IN> void bulkUpsert(BulkMapper<IN> mapper, List<IN> input, BulkParams params) {
+        bulkUpsert(mapper, input.iterator(), params, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public <IN> void bulkUpsert(BulkMapper<IN> mapper, Iterator<IN> input, BulkParams params) {
+        bulkUpsert(mapper, input, params, DEFAULT_STREAMING_BULK_UPSERT_CHUNK_ROWS);
+    }
+
+    /**
+     * @param defaultMaxChunkRows maximum number of rows per request if {@link BulkParams#getMaxChunkRows()} is not set
+     */
+    private <IN> void bulkUpsert(BulkMapper<IN> mapper, Iterator<IN> input, BulkParams params, int defaultMaxChunkRows) {
         String tableName = mapper.getTableName(repo.getTablespace());
 
         doCall("bulk upsert to table " + mapper.getTableName(""), () -> {
-            var values = input.stream().map(x -> StructValue.of(
-                            mapper.map(x).entrySet().stream()
-                                    .collect(
-                                            Collectors.toMap(
-                                                    Map.Entry::getKey,
-                                                    entry -> YdbConverter.toSDK(entry.getValue())
-                                            )
-                                    )
-                    )
-            ).toArray(tech.ydb.table.values.Value[]::new);
-
             var settings = new BulkUpsertSettings();
             settings.setTimeout(params.getTimeout());
             settings.setCancelAfter(params.getCancelAfter());
             settings.setTraceId(params.getTraceId());
 
+            // Next chunk is encoded while the previous ones are being sent, so at most (parallelism + 1) chunks are in memory
+            var chunks = new BulkUpsertChunks<>(mapper, input, params, defaultMaxChunkRows);
+            var inFlight = new ArrayDeque<BulkUpsertRequest>();
             try {
-                Status status = YdbOperations.safeJoin(
-                        session.executeBulkUpsert(
-                                tableName,
-                                ListValue.of(values),
-                                settings
-                        )
-                );
-                validate("bulkInsert", status.getCode(), status.toString());
+                do {
+                    ListValue rows = chunks.next();
+                    while (inFlight.size() >= Math.max(1, params.getParallelism())) {
+                        awaitBulkUpsert(inFlight.removeFirst(), params);
+                    }
+                    inFlight.addLast(new BulkUpsertRequest(tableName, rows, settings).send());
+                } while (chunks.hasNext());
+
+                while (!inFlight.isEmpty()) {
+                    awaitBulkUpsert(inFlight.removeFirst(), params);
+                }
             } catch (RepositoryException e) {
                 throw e;
             } catch (Exception e) {
                 throw new UnexpectedException("Could not bulk insert into table " + tableName, e);
+            } finally {
+                inFlight.forEach(BulkUpsertRequest::cancel);
             }
         });
     }
 
+    private void awaitBulkUpsert(BulkUpsertRequest request, BulkParams params) {
+        while (true) {
+            Status status = YdbOperations.safeJoin(request.future);
+            try {
+                validate("bulkInsert", status.getCode(), status.toString());
+                return;
+            } catch (RetryableException e) {
+                if (request.attempt > params.getMaxChunkRetries()) {
+                    throw e;
+                }
+                e.sleep(request.attempt++);
+                request.send();
+            }
+        }
+    }
+
     @Override
     public <PARAMS, RESULT> Stream<RESULT> readTable(ReadTableMapper<PARAMS, RESULT> mapper, ReadTableParams<PARAMS> params) throws RepositoryException {
         if (options.isReadWrite()) {
@@ -507,7 +704,7 @@ public class YdbRepositoryTransaction<REPO extends YdbRepository>
             initSession();
             session.readTable(
                     tableName, settings.build(),
-                    resultSet -> new ResultSetConverter(resultSet).stream(mapper::mapResult).forEach(spliterator::onNext)
+                    resultSet -> mapper.mapResults(resultSet).forEach(spliterator::onNext)
             ).whenComplete(spliterator::onSupplierThreadComplete);
 
             return spliterator.createStream();
@@ -520,7 +717,7 @@ public class YdbRepositoryTransaction<REPO extends YdbRepository>
                                 session.readTable(
                                         tableName,
                                         settings.build(),
-                                        rs -> new ResultSetConverter(rs).stream(mapper::mapResult).forEach(action)
+                                        rs -> mapper.mapResults(rs).forEach(action)
                                 ),
                                 params.getTimeout().plusMinutes(5)
                         );
@@ -571,7 +768,9 @@ public class YdbRepositoryTransaction<REPO extends YdbRepository>
     }
 
     private String debugResult(Object result) {
-        if (result instanceof Iterable) {
+        if (result instanceof ResultSetReader resultSet) {
+            return "[" + resultSet.getRowCount() + " rows]";
+        } else if (result instanceof Iterable) {
             int size = Iterables.size((Iterable<?>) result);
             return size == 1 ? String.valueOf(((Iterable<?>) result).iterator().next()) : "[" + size + "]";
         } else {
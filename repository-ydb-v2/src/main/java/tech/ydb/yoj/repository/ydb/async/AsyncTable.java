@@ -0,0 +1,169 @@
+package tech.ydb.yoj.repository.ydb.async;
+
+import lombok.NonNull;
+import tech.ydb.yoj.databind.schema.Schema;
+import tech.ydb.yoj.repository.db.Entity;
+import tech.ydb.yoj.repository.db.EntitySchema;
+import tech.ydb.yoj.repository.db.TableDescriptor;
+import tech.ydb.yoj.repository.db.TxOptions;
+import tech.ydb.yoj.repository.db.cache.FirstLevelCache;
+import tech.ydb.yoj.repository.db.exception.IllegalTransactionIsolationLevelException;
+import tech.ydb.yoj.repository.ydb.statement.DeleteByIdStatement;
+import tech.ydb.yoj.repository.ydb.statement.FindAllYqlStatement;
+import tech.ydb.yoj.repository.ydb.statement.FindInStatement;
+import tech.ydb.yoj.repository.ydb.statement.FindYqlStatement;
+import tech.ydb.yoj.repository.ydb.statement.InsertYqlStatement;
+import tech.ydb.yoj.repository.ydb.statement.Statement;
+import tech.ydb.yoj.repository.ydb.statement.UpsertYqlStatement;
+import tech.ydb.yoj.repository.ydb.statement.YqlStatement;
+import tech.ydb.yoj.repository.ydb.statement.YqlStatementCache;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static tech.ydb.yoj.repository.db.EntityExpressions.defaultOrder;
+
+/**
+ * Non-blocking counterpart of {@link tech.ydb.yoj.repository.db.Table Table}, for use in
+ * {@link YdbAsyncTxManager#txAsync(java.util.function.Function) asynchronous transactions}.
+ * Reads return {@code CompletableFuture}s that complete when YDB returns the results.
+ * Writes are buffered and sent to YDB when the transaction commits.
+ * <p>As in {@link tech.ydb.yoj.repository.db.Table Table}, entities read and written by the transaction are kept in its
+ * first-level cache, so {@link #find(Entity.Id) finding an entity by ID} after writing it returns the written entity.
+ * Results of reads which complete after the entity has been written do not replace the written entity in the cache.
+ * <p>Only the most common operations are supported. Projections are not supported: writes to entities with
+ * {@link Entity#createProjections() projections} do not update the projections.
+ *
+ * @param <T> entity type
+ */
+public final class AsyncTable<T extends Entity<T>> {
+    private final QueryExecutor executor;
+    private final EntitySchema<T> schema;
+    private final TableDescriptor<T> tableDescriptor;
+
+    public AsyncTable(@NonNull TableDescriptor<T> tableDescriptor, @NonNull QueryExecutor executor) {
+        this.executor = executor;
+        this.schema = EntitySchema.of(tableDescriptor.entityType());
+        this.tableDescriptor = tableDescriptor;
+    }
+
+    public CompletableFuture<T> find(@NonNull Entity.Id<T> id) {
+        if (id.isPartial()) {
+            throw new IllegalArgumentException("Cannot use partial id in find method");
+        }
+        FirstLevelCache cache = executor.getFirstLevelCache();
+        synchronized (cache) {
+            if (cache.containsKey(id)) {
+                return CompletableFuture.completedFuture(cache.peek(id).orElse(null));
+            }
+        }
+
+        FindYqlStatement<Entity.Id<T>, T, T> statement = cached(FindYqlStatement.class, schema,
+                () -> new FindYqlStatement<>(tableDescriptor, schema, schema));
+        return executor.execute(statement, id).thenApply(res -> {
+            synchronized (cache) {
+                if (!cache.containsKey(id)) {
+                    if (res.isEmpty()) {
+                        cache.putEmpty(id);
+                    } else {
+                        cache.put(res.get(0).postLoad());
+                    }
+                }
+                return cache.peek(id).orElse(null);
+            }
+        });
+    }
+
+    public <ID extends Entity.Id<T>> CompletableFuture<List<T>> find(@NonNull Set<ID> ids) {
+        if (ids.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+        var statement = FindInStatement.from(
+                tableDescriptor, schema, schema, ids, null, defaultOrder(tableDescriptor.entityType()), null
+        );
+        return executor.execute(statement, ids).thenApply(this::postLoad);
+    }
+
+    public CompletableFuture<List<T>> findAll() {
+        FindAllYqlStatement<?, T, T> statement = cached(FindAllYqlStatement.class, schema,
+                () -> new FindAllYqlStatement<>(tableDescriptor, schema, schema));
+        return executor.execute(statement, null).thenApply(this::postLoad);
+    }
+
+    public T insert(@NonNull T t) {
+        checkWritable("insert");
+        InsertYqlStatement<T, T> statement = cached(InsertYqlStatement.class, schema,
+                () -> new InsertYqlStatement<>(tableDescriptor, schema));
+        T entityToSave = t.preSave();
+        executor.pendingExecute(statement, entityToSave);
+        putToCache(entityToSave);
+        return t;
+    }
+
+    public T save(@NonNull T t) {
+        checkWritable("save");
+        UpsertYqlStatement<T, T> statement = cached(UpsertYqlStatement.class, schema,
+                () -> new UpsertYqlStatement<>(tableDescriptor, schema));
+        T entityToSave = t.preSave();
+        executor.pendingExecute(statement, entityToSave);
+        putToCache(entityToSave);
+        return t;
+    }
+
+    public void delete(@NonNull Entity.Id<T> id) {
+        checkWritable("delete");
+        DeleteByIdStatement<Entity.Id<T>, T> statement = cached(DeleteByIdStatement.class, schema,
+                () -> new DeleteByIdStatement<>(tableDescriptor, schema));
+        executor.pendingExecute(statement, id);
+        FirstLevelCache cache = executor.getFirstLevelCache();
+        synchronized (cache) {
+            cache.putEmpty(id);
+        }
+    }
+
+    private void checkWritable(String operation) {
+        TxOptions options = executor.getOptions();
+        if (options.isReadOnly()) {
+            throw new IllegalTransactionIsolationLevelException(operation, options.getIsolationLevel());
+        }
+    }
+
+    private List<T> postLoad(List<T> list) {
+        List<T> loaded = list.stream().map(T::postLoad).toList();
+        FirstLevelCache cache = executor.getFirstLevelCache();
+        synchronized (cache) {
+            for (T e : loaded) {
+                if (!cache.containsKey(e.getId())) {
+                    cache.put(e);
+                }
+            }
+        }
+        return loaded;
+    }
+
+    private void putToCache(T entity) {
+        FirstLevelCache cache = executor.getFirstLevelCache();
+        synchronized (cache) {
+            cache.put(entity);
+        }
+    }
+
+    private <S extends YqlStatement<?, T, ?>> S cached(Class<?> statementType, Schema<?> resultSchema, Supplier<S> factory) {
+        return YqlStatementCache.get(statementType, tableDescriptor, schema, resultSchema, List.of(), factory);
+    }
+
+    public interface QueryExecutor {
+        <PARAMS, RESULT> CompletableFuture<List<RESULT>> execute(Statement<PARAMS, RESULT> statement, PARAMS params);
+
+        <PARAMS> void pendingExecute(Statement<PARAMS, ?> statement, PARAMS value);
+
+        TxOptions getOptions();
+
+        /**
+         * @return first-level cache of the transaction; it is not thread-safe, so all accesses must synchronize on it
+         */
+        FirstLevelCache getFirstLevelCache();
+    }
+}
@@ -0,0 +1,18 @@
+package tech.ydb.yoj.repository.ydb.async;
+
+import tech.ydb.yoj.repository.db.Entity;
+import tech.ydb.yoj.repository.db.TableDescriptor;
+import tech.ydb.yoj.repository.db.TxOptions;
+
+/**
+ * Transaction run by {@link YdbAsyncTxManager}. Gives access to {@link AsyncTable non-blocking tables}.
+ * <p>Unlike {@link tech.ydb.yoj.repository.db.Tx Tx}, an {@code AsyncTx} is not bound to the current thread: pass it
+ * explicitly to the code that needs it.
+ */
+public interface AsyncTx {
+    <T extends Entity<T>> AsyncTable<T> table(Class<T> c);
+
+    <T extends Entity<T>> AsyncTable<T> table(TableDescriptor<T> tableDescriptor);
+
+    TxOptions getOptions();
+}
@@ -0,0 +1,153 @@
+package tech.ydb.yoj.repository.ydb.async;
+
+import com.google.common.base.Preconditions;
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.With;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tech.ydb.yoj.repository.db.IsolationLevel;
+import tech.ydb.yoj.repository.db.TxOptions;
+import tech.ydb.yoj.repository.db.exception.RetryableException;
+import tech.ydb.yoj.repository.ydb.YdbAsyncTransaction;
+import tech.ydb.yoj.repository.ydb.YdbRepository;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static tech.ydb.yoj.repository.db.IsolationLevel.ONLINE_CONSISTENT_READ_ONLY;
+import static tech.ydb.yoj.repository.db.IsolationLevel.SERIALIZABLE_READ_WRITE;
+
+/**
+ * Runs YDB transactions without blocking the calling thread: each YDB request is sent as soon as the previous
+ * one completes, and no thread waits for the response. This allows a single node to run many more concurrent
+ * transactions than the blocking {@link tech.ydb.yoj.repository.db.TxManager TxManager} can, because with
+ * {@code TxManager} each running transaction occupies a thread.
+ * <p>Transactions are retried on {@link RetryableException}s, just like {@link tech.ydb.yoj.repository.db.StdTxManager
+ * StdTxManager} does: at most {@link #withMaxRetries(int) maxRetries} times, waiting for the
+ * {@link RetryableException#getRetryDelay(int) delay recommended by the exception} before each retry. The retry
+ * is scheduled and does not block a thread. So the transaction body must be safe to run several times, and it must
+ * not have side effects other than DB reads and writes.
+ * <p>Example:
+ * <pre>
+ * CompletableFuture&lt;Project&gt; project = asyncTxManager.txAsync(tx -&gt; tx.table(Project.class)
+ *         .find(projectId)
+ *         .thenApply(p -&gt; tx.table(Project.class).save(p.withName(newName))));
+ * </pre>
+ *
+ * @see AsyncTx
+ * @see AsyncTable
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class YdbAsyncTxManager {
+    private static final Logger log = LoggerFactory.getLogger(YdbAsyncTxManager.class);
+
+    private static final int DEFAULT_MAX_ATTEMPT_COUNT = 10;
+
+    private final YdbRepository repository;
+    @With(AccessLevel.PRIVATE)
+    private final int maxAttemptCount;
+    @With
+    private final String name;
+    @With(AccessLevel.PRIVATE)
+    private final TxOptions options;
+
+    public YdbAsyncTxManager(@NonNull YdbRepository repository) {
+        this(repository, DEFAULT_MAX_ATTEMPT_COUNT, "async-tx", TxOptions.create(SERIALIZABLE_READ_WRITE));
+    }
+
+    /**
+     * @see tech.ydb.yoj.repository.db.TxManager#withMaxRetries(int)
+     */
+    public YdbAsyncTxManager withMaxRetries(int maxRetries) {
+        Preconditions.checkArgument(maxRetries >= 0, "retry count must be >= 0");
+        return withMaxAttemptCount(1 + maxRetries);
+    }
+
+    /**
+     * @see tech.ydb.yoj.repository.db.TxManager#withTimeout(Duration)
+     */
+    public YdbAsyncTxManager withTimeout(@NonNull Duration timeout) {
+        return withOptions(options.withTimeoutOptions(new TxOptions.TimeoutOptions(timeout)));
+    }
+
+    public YdbAsyncTxManager noFirstLevelCache() {
+        return withOptions(options.withFirstLevelCache(false));
+    }
+
+    /**
+     * @return transaction manager for read-only transactions with {@link IsolationLevel#ONLINE_CONSISTENT_READ_ONLY}
+     * isolation level
+     */
+    public YdbAsyncTxManager readOnly() {
+        return withIsolationLevel(ONLINE_CONSISTENT_READ_ONLY);
+    }
+
+    public YdbAsyncTxManager withIsolationLevel(@NonNull IsolationLevel isolationLevel) {
+        return withOptions(options.withIsolationLevel(isolationLevel));
+    }
+
+    /**
+     * Runs the transaction body asynchronously, and commits the transaction when the future returned by the body
+     * completes. If the body (or commit) fails with a {@link RetryableException}, the transaction is rolled back and
+     * retried with a new {@link AsyncTx}.
+     *
+     * @param body transaction body; receives the transaction and returns the future result of the transaction
+     * @return future that completes with the transaction result after a successful commit; or completes
+     * exceptionally with the body's exception, or with {@link RetryableException#rethrow() fatal exception}
+     * if all retries have failed
+     */
+    public <T> CompletableFuture<T> txAsync(@NonNull Function<AsyncTx, ? extends CompletionStage<T>> body) {
+        return runAttempt(body, 1);
+    }
+
+    private <T> CompletableFuture<T> runAttempt(Function<AsyncTx, ? extends CompletionStage<T>> body, int attempt) {
+        YdbAsyncTransaction tx = new YdbAsyncTransaction(repository, options);
+
+        CompletableFuture<T> result;
+        try {
+            result = body.apply(tx).toCompletableFuture();
+        } catch (Exception e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+
+        return result
+                .thenCompose(r -> tx.commit().thenApply(__ -> r))
+                .exceptionallyCompose(e -> tx.rollback().thenCompose(__ -> onFailure(body, attempt, unwrap(e))));
+    }
+
+    private <T> CompletableFuture<T> onFailure(
+            Function<AsyncTx, ? extends CompletionStage<T>> body, int attempt, Throwable e
+    ) {
+        if (!(e instanceof RetryableException re)) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (attempt >= maxAttemptCount) {
+            return CompletableFuture.failedFuture(re.rethrow());
+        }
+
+        log.debug("Transaction '{}' attempt {} failed, retrying", name, attempt, re);
+        Executor delayed = CompletableFuture.delayedExecutor(re.getRetryDelay(attempt).toMillis(), MILLISECONDS);
+        return CompletableFuture.runAsync(() -> {
+        }, delayed).thenCompose(__ -> runAttempt(body, attempt + 1));
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        while ((e instanceof CompletionException || e instanceof ExecutionException) && e.getCause() != null) {
+            e = e.getCause();
+        }
+        return e;
+    }
+
+    @Override
+    public String toString() {
+        return "YdbAsyncTxManager[" + name + "]";
+    }
+}
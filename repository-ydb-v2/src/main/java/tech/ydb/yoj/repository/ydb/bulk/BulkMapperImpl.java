@@ -2,6 +2,7 @@ package tech.ydb.yoj.repository.ydb.bulk;
 
 import com.google.protobuf.NullValue;
 import tech.ydb.proto.ValueProtos;
+import tech.ydb.yoj.databind.schema.FlatRow;
 import tech.ydb.yoj.databind.schema.Schema;
 import tech.ydb.yoj.repository.db.Entity;
 import tech.ydb.yoj.repository.db.EntitySchema;
@@ -9,6 +10,7 @@ import tech.ydb.yoj.repository.db.TableDescriptor;
 import tech.ydb.yoj.repository.ydb.yql.YqlType;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public final class BulkMapperImpl<E extends Entity<E>> implements BulkMapper<E> {
@@ -27,12 +29,13 @@ public final class BulkMapperImpl<E extends Entity<E>> implements BulkMapper<E>
 
     @Override
     public Map<String, ValueProtos.TypedValue> map(E entity) {
-        var idComponents = srcSchema.flatten(entity);
+        FlatRow row = srcSchema.flattenToRow(entity);
+        List<Schema.JavaField> fields = row.getFields();
 
         var result = new HashMap<String, ValueProtos.TypedValue>();
-        for (var idField : srcSchema.flattenFields()) {
-            var idFieldValue = idComponents.get(idField.getName());
-            result.put(idField.getName(), toTypedValue(new Schema.JavaFieldValue(idField, idFieldValue), true));
+        for (int i = 0; i < fields.size(); i++) {
+            var field = fields.get(i);
+            result.put(field.getName(), toTypedValue(new Schema.JavaFieldValue(field, row.get(i)), true));
         }
 
         return result;
@@ -2,11 +2,40 @@ package tech.ydb.yoj.repository.ydb.client;
 
 import tech.ydb.table.Session;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface SessionManager extends AutoCloseable {
     Session getSession();
 
+    /**
+     * Acquires a session without blocking the calling thread.
+     * <p>Default implementation calls {@link #getSession()} on the calling thread, so session managers that can
+     * acquire sessions asynchronously should override this method.
+     *
+     * @return future that completes with the session, or with a {@code RepositoryException} if the session could
+     * not be acquired
+     */
+    default CompletableFuture<Session> getSessionAsync() {
+        try {
+            return CompletableFuture.completedFuture(getSession());
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     void release(Session session);
 
+    /**
+     * Releases a session that must not be reused as-is, e.g. because the server has closed its transaction.
+     * <p>Default implementation {@link #release(Session) releases} the session to the pool, which checks
+     * the session status on its own.
+     *
+     * @param session session to discard
+     */
+    default void discard(Session session) {
+        release(session);
+    }
+
     void warmup();
 
     void invalidateAllSessions();
@@ -0,0 +1,183 @@
+package tech.ydb.yoj.repository.ydb.client;
+
+import com.google.common.base.Preconditions;
+import io.prometheus.client.Counter;
+import lombok.NonNull;
+import tech.ydb.table.Session;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Session manager that lets each thread reuse the session of its previous transaction, instead of returning the
+ * session to the pool and acquiring a (probably different) session for the next transaction. This reduces contention
+ * on the session pool, and keeps using sessions that already have the thread's queries prepared.
+ * <p>A released session is kept for the thread that released it, and is returned to the pool if:
+ * <ul>
+ * <li>the thread does not start a new transaction in {@code maxIdleTime};</li>
+ * <li>the session has been {@link #discard(Session) discarded}, e.g. because the server has closed the transaction;</li>
+ * <li>the thread already keeps another session, e.g. after nested {@link tech.ydb.yoj.repository.db.TxManager#separate()
+ * separate} transactions;</li>
+ * <li>{@code maxIdleSessions} sessions are already kept for other threads.</li>
+ * </ul>
+ * <p>Kept sessions are not available to the other threads through the pool, so {@code maxIdleSessions} must be well
+ * below the pool size. Otherwise, sessions kept for the threads that have stopped running transactions would make
+ * the other threads wait for the pool until the kept sessions expire.
+ * <p>Sessions acquired by {@link #getSessionAsync()} are not bound to a thread and are always returned to the pool.
+ * <p>Use {@link tech.ydb.yoj.repository.ydb.YdbConfig#withSessionAffinityMaxIdleTime(Duration)} to enable.
+ */
+public final class ThreadAffinitySessionManager implements SessionManager {
+    private static final Counter affinity = Counter.build("ydb_session_affinity", "Session requests by thread affinity result")
+            .labelNames("result")
+            .register();
+    private static final Counter.Child hits = affinity.labels("hit");
+    private static final Counter.Child misses = affinity.labels("miss");
+    private static final Counter.Child expired = affinity.labels("expired");
+
+    private final SessionManager delegate;
+    private final long maxIdleNanos;
+    private final int maxIdleSessions;
+
+    private final Map<Thread, IdleSession> idleSessions = new ConcurrentHashMap<>();
+    private final AtomicInteger idleSessionCount = new AtomicInteger();
+    private final Set<Session> threadBoundSessions = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+    private volatile long lastEvictionNanos = System.nanoTime();
+
+    /**
+     * @param delegate        session pool
+     * @param maxIdleTime     maximum time a session is kept for a thread that does not start new transactions
+     * @param maxIdleSessions maximum number of sessions kept for all threads; must be less than the maximum size of
+     *                        the {@code delegate} pool, so that the pool always has sessions for other threads
+     */
+    public ThreadAffinitySessionManager(@NonNull SessionManager delegate, @NonNull Duration maxIdleTime, int maxIdleSessions) {
+        Preconditions.checkArgument(maxIdleTime.isPositive(), "maxIdleTime must be positive");
+        Preconditions.checkArgument(maxIdleSessions >= 0, "maxIdleSessions must be >= 0");
+        this.delegate = delegate;
+        this.maxIdleNanos = maxIdleTime.toNanos();
+        this.maxIdleSessions = maxIdleSessions;
+    }
+
+    @Override
+    public Session getSession() {
+        long now = System.nanoTime();
+        evictIdleSessions(now);
+
+        Thread thread = Thread.currentThread();
+        IdleSession idle = idleSessions.get(thread);
+        if (idle != null && unpark(thread, idle)) {
+            if (!isExpired(idle, now)) {
+                hits.inc();
+                return idle.session;
+            }
+            expired.inc();
+            releaseToPool(idle.session);
+        } else {
+            misses.inc();
+        }
+
+        Session session = delegate.getSession();
+        threadBoundSessions.add(session);
+        return session;
+    }
+
+    @Override
+    public CompletableFuture<Session> getSessionAsync() {
+        return delegate.getSessionAsync();
+    }
+
+    @Override
+    public void release(Session session) {
+        if (!threadBoundSessions.contains(session) || !park(session)) {
+            releaseToPool(session);
+        }
+    }
+
+    private boolean park(Session session) {
+        if (idleSessionCount.getAndUpdate(n -> n < maxIdleSessions ? n + 1 : n) >= maxIdleSessions) {
+            return false;
+        }
+        if (idleSessions.putIfAbsent(Thread.currentThread(), new IdleSession(session, System.nanoTime())) != null) {
+            idleSessionCount.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    private boolean unpark(Thread thread, IdleSession idle) {
+        if (!idleSessions.remove(thread, idle)) {
+            return false;
+        }
+        idleSessionCount.decrementAndGet();
+        return true;
+    }
+
+    @Override
+    public void discard(Session session) {
+        threadBoundSessions.remove(session);
+        delegate.discard(session);
+    }
+
+    private void releaseToPool(Session session) {
+        threadBoundSessions.remove(session);
+        delegate.release(session);
+    }
+
+    private boolean isExpired(IdleSession idle, long now) {
+        return now - idle.releasedAtNanos > maxIdleNanos;
+    }
+
+    private void evictIdleSessions(long now) {
+        // Idle sessions of threads that no longer run transactions are only evicted here, at most once per maxIdleTime
+        if (now - lastEvictionNanos < maxIdleNanos) {
+            return;
+        }
+        lastEvictionNanos = now;
+        idleSessions.forEach((thread, idle) -> {
+            if ((isExpired(idle, now) || !thread.isAlive()) && unpark(thread, idle)) {
+                expired.inc();
+                releaseToPool(idle.session);
+            }
+        });
+    }
+
+    @Override
+    public void warmup() {
+        delegate.warmup();
+    }
+
+    @Override
+    public void invalidateAllSessions() {
+        releaseIdleSessions();
+        // Sessions in use belong to the invalidated pool, so they must not be reused after release
+        threadBoundSessions.clear();
+        delegate.invalidateAllSessions();
+    }
+
+    @Override
+    public void shutdown() {
+        releaseIdleSessions();
+        delegate.shutdown();
+    }
+
+    private void releaseIdleSessions() {
+        idleSessions.forEach((thread, idle) -> {
+            if (unpark(thread, idle)) {
+                releaseToPool(idle.session);
+            }
+        });
+    }
+
+    @Override
+    public boolean healthCheck() {
+        return delegate.healthCheck();
+    }
+
+    private record IdleSession(Session session, long releasedAtNanos) {
+    }
+}
@@ -53,7 +53,7 @@ public class YdbConverter {
         }
     }
 
-    private static Type typeToSDK(ValueProtos.Type type) {
+    public static Type typeToSDK(ValueProtos.Type type) {
         if (type.hasListType()) {
             return convertProtoListTypeToSDK(type);
         } else if (type.hasStructType()) {
@@ -250,12 +250,13 @@ public class YdbConverter {
         if (queryParameters.isEmpty()) {
             return Params.empty();
         }
+        return Params.copyOf(toSDK(queryParameters));
+    }
 
-        @SuppressWarnings("unchecked")
-        Map<String, Value<?>> values = queryParameters.entrySet().stream().collect(toMap(
+    public static Map<String, Value<?>> toSDK(Map<String, ValueProtos.TypedValue> queryParameters) {
+        return queryParameters.entrySet().stream().collect(toMap(
                 Map.Entry::getKey,
                 o -> toSDK(o.getValue().getType(), o.getValue().getValue())
         ));
-        return Params.copyOf(values);
     }
 }
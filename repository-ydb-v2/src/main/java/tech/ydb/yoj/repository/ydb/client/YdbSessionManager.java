@@ -11,6 +11,7 @@ import tech.ydb.yoj.repository.db.exception.QueryInterruptedException;
 import tech.ydb.yoj.repository.db.exception.RetryableException;
 import tech.ydb.yoj.repository.db.exception.UnavailableException;
 import tech.ydb.yoj.repository.ydb.YdbConfig;
+import tech.ydb.yoj.repository.ydb.YdbOperations;
 import tech.ydb.yoj.repository.ydb.metrics.GaugeSupplierCollector;
 
 import java.time.Duration;
@@ -18,6 +19,8 @@ import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static tech.ydb.yoj.util.lang.Interrupts.isThreadInterrupted;
 
@@ -32,8 +35,11 @@ public class YdbSessionManager implements SessionManager {
 
     private final YdbConfig config;
     private final GrpcTransport transport;
+    // Closing the table client waits for its sessions to be closed. We use a lock instead of a monitor
+    // so that a virtual thread waiting here does not pin its carrier thread
+    private final Lock invalidateLock = new ReentrantLock();
     @Getter
-    private TableClient tableClient;
+    private volatile TableClient tableClient;
 
     public YdbSessionManager(@NonNull YdbConfig config, GrpcTransport transport) {
         this.config = config;
@@ -76,6 +82,17 @@ public class YdbSessionManager implements SessionManager {
         }
     }
 
+    @Override
+    public CompletableFuture<Session> getSessionAsync() {
+        return tableClient.createSession(getSessionTimeout()).handle((result, e) -> {
+            if (e != null) {
+                throw YdbOperations.convertToRepositoryException(e);
+            }
+            YdbValidator.validate("session create", result.getStatus().getCode(), result.toString());
+            return result.getValue();
+        });
+    }
+
     private Duration getSessionTimeout() {
         Duration max = Duration.ofMinutes(5);
         Duration configTimeout = config.getSessionCreationTimeout();
@@ -108,9 +125,14 @@ public class YdbSessionManager implements SessionManager {
     }
 
     @Override
-    public synchronized void invalidateAllSessions() {
-        shutdown();
-        tableClient = createClient(transport);
+    public void invalidateAllSessions() {
+        invalidateLock.lock();
+        try {
+            shutdown();
+            tableClient = createClient(transport);
+        } finally {
+            invalidateLock.unlock();
+        }
     }
 
     @Override
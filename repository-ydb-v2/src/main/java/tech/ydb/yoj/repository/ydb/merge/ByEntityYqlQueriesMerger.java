@@ -4,7 +4,11 @@ import lombok.Value;
 import lombok.With;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import tech.ydb.yoj.databind.FieldValueType;
+import tech.ydb.yoj.databind.schema.FlatRow;
+import tech.ydb.yoj.databind.schema.Schema;
 import tech.ydb.yoj.repository.db.Entity;
+import tech.ydb.yoj.repository.db.EntityIdSchema;
 import tech.ydb.yoj.repository.db.EntitySchema;
 import tech.ydb.yoj.repository.db.TableDescriptor;
 import tech.ydb.yoj.repository.db.cache.RepositoryCache;
@@ -13,15 +17,23 @@ import tech.ydb.yoj.repository.ydb.YdbRepository;
 import tech.ydb.yoj.repository.ydb.exception.YdbRepositoryException;
 import tech.ydb.yoj.repository.ydb.statement.DeleteByIdStatement;
 import tech.ydb.yoj.repository.ydb.statement.Statement;
+import tech.ydb.yoj.repository.ydb.statement.UpdateByIdStatement;
+import tech.ydb.yoj.repository.ydb.statement.UpdateColumnsByIdStatement;
+import tech.ydb.yoj.repository.ydb.statement.UpdateColumnsStatement;
+import tech.ydb.yoj.repository.ydb.statement.UpdateModel;
 import tech.ydb.yoj.repository.ydb.statement.UpsertYqlStatement;
 import tech.ydb.yoj.repository.ydb.statement.YqlStatement;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 public class ByEntityYqlQueriesMerger implements YqlQueriesMerger {
@@ -34,12 +46,28 @@ public class ByEntityYqlQueriesMerger implements YqlQueriesMerger {
             Statement.QueryType.UPDATE,
             Statement.QueryType.DELETE_ALL));
     private static final Map<TransitionKey, MergingState> transitionMap = createTransitionMap();
+    private static final Set<FieldValueType> IMMUTABLE_VALUE_TYPES = EnumSet.of(
+            FieldValueType.INTEGER,
+            FieldValueType.REAL,
+            FieldValueType.STRING,
+            FieldValueType.BOOLEAN,
+            FieldValueType.ENUM,
+            FieldValueType.TIMESTAMP,
+            FieldValueType.INTERVAL,
+            FieldValueType.UUID,
+            FieldValueType.BYTE_ARRAY);
 
     private final Map<TableDescriptor<?>, TableState> states = new HashMap<>();
     private final RepositoryCache cache;
+    private final boolean partialUpdates;
 
     ByEntityYqlQueriesMerger(RepositoryCache cache) {
+        this(cache, false);
+    }
+
+    ByEntityYqlQueriesMerger(RepositoryCache cache, boolean partialUpdates) {
         this.cache = cache;
+        this.partialUpdates = partialUpdates;
     }
 
     @Override
@@ -53,7 +81,7 @@ public class ByEntityYqlQueriesMerger implements YqlQueriesMerger {
             tableState.entityStates.clear();
             tableState.deleteAll = query;
             return;
-        } else if (queryType == Statement.QueryType.UPDATE) {
+        } else if (queryType == Statement.QueryType.UPDATE && !isUpdateById(query)) {
             check(tableState.isEmpty(), "Update operation couldn't be after other modifications");
             tableState.update = query;
             return;
@@ -66,7 +94,9 @@ public class ByEntityYqlQueriesMerger implements YqlQueriesMerger {
         if (tableState.entityStates.containsKey(id)) {
             state = tableState.entityStates.get(id);
             MergingState oldMergingState = state.getState();
-            state = state.withState(doTransition(oldMergingState, queryType, query));
+            state = state
+                    .withState(doTransition(oldMergingState, queryType, query))
+                    .withUpsertsOnly(state.isUpsertsOnly() && queryType == Statement.QueryType.UPSERT);
             if (state.getState() != MergingState.INS_DEL) {
                 YdbRepository.Query<?> replaceWith = query;
                 if (oldMergingState == MergingState.DELETE && queryType == Statement.QueryType.INSERT) {
@@ -76,7 +106,8 @@ public class ByEntityYqlQueriesMerger implements YqlQueriesMerger {
                 state = state.withQuery(replaceWith);
             }
         } else {
-            state = new EntityState(query, doTransition(MergingState.INITIAL, queryType, query));
+            state = new EntityState(query, doTransition(MergingState.INITIAL, queryType, query),
+                    queryType == Statement.QueryType.UPSERT);
         }
         tableState.entityStates.put(id, state);
     }
@@ -85,6 +116,7 @@ public class ByEntityYqlQueriesMerger implements YqlQueriesMerger {
     public List<YdbRepository.Query<?>> getQueries() {
         Map<MergingState, List<YdbRepository.Query<?>>> queries = new HashMap<>();
         List<YdbRepository.Query<?>> specificQueries = new ArrayList<>();
+        List<YdbRepository.Query<?>> updateQueries = new ArrayList<>();
 
         for (TableState tableState : states.values()) {
             if (tableState.deleteAll != null) {
@@ -93,17 +125,32 @@ public class ByEntityYqlQueriesMerger implements YqlQueriesMerger {
                 specificQueries.add(tableState.update);
             } else {
                 Map<MergingState, YdbRepository.Query<?>> curQueries = new HashMap<>();
+                Map<Statement<?, ?>, YdbRepository.Query<?>> curUpdates = new LinkedHashMap<>();
+                Map<Set<String>, List<YdbRepository.Query<?>>> curUpdatesById = new LinkedHashMap<>();
                 for (EntityState entityState : tableState.entityStates.values()) {
                     MergingState curState = entityState.state;
-                    if (curState == MergingState.INS_DEL) {
+                    if (curState == MergingState.UPDATE) {
+                        var model = (UpdateModel.ById<?>) entityState.query.getValues().get(0);
+                        curUpdatesById.computeIfAbsent(Set.copyOf(model.getNewValues().keySet()), __ -> new ArrayList<>())
+                                .add(entityState.query);
+                        continue;
+                    } else if (curState == MergingState.INS_DEL) {
                         updateCurQueries(curQueries, convertInsertToDelete(entityState.query), MergingState.DELETE);
                         curState = MergingState.INSERT;
                     } else if (needIgnoreQuery(entityState)) {
                         log.trace("Ignoring query: [{}]", entityState.query.getStatement());
                         continue;
+                    } else if (partialUpdates && curState == MergingState.UPSERT && entityState.upsertsOnly) {
+                        YdbRepository.Query<?> update = toPartialUpdate(entityState.query);
+                        if (update != null) {
+                            curUpdates.merge(update.getStatement(), update, (q1, q2) -> q1.merge(q2));
+                            continue;
+                        }
                     }
                     updateCurQueries(curQueries, entityState.query, curState);
                 }
+                updateQueries.addAll(curUpdates.values());
+                curUpdatesById.forEach((fieldPaths, updates) -> updateQueries.addAll(mergeUpdatesById(fieldPaths, updates)));
 
                 for (Map.Entry<MergingState, YdbRepository.Query<?>> entry : curQueries.entrySet()) {
                     queries.computeIfAbsent(entry.getKey(), __ -> new ArrayList<>()).add(entry.getValue());
@@ -114,6 +161,7 @@ public class ByEntityYqlQueriesMerger implements YqlQueriesMerger {
         List<YdbRepository.Query<?>> result = new ArrayList<>();
         addAllIfNonNull(result, queries.get(MergingState.INSERT));
         addAllIfNonNull(result, queries.get(MergingState.UPSERT));
+        result.addAll(updateQueries);
         addAllIfNonNull(result, queries.get(MergingState.DELETE));
         result.addAll(specificQueries);
         return result;
@@ -140,6 +188,78 @@ public class ByEntityYqlQueriesMerger implements YqlQueriesMerger {
         return false;
     }
 
+    /**
+     * Converts upsert of an entity which has been read by the transaction into an update of the changed columns only.
+     * Columns with values that can be mutated in place (e.g., lists stored as JSON) are always written: the read entity
+     * might share such a value with the saved one, and would then have the same, already changed value.
+     *
+     * @return update query; {@code null} if the entity has not been read, or all of its columns have changed
+     */
+    @SuppressWarnings("unchecked")
+    private YdbRepository.Query<?> toPartialUpdate(YdbRepository.Query<?> query) {
+        Entity<?> entity = (Entity<?>) query.getValues().get(0);
+        var type = getEntityClass(query);
+        Optional<Object> cached = cache.get(new RepositoryCache.Key(type, entity.getId()));
+        if (cached.isEmpty()) {
+            return null;
+        }
+
+        var schema = EntitySchema.of(type);
+        FlatRow before = schema.flattenToRow(cached.get());
+        FlatRow after = schema.flattenToRow(entity);
+        List<Schema.JavaField> fields = before.getFields();
+        Set<String> changed = new HashSet<>();
+        int valueFields = 0;
+        for (int i = 0; i < fields.size(); i++) {
+            Schema.JavaField field = fields.get(i);
+            if (EntityIdSchema.isIdField(field)) {
+                continue;
+            }
+            valueFields++;
+            if (!isComparable(field) || !Objects.equals(before.get(i), after.get(i))) {
+                changed.add(field.getName());
+            }
+        }
+        if (changed.isEmpty() || changed.size() == valueFields) {
+            return null;
+        }
+
+        var tableDescriptor = convertQueryToYqlStatement(query).getTableDescriptor();
+        var statement = new UpdateColumnsStatement<>(tableDescriptor, schema, changed);
+        return new YdbRepository.Query<>(statement, entity);
+    }
+
+    private static boolean isComparable(Schema.JavaField field) {
+        return field.getCustomValueTypeInfo() == null && IMMUTABLE_VALUE_TYPES.contains(field.getValueType());
+    }
+
+    /**
+     * Merges updates by ID which change the same fields, possibly to different values, into a single
+     * {@link UpdateColumnsByIdStatement}. Updates of entities with {@code null} ID fields are not merged.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static List<YdbRepository.Query<?>> mergeUpdatesById(Set<String> fieldPaths, List<YdbRepository.Query<?>> updates) {
+        if (updates.size() == 1) {
+            return updates;
+        }
+
+        var statement = convertQueryToYqlStatement(updates.get(0));
+        var schema = EntitySchema.of(statement.getInSchemaType());
+        int idFieldCount = schema.flattenId().size();
+        for (YdbRepository.Query<?> update : updates) {
+            if (schema.flattenId(getEntityId(update)).size() != idFieldCount) {
+                return updates;
+            }
+        }
+
+        var updateColumns = new UpdateColumnsByIdStatement(statement.getTableDescriptor(), schema, fieldPaths);
+        YdbRepository.Query merged = new YdbRepository.Query<>(updateColumns, updates.get(0).getValues().get(0));
+        for (YdbRepository.Query<?> update : updates.subList(1, updates.size())) {
+            merged.merge(update);
+        }
+        return List.of(merged);
+    }
+
     private void addAllIfNonNull(List<YdbRepository.Query<?>> result, List<YdbRepository.Query<?>> additional) {
         if (additional != null) {
             result.addAll(additional);
@@ -184,11 +304,17 @@ public class ByEntityYqlQueriesMerger implements YqlQueriesMerger {
         Object value = query.getValues().get(0);
         if (query.getStatement().getQueryType() == Statement.QueryType.DELETE) {
             return (Entity.Id) value;
+        } else if (isUpdateById(query)) {
+            return ((UpdateModel.ById<?>) value).getId();
         } else {
             return ((Entity) value).getId();
         }
     }
 
+    private static boolean isUpdateById(YdbRepository.Query<?> query) {
+        return query.getStatement() instanceof UpdateByIdStatement<?, ?>;
+    }
+
     private static Class getEntityClass(YdbRepository.Query query) {
         return convertQueryToYqlStatement(query).getInSchemaType();
     }
@@ -208,6 +334,8 @@ public class ByEntityYqlQueriesMerger implements YqlQueriesMerger {
         table.put(new TransitionKey(MergingState.INITIAL, Statement.QueryType.INSERT), MergingState.INSERT);
         table.put(new TransitionKey(MergingState.INITIAL, Statement.QueryType.UPSERT), MergingState.UPSERT);
         table.put(new TransitionKey(MergingState.INITIAL, Statement.QueryType.DELETE), MergingState.DELETE);
+        // Update by ID can't be merged with other modifications of the same entity
+        table.put(new TransitionKey(MergingState.INITIAL, Statement.QueryType.UPDATE), MergingState.UPDATE);
 
         table.put(new TransitionKey(MergingState.INSERT, Statement.QueryType.INSERT), MergingState.INSERT);
         table.put(new TransitionKey(MergingState.INSERT, Statement.QueryType.UPSERT), MergingState.INSERT);
@@ -233,6 +361,8 @@ public class ByEntityYqlQueriesMerger implements YqlQueriesMerger {
     private class EntityState {
         private YdbRepository.Query<?> query;
         private MergingState state;
+        // Whether the entity has only been upserted, so its row in the database is the one read by the transaction
+        private boolean upsertsOnly;
     }
 
     private class TableState {
@@ -257,5 +387,6 @@ public class ByEntityYqlQueriesMerger implements YqlQueriesMerger {
         INS_DEL,
         UPSERT,
         DELETE,
+        UPDATE,
     }
 }
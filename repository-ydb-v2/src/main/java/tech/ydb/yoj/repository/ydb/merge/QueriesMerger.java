@@ -1,22 +1,31 @@
 package tech.ydb.yoj.repository.ydb.merge;
 
+import tech.ydb.yoj.repository.db.TableDescriptor;
 import tech.ydb.yoj.repository.db.cache.RepositoryCache;
 import tech.ydb.yoj.repository.ydb.YdbRepository;
+import tech.ydb.yoj.repository.ydb.statement.MultiStatement;
+import tech.ydb.yoj.repository.ydb.statement.Statement;
 import tech.ydb.yoj.repository.ydb.statement.YqlStatement;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.function.Supplier;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Stream.concat;
 
 public class QueriesMerger {
-    private final Supplier<YqlQueriesMerger> factory;
+    private final Function<RepositoryCache, YqlQueriesMerger> factory;
+    private final RepositoryCache cache;
+    private final boolean multiStatement;
 
-    private QueriesMerger(Supplier<YqlQueriesMerger> factory) {
+    private QueriesMerger(Function<RepositoryCache, YqlQueriesMerger> factory, RepositoryCache cache, boolean multiStatement) {
         this.factory = factory;
+        this.cache = cache;
+        this.multiStatement = multiStatement;
     }
 
     public List<YdbRepository.Query<?>> merge(YdbRepository.Query<?> first, YdbRepository.Query<?>... others) {
@@ -26,22 +35,89 @@ public class QueriesMerger {
     public List<YdbRepository.Query<?>> merge(List<YdbRepository.Query<?>> pendingWrites) {
         List<YdbRepository.Query<?>> res = new ArrayList<>();
 
-        YqlQueriesMerger currentMerger = factory.get();
+        RepositoryCache currentCache = cache;
+        YqlQueriesMerger currentMerger = factory.apply(currentCache);
         for (YdbRepository.Query<?> query : pendingWrites) {
-            if (query.getStatement() instanceof YqlStatement) {
+            if (query.getStatement() instanceof YqlStatement && isMergeable(query)) {
                 currentMerger.onNext(query);
             } else {
                 res.addAll(currentMerger.getQueries());
                 res.add(query);
-                currentMerger = factory.get();
+                if (!isMergeable(query)) {
+                    // Entities read into the cache may have been deleted by the range delete, so writes that follow it
+                    // must not be skipped as writing the cached values
+                    currentCache = RepositoryCache.empty();
+                }
+                currentMerger = factory.apply(currentCache);
             }
         }
         res.addAll(currentMerger.getQueries());
 
+        return multiStatement ? combine(res) : res;
+    }
+
+    private static boolean isMergeable(YdbRepository.Query<?> query) {
+        // Range deletes can affect any entity written before or after them, so they must stay in place
+        return query.getStatement().getQueryType() != Statement.QueryType.DELETE_RANGE;
+    }
+
+    /**
+     * Combines consecutive {@link YqlStatement YQL queries} into {@link MultiStatement multi-statement queries}.
+     * A table can be modified only once in a YQL query, so each multi-statement query touches each table at most once.
+     */
+    private static List<YdbRepository.Query<?>> combine(List<YdbRepository.Query<?>> queries) {
+        List<YdbRepository.Query<?>> res = new ArrayList<>();
+
+        List<YdbRepository.Query<?>> group = new ArrayList<>();
+        Set<TableDescriptor<?>> groupTables = new HashSet<>();
+        for (YdbRepository.Query<?> query : queries) {
+            if (query.getStatement() instanceof YqlStatement<?, ?, ?> statement
+                    && groupTables.add(statement.getTableDescriptor())) {
+                group.add(query);
+                continue;
+            }
+
+            addGroup(res, group);
+            group = new ArrayList<>();
+            groupTables.clear();
+            if (query.getStatement() instanceof YqlStatement<?, ?, ?> statement) {
+                group.add(query);
+                groupTables.add(statement.getTableDescriptor());
+            } else {
+                res.add(query);
+            }
+        }
+        addGroup(res, group);
+
         return res;
     }
 
+    private static void addGroup(List<YdbRepository.Query<?>> res, List<YdbRepository.Query<?>> group) {
+        if (group.size() == 1) {
+            res.add(group.get(0));
+        } else if (group.size() > 1) {
+            res.add(MultiStatement.combine(group));
+        }
+    }
+
+    /**
+     * Returns a merger which also replaces full-row upserts of entities read into the {@code cache} with updates of
+     * the changed columns only. Updates with the same set of changed columns are merged into a single query.
+     */
+    public QueriesMerger withPartialUpdates() {
+        return new QueriesMerger(c -> new ByEntityYqlQueriesMerger(c, true), cache, multiStatement);
+    }
+
     public static QueriesMerger create(RepositoryCache cache) {
-        return new QueriesMerger(() -> new ByEntityYqlQueriesMerger(cache));
+        return new QueriesMerger(ByEntityYqlQueriesMerger::new, cache, false);
+    }
+
+    /**
+     * Creates a merger which merges queries just like {@link #create(RepositoryCache)} does, and then combines the
+     * merged queries into as few {@link MultiStatement multi-statement queries} as possible, so that pending writes
+     * are sent to YDB in fewer requests.
+     */
+    public static QueriesMerger createMultiStatement(RepositoryCache cache) {
+        return new QueriesMerger(ByEntityYqlQueriesMerger::new, cache, true);
     }
 }
@@ -13,6 +13,7 @@ import tech.ydb.yoj.repository.ydb.yql.YqlType;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 public final class EntityIdKeyMapper<E extends Entity<E>, ID extends Entity.Id<E>, RESULT> implements ReadTableMapper<ID, RESULT> {
     private final TableDescriptor<E> tableDescriptor;
@@ -56,6 +57,11 @@ public final class EntityIdKeyMapper<E extends Entity<E>, ID extends Entity.Id<E
         return resultSetReader.readResult(columnList, value);
     }
 
+    @Override
+    public Stream<RESULT> mapResults(tech.ydb.table.result.ResultSetReader resultSet) {
+        return resultSetReader.readResults(resultSet);
+    }
+
     private ValueProtos.TypedValue toTypedValue(Schema.JavaFieldValue value, boolean optional) {
         YqlType type = YqlType.of(value.getField());
         return ValueProtos.TypedValue.newBuilder()
@@ -1,8 +1,11 @@
 package tech.ydb.yoj.repository.ydb.readtable;
 
 import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.yoj.repository.ydb.client.ResultSetConverter;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ReadTableMapper<ID, RESULT> {
     String getTableName(String tableSpace);
@@ -12,4 +15,8 @@ public interface ReadTableMapper<ID, RESULT> {
     List<String> getColumns();
 
     RESULT mapResult(List<ValueProtos.Column> columnList, ValueProtos.Value value);
+
+    default Stream<RESULT> mapResults(ResultSetReader resultSet) {
+        return new ResultSetConverter(resultSet).stream(this::mapResult);
+    }
 }
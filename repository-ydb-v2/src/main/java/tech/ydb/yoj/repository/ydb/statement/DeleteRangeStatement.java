@@ -0,0 +1,36 @@
+package tech.ydb.yoj.repository.ydb.statement;
+
+import tech.ydb.yoj.repository.db.Entity;
+import tech.ydb.yoj.repository.db.EntitySchema;
+import tech.ydb.yoj.repository.db.Range;
+import tech.ydb.yoj.repository.db.TableDescriptor;
+
+/**
+ * Deletes all entities with IDs in the specified {@link Range range} by a single {@code DELETE ... WHERE} statement,
+ * without reading the entities first.
+ * <p>Unlike deletes by ID, range deletes are not merged with other pending writes: they are executed in the same order
+ * relative to other writes as they were issued.
+ */
+public class DeleteRangeStatement<ENTITY extends Entity<ENTITY>, ID extends Entity.Id<ENTITY>> extends RangeStatement<ENTITY, ID, ENTITY> {
+    public DeleteRangeStatement(TableDescriptor<ENTITY> tableDescriptor, EntitySchema<ENTITY> schema, Range<ID> range) {
+        super(tableDescriptor, schema, schema, range);
+    }
+
+    @Override
+    public QueryType getQueryType() {
+        return QueryType.DELETE_RANGE;
+    }
+
+    @Override
+    public String toDebugString(Range<ID> idRange) {
+        return "delete(" + idRange + ")";
+    }
+
+    @Override
+    public String getQuery(String tablespace) {
+        String where = predicationVars();
+        return declarations()
+                + "DELETE FROM " + table(tablespace)
+                + (where.isEmpty() ? "" : " WHERE " + where);
+    }
+}
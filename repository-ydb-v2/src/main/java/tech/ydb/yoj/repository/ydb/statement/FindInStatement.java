@@ -8,6 +8,7 @@ import com.google.common.collect.Streams;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.values.Value;
 import tech.ydb.yoj.databind.expression.FilterExpression;
 import tech.ydb.yoj.databind.expression.OrderExpression;
 import tech.ydb.yoj.databind.expression.OrderExpression.SortKey;
@@ -23,11 +24,13 @@ import tech.ydb.yoj.repository.ydb.yql.YqlType;
 
 import javax.annotation.Nullable;
 import java.lang.reflect.Type;
+import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toCollection;
@@ -140,9 +143,14 @@ public final class FindInStatement<IN, T extends Entity<T>, RESULT> extends Mult
         var keySchema = schema.getIdSchema();
         var keyFields = collectKeyFieldsFromIds(schema.getIdSchema(), ids);
 
-        return new FindInStatement<>(
-                tableDescriptor,schema, resultSchema, keySchema, keyFields, null, filter, orderBy, limit
+        // Statements with a filter are not cached, because they capture filter parameter values
+        Supplier<FindInStatement<Set<ID>, T, RESULT>> factory = () -> new FindInStatement<>(
+                tableDescriptor, schema, resultSchema, keySchema, keyFields, null, filter, orderBy, limit
         );
+        return filter == null
+                ? YqlStatementCache.get(FindInStatement.class, tableDescriptor, schema, resultSchema,
+                        Arrays.asList(keyFields, orderBy, limit), factory)
+                : factory.get();
     }
 
     public static <K, T extends Entity<T>, RESULT> FindInStatement<Set<K>, T, RESULT> from(
@@ -158,9 +166,13 @@ public final class FindInStatement<IN, T extends Entity<T>, RESULT> extends Mult
         Schema<K> keySchema = getKeySchemaFromValues(keys);
         Set<String> keyFields = collectKeyFieldsFromKeys(tableDescriptor, schema, indexName, keySchema, keys);
 
-        return new FindInStatement<>(
+        Supplier<FindInStatement<Set<K>, T, RESULT>> factory = () -> new FindInStatement<>(
                 tableDescriptor, schema, resultSchema, keySchema, keyFields, indexName, filter, orderBy, limit
         );
+        return filter == null
+                ? YqlStatementCache.get(FindInStatement.class, tableDescriptor, schema, resultSchema,
+                        Arrays.asList(indexName, keySchema.getType(), keyFields, orderBy, limit), factory)
+                : factory.get();
     }
 
     private <PARAMS> FindInStatement(
@@ -362,6 +374,18 @@ public final class FindInStatement<IN, T extends Entity<T>, RESULT> extends Mult
         return super.toQueryParameters(in);
     }
 
+    @Override
+    protected Map<String, Value<?>> bindSdkParameters(IN in) {
+        if (hasPredicate()) {
+            return ImmutableMap.<String, Value<?>>builder()
+                    .putAll(super.bindSdkParameters(in))
+                    .putAll(predicate.toSdkParameters())
+                    .build();
+        }
+
+        return super.bindSdkParameters(in);
+    }
+
     @Override
     protected String declarations() {
         return super.declarations() + predicateClauseDeclarations();
@@ -479,6 +503,10 @@ public final class FindInStatement<IN, T extends Entity<T>, RESULT> extends Mult
             return toQueryParameters(Void.TYPE);
         }
 
+        public Map<String, Value<?>> toSdkParameters() {
+            return toSdkParameters(Void.TYPE);
+        }
+
         @Override
         public String toDebugString(Class<Void> in) {
             return predicate.toString();
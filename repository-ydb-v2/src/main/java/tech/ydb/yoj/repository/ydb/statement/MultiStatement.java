@@ -0,0 +1,141 @@
+package tech.ydb.yoj.repository.ydb.statement;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import lombok.NonNull;
+import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.values.Value;
+import tech.ydb.yoj.repository.ydb.YdbRepository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Several write statements executed as a single YQL query, in one request to YDB. Parameters of the statement are
+ * the parameters of each of the combined statements, in the same order.
+ * <p>Parameters and named expressions of the {@code i}-th statement are renamed from {@code $name} to
+ * {@code $q<i>_name}, so that statements which use the same parameter names (e.g.
+ * {@link MultipleVarsYqlStatement#listName $Input}) do not clash.
+ * <p>Combined statements must not return results.
+ *
+ * @see tech.ydb.yoj.repository.ydb.merge.QueriesMerger#createMultiStatement
+ */
+public final class MultiStatement implements Statement<List<?>, Void> {
+    private static final Pattern VAR = Pattern.compile("\\$([A-Za-z_][A-Za-z0-9_]*)");
+
+    @Getter
+    private final List<Statement<?, ?>> statements;
+
+    public MultiStatement(@NonNull List<Statement<?, ?>> statements) {
+        Preconditions.checkArgument(!statements.isEmpty(), "statements must not be empty");
+        this.statements = List.copyOf(statements);
+    }
+
+    /**
+     * @param queries queries to combine
+     * @return a single query executing all of the {@code queries}
+     */
+    public static YdbRepository.Query<List<?>> combine(@NonNull List<YdbRepository.Query<?>> queries) {
+        List<Statement<?, ?>> statements = new ArrayList<>(queries.size());
+        List<Object> params = new ArrayList<>(queries.size());
+        for (YdbRepository.Query<?> query : queries) {
+            statements.add(query.getStatement());
+            params.add(query.getValues().size() == 1 ? query.getValues().get(0) : query.getValues());
+        }
+        return new YdbRepository.Query<>(new MultiStatement(statements), params);
+    }
+
+    @Override
+    public boolean isPreparable() {
+        return statements.stream().allMatch(Statement::isPreparable);
+    }
+
+    @Override
+    public String getQuery(String tablespace) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < statements.size(); i++) {
+            sb.append(renameVars(i, statements.get(i).getQuery(tablespace))).append(";\n");
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toDebugString(List<?> params) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < statements.size(); i++) {
+            sb.append(i == 0 ? "" : "; ").append(statement(i).toDebugString(params.get(i)));
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public Map<String, ValueProtos.TypedValue> toQueryParameters(List<?> params) {
+        return collectParameters(params, Statement::toQueryParameters);
+    }
+
+    @Override
+    public Map<String, Value<?>> toSdkParameters(List<?> params) {
+        return collectParameters(params, Statement::toSdkParameters);
+    }
+
+    private <V> Map<String, V> collectParameters(
+            List<?> params, BiFunction<Statement<Object, ?>, Object, Map<String, V>> parameters
+    ) {
+        Preconditions.checkArgument(params.size() == statements.size(),
+                "expected parameters for %s statements, got: %s", statements.size(), params.size());
+
+        Map<String, V> result = new LinkedHashMap<>();
+        for (int i = 0; i < statements.size(); i++) {
+            Object statementParams = params.get(i);
+            if (statementParams == null) {
+                // Same as for a standalone statement without parameters, e.g. DELETE ALL
+                continue;
+            }
+            for (Map.Entry<String, V> e : parameters.apply(statement(i), statementParams).entrySet()) {
+                result.put(renameVars(i, e.getKey()), e.getValue());
+            }
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Statement<Object, ?> statement(int i) {
+        return (Statement<Object, ?>) statements.get(i);
+    }
+
+    @Override
+    public Void readResult(List<ValueProtos.Column> columns, ValueProtos.Value value) {
+        throw new UnsupportedOperationException("MultiStatement cannot return results");
+    }
+
+    @Override
+    public QueryType getQueryType() {
+        return QueryType.UNTYPED;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o == this || o instanceof MultiStatement other && statements.equals(other.statements);
+    }
+
+    @Override
+    public int hashCode() {
+        return statements.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return statements.stream().map(String::valueOf).collect(joining(";\n"));
+    }
+
+    private static String renameVars(int index, String yql) {
+        return VAR.matcher(yql).replaceAll(m -> Matcher.quoteReplacement("$q" + index + "_" + m.group(1)));
+    }
+}
@@ -1,13 +1,20 @@
 package tech.ydb.yoj.repository.ydb.statement;
 
 import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.values.ListType;
+import tech.ydb.table.values.StructType;
+import tech.ydb.table.values.Type;
+import tech.ydb.table.values.Value;
 import tech.ydb.yoj.databind.schema.Schema;
 import tech.ydb.yoj.repository.db.Entity;
 import tech.ydb.yoj.repository.db.EntitySchema;
 import tech.ydb.yoj.repository.db.TableDescriptor;
 import tech.ydb.yoj.repository.ydb.yql.YqlType;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -88,6 +95,30 @@ public abstract class MultipleVarsYqlStatement<PARAMS, ENTITY extends Entity<ENT
         );
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    protected Map<String, Value<?>> bindSdkParameters(PARAMS params) {
+        List<YqlStatementParam> yqlParams = getParams();
+        Map<String, Type> memberTypes = new LinkedHashMap<>();
+        for (YqlStatementParam p : yqlParams) {
+            memberTypes.put(p.getName(), p.isOptional() ? p.getType().toSdkOptionalType() : p.getType().toSdkType());
+        }
+        StructType structType = StructType.of(memberTypes);
+
+        Collection<PARAMS> rows = params instanceof Collection ? (Collection<PARAMS>) params : singleton(params);
+        Function<PARAMS, Map<String, Object>> flatten = flattenInputVariables();
+        List<Value<?>> items = new ArrayList<>(rows.size());
+        for (PARAMS row : rows) {
+            Map<String, Object> fieldValues = flatten.apply(row);
+            Map<String, Value<?>> members = new HashMap<>();
+            for (YqlStatementParam p : yqlParams) {
+                members.put(p.getName(), createSdkParameter(p.getType(), fieldValues.get(p.getName()), p.isOptional()));
+            }
+            items.add(structType.newValue(members));
+        }
+        return singletonMap(listName, ListType.of(structType).newValue(items));
+    }
+
     protected abstract Function<PARAMS, Map<String, Object>> flattenInputVariables();
 
     protected String toDebugParams(PARAMS params) {
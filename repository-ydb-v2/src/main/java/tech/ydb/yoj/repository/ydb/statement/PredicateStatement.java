@@ -6,6 +6,7 @@ import com.google.common.collect.Streams;
 import lombok.Getter;
 import lombok.NonNull;
 import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.values.Value;
 import tech.ydb.yoj.databind.schema.Schema;
 import tech.ydb.yoj.databind.schema.Schema.JavaField;
 import tech.ydb.yoj.repository.db.Entity;
@@ -159,6 +160,15 @@ public abstract class PredicateStatement<PARAMS, ENTITY extends Entity<ENTITY>,
                 ));
     }
 
+    @Override
+    protected Map<String, Value<?>> bindSdkParameters(PARAMS params) {
+        return getYqlStatementParams().stream()
+                .collect(toMap(
+                        YqlStatementParam::getVar,
+                        param -> createSdkParameter(param.getType(), getParamValue(params, param), param.isOptional())
+                ));
+    }
+
     private Object getParamValue(PARAMS params, Param param) {
         PredParam predParam = predParams.get(param.getName());
         if (predParam == null) {
@@ -0,0 +1,99 @@
+package tech.ydb.yoj.repository.ydb.statement;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.values.Value;
+import tech.ydb.yoj.databind.schema.Schema;
+import tech.ydb.yoj.repository.db.Entity;
+import tech.ydb.yoj.repository.db.EntitySchema;
+import tech.ydb.yoj.repository.db.Range;
+import tech.ydb.yoj.repository.db.TableDescriptor;
+import tech.ydb.yoj.repository.ydb.yql.YqlType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * Base class for statements on entities with IDs in the specified {@link Range range}.
+ */
+public abstract class RangeStatement<ENTITY extends Entity<ENTITY>, ID extends Entity.Id<ENTITY>, RESULT> extends YqlStatement<Range<ID>, ENTITY, RESULT> {
+    @Getter
+    private final List<YqlStatementParam> params;
+
+    protected RangeStatement(
+            TableDescriptor<ENTITY> tableDescriptor,
+            EntitySchema<ENTITY> schema,
+            Schema<RESULT> outSchema,
+            Range<ID> range
+    ) {
+        super(tableDescriptor, schema, outSchema);
+        this.params = Stream.of(RangeBound.values())
+                .flatMap(b -> toParams(b.map(range).keySet(), b))
+                .collect(toList());
+    }
+
+    private Stream<YqlStatementRangeParam> toParams(Set<String> names, RangeBound rangeBound) {
+        return schema.flattenId().stream()
+                .filter(f -> names.contains(f.getName()))
+                .map(c -> new YqlStatementRangeParam(YqlType.of(c), c.getName(), rangeBound));
+    }
+
+    @Override
+    public Map<String, ValueProtos.TypedValue> toQueryParameters(Range<ID> parameters) {
+        return getParams().stream()
+                .map(YqlStatementRangeParam.class::cast)
+                .collect(toMap(
+                        YqlStatementParam::getVar,
+                        p -> createTQueryParameter(p.getType(), p.rangeBound.map(parameters).get(p.rangeName), p.isOptional()))
+                );
+    }
+
+    @Override
+    protected Map<String, Value<?>> bindSdkParameters(Range<ID> parameters) {
+        return getParams().stream()
+                .map(YqlStatementRangeParam.class::cast)
+                .collect(toMap(
+                        YqlStatementParam::getVar,
+                        p -> createSdkParameter(p.getType(), p.rangeBound.map(parameters).get(p.rangeName), p.isOptional()))
+                );
+    }
+
+    protected String predicationVars() {
+        return getParams().stream()
+                .map(YqlStatementRangeParam.class::cast)
+                .map(p -> "(" + escape(p.rangeName) + p.rangeBound.op + p.getVar() + ")")
+                .collect(joining(" AND "));
+    }
+
+    @AllArgsConstructor
+    enum RangeBound {
+        EQ("=", Range::getEqMap),
+        MAX("<=", Range::getMaxMap),
+        MIN(">=", Range::getMinMap);
+        String op;
+        Function<Range, Map<String, Object>> mapper;
+
+        public Map<String, Object> map(Range range) {
+            return mapper.apply(range);
+        }
+    }
+
+    static class YqlStatementRangeParam extends YqlStatementParam {
+        private final RangeBound rangeBound;
+        private final String rangeName;
+
+        YqlStatementRangeParam(YqlType type, String name, RangeBound rangeBound) {
+            super(type, rangeBound.name() + "_" + name, true);
+            this.rangeBound = rangeBound;
+            this.rangeName = name;
+        }
+    }
+}
@@ -8,7 +8,9 @@ import tech.ydb.yoj.repository.ydb.yql.YqlType;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.util.stream.Collectors.joining;
@@ -20,8 +22,17 @@ public class ResultSetReader<RESULT> {
     private final Map<String, YqlType> fields;
     protected final Schema<RESULT> resultSchema;
 
+    private final List<YqlType> flatFieldTypes;
+    private final Map<String, Integer> flatIndexByName;
+    private final Map<RowDecoder.Columns, RowDecoder<RESULT>> rowDecoders = new ConcurrentHashMap<>();
+
     public ResultSetReader(@NonNull Schema<RESULT> resultSchema) {
-        this.fields = resultSchema.flattenFields().stream().collect(toMap(Schema.JavaField::getName, YqlType::of));
+        List<Schema.JavaField> flatFields = resultSchema.flattenFields();
+        this.flatFieldTypes = flatFields.stream().map(YqlType::of).toList();
+        this.flatIndexByName = IntStream.range(0, flatFields.size()).boxed()
+                .collect(toMap(i -> flatFields.get(i).getName(), i -> i));
+        this.fields = IntStream.range(0, flatFields.size()).boxed()
+                .collect(toMap(i -> flatFields.get(i).getName(), flatFieldTypes::get));
         this.resultSchema = resultSchema;
     }
 
@@ -31,7 +42,26 @@ public class ResultSetReader<RESULT> {
                 i -> columnList.get(i).getName(),
                 i -> fields.get(columnList.get(i).getName()).fromYql(row.get(i)))
         );
+        return newInstance(cells);
+    }
+
+    /**
+     * Converts all rows of YDB SDK result set into query results, reading column values directly from the
+     * {@code resultSet}, without building intermediate YDB protobuf values.
+     *
+     * @param resultSet YDB SDK result set
+     * @return stream of query results, one per result set row
+     */
+    public Stream<RESULT> readResults(tech.ydb.table.result.ResultSetReader resultSet) {
+        RowDecoder<RESULT> decoder = rowDecoders.computeIfAbsent(RowDecoder.Columns.of(resultSet),
+                columns -> new RowDecoder<>(resultSchema, flatIndexByName, flatFieldTypes, columns));
+        return IntStream.range(0, resultSet.getRowCount()).mapToObj(row -> {
+            resultSet.setRowIndex(row);
+            return decoder.decode(resultSet);
+        });
+    }
 
+    private RESULT newInstance(Map<String, Object> cells) {
         try {
             return resultSchema.newInstance(cells);
         } catch (Exception e) {
@@ -0,0 +1,96 @@
+package tech.ydb.yoj.repository.ydb.statement;
+
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.result.ValueReader;
+import tech.ydb.table.values.Type;
+import tech.ydb.yoj.databind.schema.Schema;
+import tech.ydb.yoj.repository.db.exception.ConversionException;
+import tech.ydb.yoj.repository.ydb.yql.YqlType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static java.lang.String.format;
+import static java.util.stream.Collectors.joining;
+import static tech.ydb.yoj.repository.db.EntityIdSchema.isIdFieldName;
+
+/**
+ * Converts rows of YDB SDK result sets with a specific list of columns into instances of the result schema.
+ * <p>Column value readers and the mapping from result set column index to {@link Schema#flattenFields() flattened
+ * field} index are computed once, so decoding a row involves no column name lookups.
+ *
+ * @param <RESULT> result type
+ */
+final class RowDecoder<RESULT> {
+    private final Schema<RESULT> schema;
+    private final int flatFieldCount;
+    private final String[] columnNames;
+    private final int[] flatIndexes;
+    private final Function<ValueReader, Object>[] readers;
+
+    @SuppressWarnings("unchecked")
+    RowDecoder(Schema<RESULT> schema, Map<String, Integer> flatIndexByName, List<YqlType> flatFieldTypes, Columns columns) {
+        this.schema = schema;
+        this.flatFieldCount = flatFieldTypes.size();
+
+        int columnCount = columns.names().size();
+        this.columnNames = columns.names().toArray(new String[0]);
+        this.flatIndexes = new int[columnCount];
+        this.readers = new Function[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            Integer flatIndex = flatIndexByName.get(columnNames[i]);
+            if (flatIndex == null) {
+                throw new ConversionException(format("Unknown column \"%s\" for %s", columnNames[i], schema.getTypeName()));
+            }
+            flatIndexes[i] = flatIndex;
+            readers[i] = flatFieldTypes.get(flatIndex).sdkReader(columns.types().get(i));
+        }
+    }
+
+    /**
+     * Converts the current row of {@code resultSet} into a result object.
+     *
+     * @param resultSet YDB SDK result set positioned on the row to convert
+     * @return result object
+     */
+    RESULT decode(ResultSetReader resultSet) {
+        Object[] flatValues = new Object[flatFieldCount];
+        for (int i = 0; i < flatIndexes.length; i++) {
+            flatValues[flatIndexes[i]] = readers[i].apply(resultSet.getColumn(i));
+        }
+
+        try {
+            return schema.newInstance(flatValues);
+        } catch (Exception e) {
+            throw new ConversionException(
+                    format("Could not convert %s%s: %s", schema.getTypeName(), id(flatValues), e.getMessage()),
+                    e
+            );
+        }
+    }
+
+    private String id(Object[] flatValues) {
+        return IntStream.range(0, columnNames.length)
+                .filter(i -> isIdFieldName(columnNames[i]))
+                .mapToObj(i -> format("%s=%s", columnNames[i], flatValues[flatIndexes[i]]))
+                .collect(joining(",", "{", "}"));
+    }
+
+    /**
+     * Names and types of result set columns, in result set order.
+     */
+    record Columns(List<String> names, List<Type> types) {
+        static Columns of(ResultSetReader resultSet) {
+            int columnCount = resultSet.getColumnCount();
+            String[] names = new String[columnCount];
+            Type[] types = new Type[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                names[i] = resultSet.getColumnName(i);
+                types[i] = resultSet.getColumnType(i);
+            }
+            return new Columns(List.of(names), List.of(types));
+        }
+    }
+}
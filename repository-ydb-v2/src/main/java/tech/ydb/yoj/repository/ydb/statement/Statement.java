@@ -1,11 +1,15 @@
 package tech.ydb.yoj.repository.ydb.statement;
 
 import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.values.Value;
 import tech.ydb.yoj.repository.db.cache.RepositoryCache;
 import tech.ydb.yoj.repository.ydb.YdbRepositoryTransaction;
+import tech.ydb.yoj.repository.ydb.client.ResultSetConverter;
+import tech.ydb.yoj.repository.ydb.client.YdbConverter;
 
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * Represents a statement that can be executed in a {@link YdbRepositoryTransaction}.
@@ -14,6 +18,8 @@ import java.util.Map;
  * @param <RESULT> statement result type
  */
 public interface Statement<PARAMS, RESULT> {
+    String SYNTAX_V1_PRAGMA = "--!syntax_v1\n";
+
     // YQL
 
     /**
@@ -38,6 +44,19 @@ public interface Statement<PARAMS, RESULT> {
      */
     String getQuery(String tablespace);
 
+    /**
+     * Returns YQL text to send to YDB: {@link #getQuery(String) the query} preceded by the syntax version pragma.
+     * <p>
+     * Default implementation builds the text anew on each call. Immutable statements should override this method
+     * to build the text only once.
+     *
+     * @param tablespace base path for all tables referenced in the query
+     * @return YQL text
+     */
+    default String getYql(String tablespace) {
+        return SYNTAX_V1_PRAGMA + getQuery(tablespace);
+    }
+
     /**
      * Returns debug representation of this query with the specified parameter values.
      *
@@ -58,6 +77,21 @@ public interface Statement<PARAMS, RESULT> {
      */
     Map<String, ValueProtos.TypedValue> toQueryParameters(PARAMS params);
 
+    /**
+     * Returns the query's parameter values as YDB SDK values, ready to be passed to YDB SDK as query {@code Params}.
+     * <p>
+     * Default implementation converts the result of {@link #toQueryParameters(Object)} to YDB SDK values, so custom
+     * statements only have to implement that method. Statements that know their parameter types should override
+     * this method to create YDB SDK values directly, without building YDB protobuf structures first.
+     *
+     * @param params parameter values
+     *               Might be {@code null} depending on the statement type, e.g. for DELETE statements.
+     * @return map: parameter name -> YDB SDK value
+     */
+    default Map<String, Value<?>> toSdkParameters(PARAMS params) {
+        return YdbConverter.toSDK(toQueryParameters(params));
+    }
+
     // Results
 
     /**
@@ -69,6 +103,21 @@ public interface Statement<PARAMS, RESULT> {
      */
     RESULT readResult(List<ValueProtos.Column> columns, ValueProtos.Value value);
 
+    /**
+     * Converts all rows of YDB SDK result set into query results.
+     * <p>
+     * Default implementation converts each row into YDB protobuf structures and then calls
+     * {@link #readResult(List, ValueProtos.Value)}, so custom statements only have to implement that method.
+     * Statements that know their result schema should override this method to read column values directly
+     * from the {@code resultSet}.
+     *
+     * @param resultSet result set as returned by YDB SDK
+     * @return stream of query results, one per result set row
+     */
+    default Stream<RESULT> readResults(tech.ydb.table.result.ResultSetReader resultSet) {
+        return new ResultSetConverter(resultSet).stream(this::readResult);
+    }
+
     // First level cache
 
     /**
@@ -110,6 +159,10 @@ public interface Statement<PARAMS, RESULT> {
         UPSERT,
         UPDATE,
         DELETE,
-        DELETE_ALL
+        DELETE_ALL,
+        /**
+         * Deletes a range of entities. Such queries are not merged and not reordered with other pending writes.
+         */
+        DELETE_RANGE
     }
 }
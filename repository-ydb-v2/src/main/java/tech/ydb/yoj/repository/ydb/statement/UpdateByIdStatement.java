@@ -1,6 +1,7 @@
 package tech.ydb.yoj.repository.ydb.statement;
 
 import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.values.Value;
 import tech.ydb.yoj.repository.db.Entity;
 import tech.ydb.yoj.repository.db.EntitySchema;
 import tech.ydb.yoj.repository.db.TableDescriptor;
@@ -55,6 +56,26 @@ public final class UpdateByIdStatement<ENTITY extends Entity<ENTITY>, ID extends
         return unmodifiableMap(queryParams);
     }
 
+    @Override
+    protected Map<String, Value<?>> bindSdkParameters(UpdateModel.ById<ID> parameters) {
+        Map<String, Value<?>> queryParams = new LinkedHashMap<>();
+
+        Map<String, ?> idValues = schema.flattenId(parameters.getId());
+        idParams()
+                .filter(p -> idValues.containsKey(p.getName()))
+                .forEach(p -> queryParams.put(
+                        p.getVar(),
+                        createSdkParameter(p.getType(), idValues.get(p.getName()), p.isOptional())
+                ));
+
+        setParams.forEach((name, param) -> queryParams.put(
+                param.getVar(),
+                createSdkParameter(param.getType(), param.getFieldValue(parameters), param.isOptional())
+        ));
+
+        return unmodifiableMap(queryParams);
+    }
+
     @Override
     public QueryType getQueryType() {
         return QueryType.UPDATE;
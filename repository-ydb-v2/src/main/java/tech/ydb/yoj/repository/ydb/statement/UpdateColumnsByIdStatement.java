@@ -0,0 +1,55 @@
+package tech.ydb.yoj.repository.ydb.statement;
+
+import lombok.NonNull;
+import tech.ydb.yoj.databind.schema.Schema;
+import tech.ydb.yoj.repository.db.Entity;
+import tech.ydb.yoj.repository.db.EntitySchema;
+import tech.ydb.yoj.repository.db.TableDescriptor;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toUnmodifiableSet;
+
+/**
+ * Writes {@link UpdateModel.ById updates by ID} of different entities that change the same fields, possibly to
+ * different values, in a single statement. Like {@link UpdateByIdStatement}, entities that do not exist in the table
+ * are not written.
+ */
+public final class UpdateColumnsByIdStatement<T extends Entity<T>, ID extends Entity.Id<T>>
+        extends UpdateColumnsStatement<UpdateModel.ById<ID>, T> {
+    private final Set<String> fieldPaths;
+
+    /**
+     * @param fieldPaths paths of the fields changed by each update, i.e., {@link UpdateModel#getNewValues() new values}
+     *                   keys; must not include ID fields
+     */
+    public UpdateColumnsByIdStatement(TableDescriptor<T> tableDescriptor, EntitySchema<T> schema, @NonNull Set<String> fieldPaths) {
+        super(tableDescriptor, schema, flatColumns(schema, fieldPaths));
+        this.fieldPaths = Set.copyOf(fieldPaths);
+    }
+
+    private static Set<String> flatColumns(EntitySchema<?> schema, Set<String> fieldPaths) {
+        return fieldPaths.stream()
+                .flatMap(path -> schema.getField(path).flatten())
+                .map(Schema.JavaField::getName)
+                .collect(toUnmodifiableSet());
+    }
+
+    @Override
+    public String toDebugString(UpdateModel.ById<ID> in) {
+        return "updateById" + fieldPaths + "(" + toDebugParams(in) + ")";
+    }
+
+    @Override
+    protected Function<UpdateModel.ById<ID>, Map<String, Object>> flattenInputVariables() {
+        return model -> {
+            Map<String, Object> values = new HashMap<>(schema.flattenId(model.getId()));
+            UpdateSetParam.setParamsFromModel(schema, model)
+                    .forEach(p -> values.put(p.getFieldName(), p.getFieldValue(model)));
+            return values;
+        };
+    }
+}
@@ -0,0 +1,61 @@
+package tech.ydb.yoj.repository.ydb.statement;
+
+import lombok.NonNull;
+import tech.ydb.yoj.repository.db.Entity;
+import tech.ydb.yoj.repository.db.EntitySchema;
+import tech.ydb.yoj.repository.db.TableDescriptor;
+import tech.ydb.yoj.repository.ydb.yql.YqlType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toList;
+import static tech.ydb.yoj.repository.db.EntityIdSchema.isIdField;
+
+/**
+ * Writes only the specified columns of existing entities, leaving the other columns as they are. Entities that do not
+ * exist in the table are not written.
+ */
+public class UpdateColumnsStatement<IN, T extends Entity<T>> extends MultipleVarsYqlStatement.Simple<IN, T> {
+    private final Set<String> columns;
+
+    /**
+     * @param columns names of {@link EntitySchema#flattenFields() flattened fields} to write, excluding ID fields
+     */
+    public UpdateColumnsStatement(TableDescriptor<T> tableDescriptor, EntitySchema<T> schema, @NonNull Set<String> columns) {
+        super(tableDescriptor, schema);
+        this.columns = Set.copyOf(columns);
+    }
+
+    @Override
+    public List<YqlStatementParam> getParams() {
+        return schema.flattenFields().stream()
+                .filter(f -> isIdField(f) || columns.contains(f.getName()))
+                .map(f -> new YqlStatementParam(YqlType.of(f), f.getName(), !isIdField(f)))
+                .collect(toList());
+    }
+
+    @Override
+    public QueryType getQueryType() {
+        return QueryType.UPDATE;
+    }
+
+    @Override
+    public String toDebugString(IN in) {
+        return "update" + columns + "(" + toDebugParams(in) + ")";
+    }
+
+    @Override
+    public String getQuery(String tablespace) {
+        return declarations() +
+                "UPDATE " + table(tablespace) + " ON SELECT * FROM AS_TABLE(" + listName + ")";
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected Function<IN, Map<String, Object>> flattenInputVariables() {
+        return t -> schema.flatten((T) t);
+    }
+}
@@ -4,6 +4,10 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.Iterables;
 import lombok.Value;
 import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.values.ListType;
+import tech.ydb.table.values.TupleType;
+import tech.ydb.table.values.TupleValue;
+import tech.ydb.table.values.Type;
 import tech.ydb.yoj.databind.schema.Schema;
 import tech.ydb.yoj.databind.schema.Schema.JavaField;
 import tech.ydb.yoj.repository.db.Entity;
@@ -11,6 +15,7 @@ import tech.ydb.yoj.repository.db.EntitySchema;
 import tech.ydb.yoj.repository.db.TableDescriptor;
 import tech.ydb.yoj.repository.ydb.yql.YqlType;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -132,6 +137,36 @@ public class UpdateInStatement<T extends Entity<T>, RESULT>
         return valuesParams;
     }
 
+    @Override
+    protected Map<String, tech.ydb.table.values.Value<?>> bindSdkParameters(UpdateInStatementInput<T> params) {
+        Map<String, tech.ydb.table.values.Value<?>> valuesParams = getValuesParams().stream()
+                .collect(toMap(YqlStatementParam::getVar, p -> createSdkParameter(p.getType(),
+                        params.values.get(p.getName()), p.isOptional())));
+
+        valuesParams.put(keysParam, getIdsSdkParameter(params));
+
+        return valuesParams;
+    }
+
+    private tech.ydb.table.values.Value<?> getIdsSdkParameter(UpdateInStatementInput<T> params) {
+        var keyParams = getKeyParams();
+        List<Type> elementTypes = keyParams.stream()
+                .map(p -> p.isOptional() ? p.getType().toSdkOptionalType() : p.getType().toSdkType())
+                .collect(Collectors.toList());
+
+        List<tech.ydb.table.values.Value<?>> ids = new ArrayList<>(params.ids.size());
+        for (var id : params.ids) {
+            Map<String, Object> fieldValues = schema.flattenId(id);
+            List<tech.ydb.table.values.Value<?>> elements = new ArrayList<>(keyParams.size());
+            for (var p : keyParams) {
+                elements.add(createSdkParameter(p.getType(), fieldValues.get(p.getName()), p.isOptional()));
+            }
+            ids.add(TupleValue.of(elements));
+        }
+
+        return ListType.of(TupleType.of(elementTypes)).newValue(ids);
+    }
+
     private ValueProtos.TypedValue getIdsQueryParameters(UpdateInStatementInput<T> params) {
         var keyParams = getKeyParams();
         var tupleBuilder = ValueProtos.TupleType.newBuilder();
@@ -4,7 +4,9 @@ import com.google.common.base.Preconditions;
 import com.google.protobuf.NullValue;
 import lombok.Getter;
 import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.values.Value;
 import tech.ydb.yoj.DeprecationWarnings;
+import tech.ydb.yoj.databind.schema.FlatRow;
 import tech.ydb.yoj.databind.schema.Schema;
 import tech.ydb.yoj.repository.db.Entity;
 import tech.ydb.yoj.repository.db.EntityIdSchema;
@@ -18,6 +20,7 @@ import tech.ydb.yoj.repository.ydb.yql.YqlType;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Spliterator;
 import java.util.stream.Collector;
 import java.util.stream.Stream;
@@ -36,12 +39,30 @@ public abstract class YqlStatement<PARAMS, ENTITY extends Entity<ENTITY>, RESULT
 
     protected static final YqlOrderBy ORDER_BY_ID_ASCENDING = YqlOrderBy.orderBy(EntityIdSchema.ID_FIELD_NAME);
 
+    // Direct YDB SDK conversions are only used if they are declared by the same class as their protobuf counterparts,
+    // so that custom statements overriding just readResult() or toQueryParameters() keep working as before
+    private static final ClassValue<Boolean> READS_SDK_RESULTS_DIRECTLY = declaredTogether(
+            "readResult", new Class<?>[]{List.class, ValueProtos.Value.class},
+            "readResults", new Class<?>[]{tech.ydb.table.result.ResultSetReader.class}
+    );
+    private static final ClassValue<Boolean> BINDS_SDK_PARAMETERS_DIRECTLY = declaredTogether(
+            "toQueryParameters", new Class<?>[]{Object.class},
+            "bindSdkParameters", new Class<?>[]{Object.class}
+    );
+
     protected final EntitySchema<ENTITY> schema;
     protected final Schema<RESULT> resultSchema;
     protected final ResultSetReader<RESULT> resultSetReader;
     @Getter
     protected final TableDescriptor<ENTITY> tableDescriptor;
 
+    // YqlStatements are immutable, so their YQL text only needs to be generated once per tablespace.
+    // We remember the text for the tablespace the statement was last executed in, and the text for the empty
+    // tablespace, which is used by equals(), hashCode() and toString()
+    private volatile QueryText queryText;
+    private volatile String canonicalQuery;
+    private int hash;
+
     /**
      * @deprecated Use constructor with {@link TableDescriptor} for selecting correct entity table
      */
@@ -132,16 +153,53 @@ public abstract class YqlStatement<PARAMS, ENTITY extends Entity<ENTITY>, RESULT
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public Map<String, ValueProtos.TypedValue> toQueryParameters(PARAMS params) {
-        Map<String, Object> values = params.getClass().isAssignableFrom(schema.getType()) ?
-                schema.flatten((ENTITY) params) : schema.flattenId((Entity.Id<ENTITY>) params);
+        FlatRow values = flattenParams(params);
         return getParams().stream()
-                .filter(p -> values.containsKey(p.getName()))
+                .filter(p -> values.contains(p.getName()))
                 .collect(toMap(YqlStatementParam::getVar, p -> createTQueryParameter(p.getType(),
                         values.get(p.getName()), p.isOptional())));
     }
 
+    @Override
+    public final Map<String, Value<?>> toSdkParameters(PARAMS params) {
+        return BINDS_SDK_PARAMETERS_DIRECTLY.get(getClass())
+                ? bindSdkParameters(params)
+                : Statement.super.toSdkParameters(params);
+    }
+
+    /**
+     * Returns the query's parameter values as YDB SDK values, without building YDB protobuf structures first.
+     * <p>If you override {@link #toQueryParameters(Object) toQueryParameters()}, you should override this method
+     * as well; otherwise parameters will be converted from the YDB protobuf structures returned by
+     * {@code toQueryParameters()}.
+     *
+     * @param params parameter values
+     * @return map: parameter name -> YDB SDK value
+     * @see #toSdkParameters(Object)
+     */
+    protected Map<String, Value<?>> bindSdkParameters(PARAMS params) {
+        FlatRow values = flattenParams(params);
+        return getParams().stream()
+                .filter(p -> values.contains(p.getName()))
+                .collect(toMap(YqlStatementParam::getVar, p -> createSdkParameter(p.getType(),
+                        values.get(p.getName()), p.isOptional())));
+    }
+
+    @SuppressWarnings("unchecked")
+    private FlatRow flattenParams(PARAMS params) {
+        return params.getClass().isAssignableFrom(schema.getType())
+                ? schema.flattenToRow((ENTITY) params)
+                : schema.flattenIdToRow((Entity.Id<ENTITY>) params);
+    }
+
+    protected Value<?> createSdkParameter(YqlType type, Object o, boolean optional) {
+        if (!optional) {
+            return type.toSdkValue(o);
+        }
+        return o == null ? type.toSdkOptionalType().emptyValue() : type.toSdkOptionalType().newValue(type.toSdkValue(o));
+    }
+
     protected ValueProtos.TypedValue createTQueryParameter(YqlType type, Object o, boolean optional) {
         return ValueProtos.TypedValue.newBuilder().setType(getYqlType(type, optional)).setValue(getYqlValue(type, o)).build();
     }
@@ -160,17 +218,77 @@ public abstract class YqlStatement<PARAMS, ENTITY extends Entity<ENTITY>, RESULT
         return resultSetReader.readResult(columns, value);
     }
 
+    @Override
+    public Stream<RESULT> readResults(tech.ydb.table.result.ResultSetReader resultSet) {
+        return READS_SDK_RESULTS_DIRECTLY.get(getClass())
+                ? resultSetReader.readResults(resultSet)
+                : Statement.super.readResults(resultSet);
+    }
+
+    private static ClassValue<Boolean> declaredTogether(String protoMethod, Class<?>[] protoArgs,
+                                                        String sdkMethod, Class<?>[] sdkArgs) {
+        return new ClassValue<>() {
+            @Override
+            protected Boolean computeValue(Class<?> type) {
+                Class<?> protoDeclaringClass = findDeclaringClass(type, protoMethod, protoArgs);
+                return protoDeclaringClass != null && protoDeclaringClass == findDeclaringClass(type, sdkMethod, sdkArgs);
+            }
+        };
+    }
+
+    private static Class<?> findDeclaringClass(Class<?> type, String name, Class<?>[] args) {
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            try {
+                c.getDeclaredMethod(name, args);
+                return c;
+            } catch (NoSuchMethodException ignored) {
+                // try superclass
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String getYql(String tablespace) {
+        QueryText qt = queryText;
+        if (qt == null || !Objects.equals(qt.tablespace, tablespace)) {
+            qt = new QueryText(tablespace, SYNTAX_V1_PRAGMA + getQuery(tablespace));
+            queryText = qt;
+        }
+        return qt.yql;
+    }
+
+    private String getCanonicalQuery() {
+        String q = canonicalQuery;
+        if (q == null) {
+            q = getQuery("");
+            canonicalQuery = q;
+        }
+        return q;
+    }
+
     @Override
     public String toString() {
-        return getQuery("");
+        return getCanonicalQuery();
     }
 
     public boolean equals(Object o) {
-        return o == this || o instanceof YqlStatement && ((YqlStatement<?, ?, ?>) o).getQuery("").equals(getQuery(""));
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof YqlStatement<?, ?, ?> other)) {
+            return false;
+        }
+        return hashCode() == other.hashCode() && getCanonicalQuery().equals(other.getCanonicalQuery());
     }
 
     public int hashCode() {
-        return getQuery("").hashCode();
+        int h = hash;
+        if (h == 0) {
+            h = getCanonicalQuery().hashCode();
+            hash = h;
+        }
+        return h;
     }
 
     public Class<ENTITY> getInSchemaType() {
@@ -275,4 +393,7 @@ public abstract class YqlStatement<PARAMS, ENTITY extends Entity<ENTITY>, RESULT
 
         return newYql.toString();
     }
+
+    private record QueryText(String tablespace, String yql) {
+    }
 }
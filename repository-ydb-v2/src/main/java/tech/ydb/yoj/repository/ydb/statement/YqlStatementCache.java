@@ -0,0 +1,93 @@
+package tech.ydb.yoj.repository.ydb.statement;
+
+import com.google.common.cache.CacheBuilder;
+import lombok.NonNull;
+import tech.ydb.yoj.databind.schema.Schema;
+import tech.ydb.yoj.repository.db.TableDescriptor;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Process-wide cache of {@link YqlStatement}s whose YQL does not depend on query parameter values, e.g.
+ * "find by ID" or "upsert" statements for a specific table.
+ * <p>Reusing a statement instance saves the statement's setup cost (result schema analysis, parameter list
+ * construction) and its YQL text generation, which is {@link YqlStatement#getYql(String) memoized per instance}.
+ * It also keeps the number of distinct query texts seen by YDB query cache bounded.
+ * <p>Only immutable statements that are fully determined by the cache key may be cached. Statements that capture
+ * parameter values (e.g., filter predicates) must not be cached.
+ */
+public final class YqlStatementCache {
+    private static final long MAX_SIZE = 10_000;
+
+    private static final ConcurrentMap<Key, YqlStatement<?, ?, ?>> statements = CacheBuilder.newBuilder()
+            .maximumSize(MAX_SIZE)
+            .<Key, YqlStatement<?, ?, ?>>build()
+            .asMap();
+
+    private YqlStatementCache() {
+        throw new UnsupportedOperationException("utility class");
+    }
+
+    /**
+     * Returns cached statement for the specified key, or creates and caches a new statement if there is none.
+     *
+     * @param statementType   statement class
+     * @param tableDescriptor table the statement is executed against
+     * @param schema          entity schema
+     * @param resultSchema    result schema
+     * @param shape           other values that determine the YQL text (e.g., key fields, ordering, limit),
+     *                        compared by {@code equals()}
+     * @param factory         creates a new statement; the statement must be an instance of {@code statementType}
+     * @return cached or newly created statement
+     */
+    @SuppressWarnings("unchecked")
+    public static <S extends YqlStatement<?, ?, ?>> S get(
+            @NonNull Class<?> statementType,
+            @NonNull TableDescriptor<?> tableDescriptor,
+            @NonNull Schema<?> schema,
+            @NonNull Schema<?> resultSchema,
+            @NonNull List<?> shape,
+            @NonNull Supplier<S> factory
+    ) {
+        var key = new Key(statementType, tableDescriptor, schema, resultSchema, shape);
+        return (S) statements.computeIfAbsent(key, __ -> factory.get());
+    }
+
+    /**
+     * Evicts all cached statements.
+     */
+    public static void clear() {
+        statements.clear();
+    }
+
+    // Schemas are compared by identity: Schema.equals() only compares schema names, and different types
+    // might have schemas with the same name
+    private record Key(
+            Class<?> statementType,
+            TableDescriptor<?> tableDescriptor,
+            Schema<?> schema,
+            Schema<?> resultSchema,
+            List<?> shape
+    ) {
+        @Override
+        public boolean equals(Object o) {
+            return o == this || o instanceof Key other
+                    && statementType == other.statementType
+                    && schema == other.schema
+                    && resultSchema == other.resultSchema
+                    && tableDescriptor.equals(other.tableDescriptor)
+                    && shape.equals(other.shape);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(
+                    statementType, tableDescriptor, System.identityHashCode(schema),
+                    System.identityHashCode(resultSchema), shape
+            );
+        }
+    }
+}
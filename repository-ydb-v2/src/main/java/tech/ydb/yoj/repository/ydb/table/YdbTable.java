@@ -7,6 +7,7 @@ import lombok.Getter;
 import lombok.NonNull;
 import tech.ydb.yoj.databind.expression.FilterExpression;
 import tech.ydb.yoj.databind.expression.OrderExpression;
+import tech.ydb.yoj.databind.schema.Schema;
 import tech.ydb.yoj.repository.db.Entity;
 import tech.ydb.yoj.repository.db.Entity.Id;
 import tech.ydb.yoj.repository.db.EntityIdSchema;
@@ -28,6 +29,7 @@ import tech.ydb.yoj.repository.ydb.readtable.ReadTableMapper;
 import tech.ydb.yoj.repository.ydb.statement.CountAllStatement;
 import tech.ydb.yoj.repository.ydb.statement.DeleteAllStatement;
 import tech.ydb.yoj.repository.ydb.statement.DeleteByIdStatement;
+import tech.ydb.yoj.repository.ydb.statement.DeleteRangeStatement;
 import tech.ydb.yoj.repository.ydb.statement.FindAllYqlStatement;
 import tech.ydb.yoj.repository.ydb.statement.FindInStatement;
 import tech.ydb.yoj.repository.ydb.statement.FindRangeStatement;
@@ -39,6 +41,8 @@ import tech.ydb.yoj.repository.ydb.statement.UpdateByIdStatement;
 import tech.ydb.yoj.repository.ydb.statement.UpdateInStatement;
 import tech.ydb.yoj.repository.ydb.statement.UpdateModel;
 import tech.ydb.yoj.repository.ydb.statement.UpsertYqlStatement;
+import tech.ydb.yoj.repository.ydb.statement.YqlStatement;
+import tech.ydb.yoj.repository.ydb.statement.YqlStatementCache;
 import tech.ydb.yoj.repository.ydb.yql.YqlLimit;
 import tech.ydb.yoj.repository.ydb.yql.YqlListingQuery;
 import tech.ydb.yoj.repository.ydb.yql.YqlOrderBy;
@@ -48,12 +52,14 @@ import tech.ydb.yoj.repository.ydb.yql.YqlView;
 
 import javax.annotation.Nullable;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -65,6 +71,17 @@ import static java.util.stream.Stream.concat;
 import static tech.ydb.yoj.repository.db.EntityExpressions.defaultOrder;
 
 public class YdbTable<T extends Entity<T>> implements Table<T> {
+    private static final ClassValue<Boolean> HAS_PROJECTIONS = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("createProjections").getDeclaringClass() != Entity.class;
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    };
+
     @Getter
     private final Class<T> type;
     private final QueryExecutor executor;
@@ -105,7 +122,8 @@ public class YdbTable<T extends Entity<T>> implements Table<T> {
 
     @Override
     public List<T> findAll() {
-        var statement = new FindAllYqlStatement<>(tableDescriptor, schema, schema);
+        FindAllYqlStatement<?, T, T> statement = cached(FindAllYqlStatement.class, schema,
+                () -> new FindAllYqlStatement<>(tableDescriptor, schema, schema));
         return postLoad(executor.execute(statement, null));
     }
 
@@ -197,13 +215,16 @@ public class YdbTable<T extends Entity<T>> implements Table<T> {
     @Override
     public <V extends View> List<V> findAll(Class<V> viewType) {
         ViewSchema<V> viewSchema = ViewSchema.of(viewType);
-        var statement = new FindAllYqlStatement<>(tableDescriptor, schema, viewSchema);
+        FindAllYqlStatement<?, T, V> statement = cached(FindAllYqlStatement.class, viewSchema,
+                () -> new FindAllYqlStatement<>(tableDescriptor, schema, viewSchema));
         return executor.execute(statement, null);
     }
 
     @Override
     public void deleteAll() {
-        executor.pendingExecute(new DeleteAllStatement<>(tableDescriptor, schema), null);
+        DeleteAllStatement<?, T> statement = cached(DeleteAllStatement.class, schema,
+                () -> new DeleteAllStatement<>(tableDescriptor, schema));
+        executor.pendingExecute(statement, null);
     }
 
     @Override
@@ -212,6 +233,12 @@ public class YdbTable<T extends Entity<T>> implements Table<T> {
         executor.bulkUpsert(mapper, input, params);
     }
 
+    @Override
+    public void bulkUpsert(Iterator<T> input, BulkParams params) {
+        var mapper = new BulkMapperImpl<>(tableDescriptor, schema);
+        executor.bulkUpsert(mapper, input, params);
+    }
+
     @Override
     public <ID extends Entity.Id<T>> Stream<T> readTable(ReadTableParams<ID> params) {
         ReadTableMapper<ID, T> mapper = new EntityIdKeyMapper<>(tableDescriptor, schema, schema);
@@ -247,7 +274,8 @@ public class YdbTable<T extends Entity<T>> implements Table<T> {
             throw new IllegalArgumentException("Cannot use partial id in find method");
         }
         return executor.getTransactionLocal().firstLevelCache().get(id, __ -> {
-            var statement = new FindYqlStatement<>(tableDescriptor, schema, schema);
+            FindYqlStatement<Entity.Id<T>, T, T> statement = cached(FindYqlStatement.class, schema,
+                    () -> new FindYqlStatement<>(tableDescriptor, schema, schema));
             List<T> res = postLoad(executor.execute(statement, id));
             return res.isEmpty() ? null : res.get(0);
         });
@@ -256,7 +284,8 @@ public class YdbTable<T extends Entity<T>> implements Table<T> {
     @Override
     public <V extends View> V find(Class<V> viewType, Entity.Id<T> id) {
         ViewSchema<V> viewSchema = ViewSchema.of(viewType);
-        var statement = new FindYqlStatement<>(tableDescriptor, schema, viewSchema);
+        FindYqlStatement<Entity.Id<T>, T, V> statement = cached(FindYqlStatement.class, viewSchema,
+                () -> new FindYqlStatement<>(tableDescriptor, schema, viewSchema));
         List<V> res = executor.execute(statement, id);
         return res.isEmpty() ? null : res.get(0);
     }
@@ -288,6 +317,15 @@ public class YdbTable<T extends Entity<T>> implements Table<T> {
         return postLoad(executor.execute(statement, parts));
     }
 
+    /**
+     * Same as {@link #find(Collection)}, but converts query results to entities as the returned stream is consumed.
+     * Each entity is put into the first-level cache, and its projections are loaded, when it is read from the stream.
+     */
+    public Stream<T> findStream(Collection<? extends YqlStatementPart<?>> parts) {
+        var statement = FindStatement.from(tableDescriptor, schema, schema, parts, false);
+        return executor.executeStream(statement, parts).map(this::postLoad);
+    }
+
     @Override
     public long countAll() {
         return count();
@@ -312,6 +350,13 @@ public class YdbTable<T extends Entity<T>> implements Table<T> {
         return find(statements);
     }
 
+    @Override
+    public Stream<T> findStream(@Nullable String indexName, @Nullable FilterExpression<T> filter, @Nullable OrderExpression<T> orderBy, @Nullable Integer limit, @Nullable Long offset) {
+        List<YqlStatementPart<?>> statements = buildStatementParts(indexName, filter, orderBy, limit, offset);
+
+        return findStream(statements);
+    }
+
     @Override
     public <ID extends Entity.Id<T>> List<ID> findIds(@Nullable String indexName, @Nullable FilterExpression<T> filter, @Nullable OrderExpression<T> orderBy, @Nullable Integer limit, @Nullable Long offset) {
         List<YqlStatementPart<?>> statements = buildStatementParts(indexName, filter, orderBy, limit, offset);
@@ -334,6 +379,21 @@ public class YdbTable<T extends Entity<T>> implements Table<T> {
         return find(viewType, statements, distinct);
     }
 
+    @Override
+    public <V extends View> Stream<V> findStream(
+            Class<V> viewType,
+            @Nullable String indexName,
+            @Nullable FilterExpression<T> filter,
+            @Nullable OrderExpression<T> orderBy,
+            @Nullable Integer limit,
+            @Nullable Long offset,
+            boolean distinct
+    ) {
+        List<YqlStatementPart<?>> statements = buildStatementParts(indexName, filter, orderBy, limit, offset);
+
+        return findStream(viewType, statements, distinct);
+    }
+
     @Override
     public <ID extends Id<T>> List<T> find(Set<ID> ids, @Nullable FilterExpression<T> filter, @Nullable OrderExpression<T> orderBy, @Nullable Integer limit) {
         if (ids.isEmpty()) {
@@ -434,6 +494,16 @@ public class YdbTable<T extends Entity<T>> implements Table<T> {
         return executor.execute(statement, parts);
     }
 
+    /**
+     * Same as {@link #find(Class, Collection, boolean)}, but converts query results to views as the returned stream
+     * is consumed.
+     */
+    public <V extends View> Stream<V> findStream(Class<V> viewType, Collection<? extends YqlStatementPart<?>> parts, boolean distinct) {
+        ViewSchema<V> viewSchema = ViewSchema.of(viewType);
+        var statement = FindStatement.from(tableDescriptor, schema, viewSchema, parts, distinct);
+        return executor.executeStream(statement, parts);
+    }
+
     public <ID extends Entity.Id<T>> List<ID> findIds(YqlStatementPart<?> part, YqlStatementPart<?>... otherParts) {
         return findIds(toList(part, otherParts));
     }
@@ -471,7 +541,9 @@ public class YdbTable<T extends Entity<T>> implements Table<T> {
     @Override
     public T insert(T t) {
         T entityToSave = t.preSave();
-        executor.pendingExecute(new InsertYqlStatement<>(tableDescriptor, schema), entityToSave);
+        InsertYqlStatement<T, T> statement = cached(InsertYqlStatement.class, schema,
+                () -> new InsertYqlStatement<>(tableDescriptor, schema));
+        executor.pendingExecute(statement, entityToSave);
         executor.getTransactionLocal().firstLevelCache().put(entityToSave);
         executor.getTransactionLocal().projectionCache().save(entityToSave);
         return t;
@@ -480,7 +552,7 @@ public class YdbTable<T extends Entity<T>> implements Table<T> {
     @Override
     public T save(T t) {
         T entityToSave = t.preSave();
-        executor.pendingExecute(new UpsertYqlStatement<>(tableDescriptor, schema), entityToSave);
+        executor.pendingExecute(upsertStatement(), entityToSave);
         executor.getTransactionLocal().firstLevelCache().put(entityToSave);
         executor.getTransactionLocal().projectionCache().save(entityToSave);
         return t;
@@ -488,11 +560,77 @@ public class YdbTable<T extends Entity<T>> implements Table<T> {
 
     @Override
     public void delete(Entity.Id<T> id) {
-        executor.pendingExecute(new DeleteByIdStatement<>(tableDescriptor, schema), id);
+        DeleteByIdStatement<Entity.Id<T>, T> statement = cached(DeleteByIdStatement.class, schema,
+                () -> new DeleteByIdStatement<>(tableDescriptor, schema));
+        executor.pendingExecute(statement, id);
         executor.getTransactionLocal().firstLevelCache().putEmpty(id);
         executor.getTransactionLocal().projectionCache().delete(id);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>If the entity has no {@link Entity#createProjections() projections}, the entities are not read before
+     * deleting them. The deletes are then merged into a single statement, like other pending writes.
+     */
+    @Override
+    public <ID extends Id<T>> void deleteAll(Set<ID> ids) {
+        if (hasProjections(type)) {
+            Table.super.deleteAll(ids);
+            return;
+        }
+        ids.forEach(this::delete);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>If the entity has no {@link Entity#createProjections() projections}, the entities are deleted by a single
+     * {@code DELETE ... WHERE} statement, without reading them first. In this case, entities in the range which are
+     * in the first-level cache become absent from it, but entities that have not been read by the transaction can
+     * still be read by it as they were before the delete, until the transaction is committed.
+     */
+    @Override
+    public <ID extends Id<T>> void deleteAll(Range<ID> range) {
+        if (hasProjections(type)) {
+            Table.super.deleteAll(range);
+            return;
+        }
+        deleteRange(range);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>If the entity has no {@link Entity#createProjections() projections}, the entities are deleted by a single
+     * {@code DELETE ... WHERE} statement, without reading their IDs first. See {@link #deleteAll(Range)} for the
+     * effects on the first-level cache.
+     */
+    @Override
+    public <ID extends Id<T>> void delete(Range<ID> range) {
+        if (hasProjections(type)) {
+            Table.super.delete(range);
+            return;
+        }
+        deleteRange(range);
+    }
+
+    private <ID extends Id<T>> void deleteRange(Range<ID> range) {
+        executor.pendingExecute(new DeleteRangeStatement<>(tableDescriptor, schema, range), range);
+
+        FirstLevelCache cache = executor.getTransactionLocal().firstLevelCache();
+        for (Entity.Id<?> cachedId : cache.ids()) {
+            if (cachedId.getType() == type) {
+                @SuppressWarnings("unchecked")
+                ID id = (ID) cachedId;
+                if (range.contains(id)) {
+                    cache.putEmpty(id);
+                }
+            }
+        }
+    }
+
+    private static boolean hasProjections(Class<?> type) {
+        return HAS_PROJECTIONS.get(type);
+    }
+
     /**
      * Migrates the specified entity and its projections, if any. Does nothing if the entity does not exist.
      * <br>
@@ -503,17 +641,26 @@ public class YdbTable<T extends Entity<T>> implements Table<T> {
      * @param <ID> entity ID type
      */
     public <ID extends Id<T>> void migrate(ID id) {
-        var statement = new FindYqlStatement<>(tableDescriptor, schema, schema);
+        FindYqlStatement<ID, T, T> statement = cached(FindYqlStatement.class, schema,
+                () -> new FindYqlStatement<>(tableDescriptor, schema, schema));
         List<T> foundRaw = executor.execute(statement, id);
         if (foundRaw.isEmpty()) {
             return;
         }
         T rawEntity = foundRaw.get(0);
         T entityToSave = rawEntity.postLoad().preSave();
-        executor.pendingExecute(new UpsertYqlStatement<>(tableDescriptor, schema), entityToSave);
+        executor.pendingExecute(upsertStatement(), entityToSave);
         executor.getTransactionLocal().projectionCache().save(entityToSave);
     }
 
+    private UpsertYqlStatement<T, T> upsertStatement() {
+        return cached(UpsertYqlStatement.class, schema, () -> new UpsertYqlStatement<>(tableDescriptor, schema));
+    }
+
+    private <S extends YqlStatement<?, T, ?>> S cached(Class<?> statementType, Schema<?> resultSchema, Supplier<S> factory) {
+        return YqlStatementCache.get(statementType, tableDescriptor, schema, resultSchema, List.of(), factory);
+    }
+
     @Override
     public FirstLevelCache getFirstLevelCache() {
         return executor.getTransactionLocal().firstLevelCache();
@@ -536,12 +683,25 @@ public class YdbTable<T extends Entity<T>> implements Table<T> {
 
         <PARAMS, RESULT> Stream<RESULT> executeScanQuery(Statement<PARAMS, RESULT> statement, PARAMS params);
 
+        /**
+         * Executes the statement and returns a stream which converts query results as they are consumed.
+         * The default implementation just streams the results of {@link #execute(Statement, Object) execute()}.
+         */
+        default <PARAMS, RESULT> Stream<RESULT> executeStream(Statement<PARAMS, RESULT> statement, PARAMS params) {
+            List<RESULT> results = execute(statement, params);
+            return results == null ? Stream.empty() : results.stream();
+        }
+
         <PARAMS> void pendingExecute(Statement<PARAMS, ?> statement, PARAMS value);
 
         default <IN> void bulkUpsert(BulkMapper<IN> mapper, List<IN> input, BulkParams params) {
             throw new UnsupportedOperationException();
         }
 
+        default <IN> void bulkUpsert(BulkMapper<IN> mapper, Iterator<IN> input, BulkParams params) {
+            throw new UnsupportedOperationException();
+        }
+
         <IN, OUT> Stream<OUT> readTable(ReadTableMapper<IN, OUT> mapper, ReadTableParams<IN> params);
 
         TransactionLocal getTransactionLocal();
@@ -571,6 +731,12 @@ public class YdbTable<T extends Entity<T>> implements Table<T> {
             return delegate.executeScanQuery(statement, params);
         }
 
+        @Override
+        public <PARAMS, RESULT> Stream<RESULT> executeStream(Statement<PARAMS, RESULT> statement, PARAMS params) {
+            check();
+            return delegate.executeStream(statement, params);
+        }
+
         @Override
         public <PARAMS> void pendingExecute(Statement<PARAMS, ?> statement, PARAMS value) {
             check();
@@ -583,6 +749,12 @@ public class YdbTable<T extends Entity<T>> implements Table<T> {
             delegate.bulkUpsert(mapper, input, params);
         }
 
+        @Override
+        public <IN> void bulkUpsert(BulkMapper<IN> mapper, Iterator<IN> input, BulkParams params) {
+            check();
+            delegate.bulkUpsert(mapper, input, params);
+        }
+
         @Override
         public <IN, OUT> Stream<OUT> readTable(ReadTableMapper<IN, OUT> mapper, ReadTableParams<IN> params) {
             check();
@@ -13,6 +13,10 @@ import org.slf4j.LoggerFactory;
 import tech.ydb.proto.ValueProtos;
 import tech.ydb.proto.ValueProtos.Type.PrimitiveTypeId;
 import tech.ydb.proto.ValueProtos.Value.ValueCase;
+import tech.ydb.table.result.ValueReader;
+import tech.ydb.table.values.OptionalType;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.PrimitiveValue;
 import tech.ydb.table.values.proto.ProtoValue;
 import tech.ydb.yoj.DeprecationWarnings;
 import tech.ydb.yoj.ExperimentalApi;
@@ -30,13 +34,16 @@ import tech.ydb.yoj.repository.db.exception.ConversionException;
 import tech.ydb.yoj.util.lang.BetterCollectors;
 
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -49,6 +56,10 @@ import static tech.ydb.yoj.repository.db.common.CommonConverters.enumValueGetter
 import static tech.ydb.yoj.repository.db.common.CommonConverters.enumValueSetter;
 import static tech.ydb.yoj.repository.db.common.CommonConverters.opaqueObjectValueGetter;
 import static tech.ydb.yoj.repository.db.common.CommonConverters.opaqueObjectValueSetter;
+import static tech.ydb.yoj.repository.db.common.CommonConverters.serializeEnumToStringValue;
+import static tech.ydb.yoj.repository.db.common.CommonConverters.serializeEnumValue;
+import static tech.ydb.yoj.repository.db.common.CommonConverters.serializeOpaqueObjectValue;
+import static tech.ydb.yoj.repository.db.common.CommonConverters.serializeUuidValue;
 import static tech.ydb.yoj.repository.db.common.CommonConverters.uuidValueGetter;
 import static tech.ydb.yoj.repository.db.common.CommonConverters.uuidValueSetter;
 
@@ -79,6 +90,28 @@ public class YqlPrimitiveType implements YqlType {
             Map.entry(PrimitiveTypeId.JSON_DOCUMENT, "JsonDocument")
     );
 
+    private static final Map<PrimitiveTypeId, PrimitiveType> SDK_TYPES = new EnumMap<>(Map.ofEntries(
+            Map.entry(PrimitiveTypeId.BOOL, PrimitiveType.Bool),
+            Map.entry(PrimitiveTypeId.UINT8, PrimitiveType.Uint8),
+            Map.entry(PrimitiveTypeId.INT32, PrimitiveType.Int32),
+            Map.entry(PrimitiveTypeId.UINT32, PrimitiveType.Uint32),
+            Map.entry(PrimitiveTypeId.INT64, PrimitiveType.Int64),
+            Map.entry(PrimitiveTypeId.UINT64, PrimitiveType.Uint64),
+            Map.entry(PrimitiveTypeId.FLOAT, PrimitiveType.Float),
+            Map.entry(PrimitiveTypeId.DOUBLE, PrimitiveType.Double),
+            Map.entry(PrimitiveTypeId.DATE, PrimitiveType.Date),
+            Map.entry(PrimitiveTypeId.DATETIME, PrimitiveType.Datetime),
+            Map.entry(PrimitiveTypeId.TIMESTAMP, PrimitiveType.Timestamp),
+            Map.entry(PrimitiveTypeId.INTERVAL, PrimitiveType.Interval),
+            Map.entry(PrimitiveTypeId.STRING, PrimitiveType.Bytes),
+            Map.entry(PrimitiveTypeId.UTF8, PrimitiveType.Text),
+            Map.entry(PrimitiveTypeId.JSON, PrimitiveType.Json),
+            Map.entry(PrimitiveTypeId.JSON_DOCUMENT, PrimitiveType.JsonDocument)
+    ));
+    private static final Map<PrimitiveTypeId, OptionalType> SDK_OPTIONAL_TYPES = new EnumMap<>(
+            SDK_TYPES.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().makeOptional()))
+    );
+
     private static final Setter BOOL_SETTER = (b, v) -> b.setBoolValue((Boolean) v);
     private static final Setter BYTE_SETTER = (b, v) -> b.setInt32Value(((Number) v).byteValue());
     private static final Setter BYTE_UINT_SETTER = (b, v) -> b.setUint32Value(((Number) v).byteValue());
@@ -121,6 +154,54 @@ public class YqlPrimitiveType implements YqlType {
     private static final Function<Type, Setter> STRING_VALUE_STRING_SETTERS = type -> (d, v) -> STRING_SETTER.accept(d, v.toString());
     private static final Function<Type, Setter> STRING_VALUE_UTF8_SETTERS = type -> (d, v) -> TEXT_SETTER.accept(d, v.toString());
 
+    // UINT8 columns have no direct SDK setters: they are converted through the protobuf representation instead
+    private static final SdkSetter BOOL_SDK_SETTER = v -> PrimitiveValue.newBool((Boolean) v);
+    private static final SdkSetter BYTE_SDK_SETTER = v -> PrimitiveValue.newInt32(((Number) v).byteValue());
+    private static final SdkSetter SHORT_SDK_SETTER = v -> PrimitiveValue.newInt32(((Number) v).shortValue());
+    private static final SdkSetter INT_SDK_SETTER = v -> PrimitiveValue.newInt32(((Number) v).intValue());
+    private static final SdkSetter UINT_SDK_SETTER = v -> PrimitiveValue.newUint32(Integer.toUnsignedLong(((Number) v).intValue()));
+    private static final SdkSetter LONG_SDK_SETTER = v -> PrimitiveValue.newInt64(((Number) v).longValue());
+    private static final SdkSetter ULONG_SDK_SETTER = v -> PrimitiveValue.newUint64(((Number) v).longValue());
+    private static final SdkSetter FLOAT_SDK_SETTER = v -> PrimitiveValue.newFloat(((Number) v).floatValue());
+    private static final SdkSetter DOUBLE_SDK_SETTER = v -> PrimitiveValue.newDouble(((Number) v).doubleValue());
+    private static final SdkSetter STRING_SDK_SETTER = v -> PrimitiveValue.newBytesOwn(((String) v).getBytes(StandardCharsets.UTF_8));
+    private static final SdkSetter TEXT_SDK_SETTER = v -> PrimitiveValue.newText((String) v);
+    private static final SdkSetter JSON_SDK_SETTER = v -> PrimitiveValue.newJson((String) v);
+    private static final SdkSetter JSON_DOCUMENT_SDK_SETTER = v -> PrimitiveValue.newJsonDocument((String) v);
+    private static final SdkSetter BYTES_SDK_SETTER = v -> PrimitiveValue.newBytesOwn((byte[]) v);
+    private static final SdkSetter BYTE_ARRAY_SDK_SETTER = v -> PrimitiveValue.newBytesOwn(((ByteArray) v).getArray());
+
+    private static final SdkSetter INSTANT_SDK_SETTER = v -> PrimitiveValue.newInt64(((Instant) v).toEpochMilli());
+    private static final SdkSetter INSTANT_UINT_SDK_SETTER = v -> PrimitiveValue.newUint64(((Instant) v).toEpochMilli());
+    private static final SdkSetter INSTANT_SECOND_SDK_SETTER = v -> PrimitiveValue.newInt64(((Instant) v).getEpochSecond());
+    private static final SdkSetter INSTANT_UINT_SECOND_SDK_SETTER = v -> PrimitiveValue.newUint64(((Instant) v).getEpochSecond());
+    private static final SdkSetter TIMESTAMP_SDK_SETTER = v -> PrimitiveValue.newTimestamp((Instant) v);
+    private static final SdkSetter TIMESTAMP_SECONDS_SDK_SETTER = v -> PrimitiveValue.newTimestamp(((Instant) v).truncatedTo(ChronoUnit.SECONDS));
+    private static final SdkSetter TIMESTAMP_MILLI_SDK_SETTER = v -> PrimitiveValue.newTimestamp(((Instant) v).truncatedTo(ChronoUnit.MILLIS));
+
+    private static final SdkSetter DURATION_SDK_SETTER = v -> PrimitiveValue.newInterval((Duration) v);
+    private static final SdkSetter DURATION_INT64_SDK_SETTER = v -> PrimitiveValue.newInt64(toMicros((Duration) v));
+    private static final SdkSetter DURATION_UINT_SDK_SETTER = v -> PrimitiveValue.newUint64(toMicros((Duration) v));
+    private static final SdkSetter DURATION_MILLI_SDK_SETTER = v -> PrimitiveValue.newInt64(((Duration) v).toMillis());
+    private static final SdkSetter DURATION_MILLI_UINT_SDK_SETTER = v -> PrimitiveValue.newUint64(((Duration) v).toMillis());
+    private static final SdkSetter DURATION_SECOND_SDK_SETTER = v -> PrimitiveValue.newInt32(Math.toIntExact(((Duration) v).toSeconds()));
+    private static final SdkSetter DURATION_SECOND_UINT_SDK_SETTER = v -> PrimitiveValue.newUint32(Integer.toUnsignedLong(Math.toIntExact(((Duration) v).toSeconds())));
+    private static final SdkSetter DURATION_UTF8_SDK_SETTER = v -> PrimitiveValue.newText(((Duration) v).truncatedTo(ChronoUnit.MICROS).toString());
+    private static final SdkSetter UUID_STRING_SDK_SETTER = v -> STRING_SDK_SETTER.apply(serializeUuidValue(v));
+    private static final SdkSetter UUID_UTF8_SDK_SETTER = v -> TEXT_SDK_SETTER.apply(serializeUuidValue(v));
+
+    private static final Function<Type, SdkSetter> ENUM_NAME_STRING_SDK_SETTERS = type -> v -> STRING_SDK_SETTER.apply(serializeEnumValue(type, v));
+    private static final Function<Type, SdkSetter> ENUM_NAME_UTF8_SDK_SETTERS = type -> v -> TEXT_SDK_SETTER.apply(serializeEnumValue(type, v));
+    private static final Function<Type, SdkSetter> ENUM_TO_STRING_STRING_SDK_SETTERS = type -> v -> STRING_SDK_SETTER.apply(serializeEnumToStringValue(type, v));
+    private static final Function<Type, SdkSetter> ENUM_TO_STRING_UTF8_SDK_SETTERS = type -> v -> TEXT_SDK_SETTER.apply(serializeEnumToStringValue(type, v));
+    private static final Function<Type, SdkSetter> JSON_STRING_SDK_SETTERS = type -> v -> STRING_SDK_SETTER.apply(serializeOpaqueObjectValue(type, v));
+    private static final Function<Type, SdkSetter> JSON_UTF8_SDK_SETTERS = type -> v -> TEXT_SDK_SETTER.apply(serializeOpaqueObjectValue(type, v));
+    private static final Function<Type, SdkSetter> JSON_JSON_SDK_SETTERS = type -> v -> JSON_SDK_SETTER.apply(serializeOpaqueObjectValue(type, v));
+    private static final Function<Type, SdkSetter> JSON_JSON_DOCUMENT_SDK_SETTERS = type -> v -> JSON_DOCUMENT_SDK_SETTER.apply(serializeOpaqueObjectValue(type, v));
+    private static final Function<Type, SdkSetter> STRING_VALUE_STRING_SDK_SETTERS = type -> v -> STRING_SDK_SETTER.apply(v.toString());
+    private static final Function<Type, SdkSetter> STRING_VALUE_UTF8_SDK_SETTERS = type -> v -> TEXT_SDK_SETTER.apply(v.toString());
+    private static final Function<Type, SdkSetter> STRING_VALUE_JSON_SDK_SETTERS = type -> v -> JSON_SDK_SETTER.apply(v.toString());
+
     private static final Getter BOOL_GETTER = ValueProtos.Value::getBoolValue;
     private static final Getter BYTE_GETTER = value -> (byte) value.getInt32Value();
     private static final Getter BYTE_UINT_GETTER = value -> (byte) value.getUint32Value();
@@ -154,6 +235,55 @@ public class YqlPrimitiveType implements YqlType {
     private static final Getter UUID_STRING_GETTER = uuidValueGetter(STRING_GETTER)::apply;
     private static final Getter UUID_UTF8_GETTER = uuidValueGetter(TEXT_GETTER)::apply;
 
+    private static final SdkGetter BOOL_SDK_GETTER = ValueReader::getBool;
+    private static final SdkGetter BYTE_SDK_GETTER = r -> (byte) r.getInt32();
+    private static final SdkGetter BYTE_UINT_SDK_GETTER = r -> (byte) r.getUint8();
+    private static final SdkGetter SHORT_SDK_GETTER = r -> (short) r.getInt32();
+    private static final SdkGetter INT_SDK_GETTER = ValueReader::getInt32;
+    private static final SdkGetter UINT_SDK_GETTER = r -> (int) r.getUint32();
+    private static final SdkGetter UINT8_SDK_GETTER = ValueReader::getUint8;
+    private static final SdkGetter LONG_SDK_GETTER = ValueReader::getInt64;
+    private static final SdkGetter ULONG_SDK_GETTER = ValueReader::getUint64;
+    private static final SdkGetter U32LONG_SDK_GETTER = ValueReader::getUint32;
+    private static final SdkGetter FLOAT_SDK_GETTER = ValueReader::getFloat;
+    private static final SdkGetter DOUBLE_SDK_GETTER = ValueReader::getDouble;
+    private static final SdkGetter STRING_SDK_GETTER = r -> new String(r.getBytes(), StandardCharsets.UTF_8);
+    private static final SdkGetter TEXT_SDK_GETTER = ValueReader::getText;
+    private static final SdkGetter JSON_SDK_GETTER = ValueReader::getJson;
+    private static final SdkGetter JSON_DOCUMENT_SDK_GETTER = ValueReader::getJsonDocument;
+    private static final SdkGetter BYTES_SDK_GETTER = ValueReader::getBytes;
+    private static final SdkGetter BYTE_ARRAY_SDK_GETTER = r -> ByteArray.wrap(r.getBytes());
+
+    private static final SdkGetter INSTANT_SDK_GETTER = r -> Instant.ofEpochMilli(r.getInt64());
+    private static final SdkGetter INSTANT_UINT_SDK_GETTER = r -> Instant.ofEpochMilli(r.getUint64());
+    private static final SdkGetter INSTANT_SECOND_SDK_GETTER = r -> Instant.ofEpochSecond(r.getInt64());
+    private static final SdkGetter INSTANT_UINT_SECOND_SDK_GETTER = r -> Instant.ofEpochSecond(r.getUint64());
+    private static final SdkGetter TIMESTAMP_SDK_GETTER = ValueReader::getTimestamp;
+    private static final SdkGetter TIMESTAMP_SECONDS_SDK_GETTER = r -> r.getTimestamp().truncatedTo(ChronoUnit.SECONDS);
+    private static final SdkGetter TIMESTAMP_MILLI_SDK_GETTER = r -> r.getTimestamp().truncatedTo(ChronoUnit.MILLIS);
+    private static final SdkGetter DURATION_SDK_GETTER = ValueReader::getInterval;
+    private static final SdkGetter DURATION_INT64_SDK_GETTER = r -> Duration.of(r.getInt64(), ChronoUnit.MICROS);
+    private static final SdkGetter DURATION_UINT_SDK_GETTER = r -> Duration.of(r.getUint64(), ChronoUnit.MICROS);
+    private static final SdkGetter DURATION_MILLI_SDK_GETTER = r -> Duration.ofMillis(r.getInt64());
+    private static final SdkGetter DURATION_MILLI_UINT_SDK_GETTER = r -> Duration.ofMillis(r.getUint64());
+    private static final SdkGetter DURATION_SECOND_SDK_GETTER = r -> Duration.ofSeconds(r.getInt32());
+    private static final SdkGetter DURATION_SECOND_UINT_SDK_GETTER = r -> Duration.ofSeconds((int) r.getUint32());
+    private static final SdkGetter DURATION_UTF8_SDK_GETTER = r -> Duration.parse(r.getText());
+    private static final SdkGetter UUID_STRING_SDK_GETTER = uuidValueGetter(STRING_SDK_GETTER)::apply;
+    private static final SdkGetter UUID_UTF8_SDK_GETTER = uuidValueGetter(TEXT_SDK_GETTER)::apply;
+
+    private static final Function<Type, SdkGetter> ENUM_NAME_STRING_SDK_GETTERS = type -> enumValueGetter(type, STRING_SDK_GETTER)::apply;
+    private static final Function<Type, SdkGetter> ENUM_NAME_UTF8_SDK_GETTERS = type -> enumValueGetter(type, TEXT_SDK_GETTER)::apply;
+    private static final Function<Type, SdkGetter> ENUM_TO_STRING_STRING_SDK_GETTERS = type -> enumToStringValueGetter(type, STRING_SDK_GETTER)::apply;
+    private static final Function<Type, SdkGetter> ENUM_TO_STRING_UTF8_SDK_GETTERS = type -> enumToStringValueGetter(type, TEXT_SDK_GETTER)::apply;
+    private static final Function<Type, SdkGetter> JSON_STRING_SDK_GETTERS = type -> opaqueObjectValueGetter(type, STRING_SDK_GETTER)::apply;
+    private static final Function<Type, SdkGetter> JSON_UTF8_SDK_GETTERS = type -> opaqueObjectValueGetter(type, TEXT_SDK_GETTER)::apply;
+    private static final Function<Type, SdkGetter> JSON_JSON_SDK_GETTERS = type -> opaqueObjectValueGetter(type, JSON_SDK_GETTER)::apply;
+    private static final Function<Type, SdkGetter> JSON_JSON_DOCUMENT_SDK_GETTERS = type -> opaqueObjectValueGetter(type, JSON_DOCUMENT_SDK_GETTER)::apply;
+    private static final Function<Type, SdkGetter> STRING_VALUE_STRING_SDK_GETTERS = type -> STRING_SDK_GETTER;
+    private static final Function<Type, SdkGetter> STRING_VALUE_UTF8_SDK_GETTERS = type -> TEXT_SDK_GETTER;
+    private static final Function<Type, SdkGetter> STRING_VALUE_JSON_SDK_GETTERS = type -> JSON_SDK_GETTER;
+
     private static final Getter CONTAINER_VALUE_GETTER = new YqlPrimitiveType.YdbContainerValueGetter();
 
     private static final Function<Type, Getter> ENUM_NAME_STRING_GETTERS = type -> enumValueGetter(type, STRING_GETTER)::apply;
@@ -172,61 +302,61 @@ public class YqlPrimitiveType implements YqlType {
     private static final Map<FieldValueType, ValueYqlTypeSelector> VALUE_DEFAULT_YQL_TYPES = new HashMap<>();
 
     static {
-        registerYqlType(Boolean.class, PrimitiveTypeId.BOOL, null, true, BOOL_SETTER, BOOL_GETTER);
-        registerYqlType(Byte.class, PrimitiveTypeId.INT32, null, true, BYTE_SETTER, BYTE_GETTER);
-        registerYqlType(Byte.class, PrimitiveTypeId.UINT8, null, false, BYTE_UINT_SETTER, BYTE_UINT_GETTER);
-        registerYqlType(Short.class, PrimitiveTypeId.INT32, null, true, SHORT_SETTER, SHORT_GETTER);
-        registerYqlType(Integer.class, PrimitiveTypeId.INT32, null, true, INT_SETTER, INT_GETTER);
-        registerYqlType(Integer.class, PrimitiveTypeId.UINT32, null, false, UINT_SETTER, UINT_GETTER);
-        registerYqlType(Integer.class, PrimitiveTypeId.UINT8, null, false, BYTE_UINT_SETTER, UINT_GETTER);
-        registerYqlType(Long.class, PrimitiveTypeId.INT64, null, true, LONG_SETTER, LONG_GETTER);
-        registerYqlType(Long.class, PrimitiveTypeId.UINT32, null, false, UINT_SETTER, U32LONG_GETTER);
-        registerYqlType(Long.class, PrimitiveTypeId.UINT64, null, false, ULONG_SETTER, ULONG_GETTER);
-        registerYqlType(Float.class, PrimitiveTypeId.FLOAT, null, true, FLOAT_SETTER, FLOAT_GETTER);
-        registerYqlType(Double.class, PrimitiveTypeId.DOUBLE, null, true, DOUBLE_SETTER, DOUBLE_GETTER);
-
-        registerYqlType(byte[].class, PrimitiveTypeId.STRING, null, true, BYTES_SETTER, BYTES_GETTER);
-        registerYqlType(ByteArray.class, PrimitiveTypeId.STRING, null, true, BYTE_ARRAY_SETTER, BYTE_ARRAY_GETTER);
-
-        registerYqlType(Instant.class, PrimitiveTypeId.INT64, null, true, INSTANT_SETTER, INSTANT_GETTER);             // defaults to millis
-        registerYqlType(Instant.class, PrimitiveTypeId.INT64, DbTypeQualifier.MILLISECONDS, false, INSTANT_SETTER, INSTANT_GETTER);
-        registerYqlType(Instant.class, PrimitiveTypeId.UINT64, null, false, INSTANT_UINT_SETTER, INSTANT_UINT_GETTER); // defaults to millis
-        registerYqlType(Instant.class, PrimitiveTypeId.UINT64, DbTypeQualifier.MILLISECONDS, false, INSTANT_UINT_SETTER, INSTANT_UINT_GETTER);
-        registerYqlType(Instant.class, PrimitiveTypeId.INT64, DbTypeQualifier.SECONDS, false, INSTANT_SECOND_SETTER, INSTANT_SECOND_GETTER);
-        registerYqlType(Instant.class, PrimitiveTypeId.UINT64, DbTypeQualifier.SECONDS, false, INSTANT_UINT_SECOND_SETTER, INSTANT_UINT_SECOND_GETTER);
-        registerYqlType(Instant.class, PrimitiveTypeId.TIMESTAMP, null, false, TIMESTAMP_SETTER, TIMESTAMP_GETTER);
-        registerYqlType(Instant.class, PrimitiveTypeId.TIMESTAMP, DbTypeQualifier.SECONDS, false, TIMESTAMP_SECONDS_SETTER, TIMESTAMP_SECONDS_GETTER);
-        registerYqlType(Instant.class, PrimitiveTypeId.TIMESTAMP, DbTypeQualifier.MILLISECONDS, false, TIMESTAMP_MILLI_SETTER, TIMESTAMP_MILLI_GETTER);
-
-        registerYqlType(Duration.class, PrimitiveTypeId.INTERVAL, null, true, DURATION_SETTER, DURATION_GETTER);
-        registerYqlType(Duration.class, PrimitiveTypeId.INT64, null, false, DURATION_SETTER, DURATION_GETTER);
-        registerYqlType(Duration.class, PrimitiveTypeId.UINT64, null, false, DURATION_UINT_SETTER, DURATION_UINT_GETTER);
-        registerYqlType(Duration.class, PrimitiveTypeId.INT64, DbTypeQualifier.MILLISECONDS, false, DURATION_MILLI_SETTER, DURATION_MILLI_GETTER);
-        registerYqlType(Duration.class, PrimitiveTypeId.UINT64, DbTypeQualifier.MILLISECONDS, false, DURATION_MILLI_UINT_SETTER, DURATION_MILLI_UINT_GETTER);
-        registerYqlType(Duration.class, PrimitiveTypeId.INT32, null, false, DURATION_SECOND_SETTER, DURATION_SECOND_GETTER);
-        registerYqlType(Duration.class, PrimitiveTypeId.UINT32, null, false, DURATION_SECOND_UINT_SETTER, DURATION_SECOND_UINT_GETTER);
-        registerYqlType(Duration.class, PrimitiveTypeId.UTF8, null, false, DURATION_UTF8_SETTER, DURATION_UTF8_GETTER);
-
-        registerYqlType(UUID.class, PrimitiveTypeId.UTF8, null, true, UUID_UTF8_SETTER, UUID_UTF8_GETTER);
-        registerYqlType(UUID.class, PrimitiveTypeId.STRING, null, false, UUID_STRING_SETTER, UUID_STRING_GETTER);
+        registerYqlType(Boolean.class, PrimitiveTypeId.BOOL, null, true, BOOL_SETTER, BOOL_GETTER, BOOL_SDK_GETTER, BOOL_SDK_SETTER);
+        registerYqlType(Byte.class, PrimitiveTypeId.INT32, null, true, BYTE_SETTER, BYTE_GETTER, BYTE_SDK_GETTER, BYTE_SDK_SETTER);
+        registerYqlType(Byte.class, PrimitiveTypeId.UINT8, null, false, BYTE_UINT_SETTER, BYTE_UINT_GETTER, BYTE_UINT_SDK_GETTER, null);
+        registerYqlType(Short.class, PrimitiveTypeId.INT32, null, true, SHORT_SETTER, SHORT_GETTER, SHORT_SDK_GETTER, SHORT_SDK_SETTER);
+        registerYqlType(Integer.class, PrimitiveTypeId.INT32, null, true, INT_SETTER, INT_GETTER, INT_SDK_GETTER, INT_SDK_SETTER);
+        registerYqlType(Integer.class, PrimitiveTypeId.UINT32, null, false, UINT_SETTER, UINT_GETTER, UINT_SDK_GETTER, UINT_SDK_SETTER);
+        registerYqlType(Integer.class, PrimitiveTypeId.UINT8, null, false, BYTE_UINT_SETTER, UINT_GETTER, UINT8_SDK_GETTER, null);
+        registerYqlType(Long.class, PrimitiveTypeId.INT64, null, true, LONG_SETTER, LONG_GETTER, LONG_SDK_GETTER, LONG_SDK_SETTER);
+        registerYqlType(Long.class, PrimitiveTypeId.UINT32, null, false, UINT_SETTER, U32LONG_GETTER, U32LONG_SDK_GETTER, UINT_SDK_SETTER);
+        registerYqlType(Long.class, PrimitiveTypeId.UINT64, null, false, ULONG_SETTER, ULONG_GETTER, ULONG_SDK_GETTER, ULONG_SDK_SETTER);
+        registerYqlType(Float.class, PrimitiveTypeId.FLOAT, null, true, FLOAT_SETTER, FLOAT_GETTER, FLOAT_SDK_GETTER, FLOAT_SDK_SETTER);
+        registerYqlType(Double.class, PrimitiveTypeId.DOUBLE, null, true, DOUBLE_SETTER, DOUBLE_GETTER, DOUBLE_SDK_GETTER, DOUBLE_SDK_SETTER);
+
+        registerYqlType(byte[].class, PrimitiveTypeId.STRING, null, true, BYTES_SETTER, BYTES_GETTER, BYTES_SDK_GETTER, BYTES_SDK_SETTER);
+        registerYqlType(ByteArray.class, PrimitiveTypeId.STRING, null, true, BYTE_ARRAY_SETTER, BYTE_ARRAY_GETTER, BYTE_ARRAY_SDK_GETTER, BYTE_ARRAY_SDK_SETTER);
+
+        registerYqlType(Instant.class, PrimitiveTypeId.INT64, null, true, INSTANT_SETTER, INSTANT_GETTER, INSTANT_SDK_GETTER, INSTANT_SDK_SETTER);             // defaults to millis
+        registerYqlType(Instant.class, PrimitiveTypeId.INT64, DbTypeQualifier.MILLISECONDS, false, INSTANT_SETTER, INSTANT_GETTER, INSTANT_SDK_GETTER, INSTANT_SDK_SETTER);
+        registerYqlType(Instant.class, PrimitiveTypeId.UINT64, null, false, INSTANT_UINT_SETTER, INSTANT_UINT_GETTER, INSTANT_UINT_SDK_GETTER, INSTANT_UINT_SDK_SETTER); // defaults to millis
+        registerYqlType(Instant.class, PrimitiveTypeId.UINT64, DbTypeQualifier.MILLISECONDS, false, INSTANT_UINT_SETTER, INSTANT_UINT_GETTER, INSTANT_UINT_SDK_GETTER, INSTANT_UINT_SDK_SETTER);
+        registerYqlType(Instant.class, PrimitiveTypeId.INT64, DbTypeQualifier.SECONDS, false, INSTANT_SECOND_SETTER, INSTANT_SECOND_GETTER, INSTANT_SECOND_SDK_GETTER, INSTANT_SECOND_SDK_SETTER);
+        registerYqlType(Instant.class, PrimitiveTypeId.UINT64, DbTypeQualifier.SECONDS, false, INSTANT_UINT_SECOND_SETTER, INSTANT_UINT_SECOND_GETTER, INSTANT_UINT_SECOND_SDK_GETTER, INSTANT_UINT_SECOND_SDK_SETTER);
+        registerYqlType(Instant.class, PrimitiveTypeId.TIMESTAMP, null, false, TIMESTAMP_SETTER, TIMESTAMP_GETTER, TIMESTAMP_SDK_GETTER, TIMESTAMP_SDK_SETTER);
+        registerYqlType(Instant.class, PrimitiveTypeId.TIMESTAMP, DbTypeQualifier.SECONDS, false, TIMESTAMP_SECONDS_SETTER, TIMESTAMP_SECONDS_GETTER, TIMESTAMP_SECONDS_SDK_GETTER, TIMESTAMP_SECONDS_SDK_SETTER);
+        registerYqlType(Instant.class, PrimitiveTypeId.TIMESTAMP, DbTypeQualifier.MILLISECONDS, false, TIMESTAMP_MILLI_SETTER, TIMESTAMP_MILLI_GETTER, TIMESTAMP_MILLI_SDK_GETTER, TIMESTAMP_MILLI_SDK_SETTER);
+
+        registerYqlType(Duration.class, PrimitiveTypeId.INTERVAL, null, true, DURATION_SETTER, DURATION_GETTER, DURATION_SDK_GETTER, DURATION_SDK_SETTER);
+        registerYqlType(Duration.class, PrimitiveTypeId.INT64, null, false, DURATION_SETTER, DURATION_GETTER, DURATION_INT64_SDK_GETTER, DURATION_INT64_SDK_SETTER);
+        registerYqlType(Duration.class, PrimitiveTypeId.UINT64, null, false, DURATION_UINT_SETTER, DURATION_UINT_GETTER, DURATION_UINT_SDK_GETTER, DURATION_UINT_SDK_SETTER);
+        registerYqlType(Duration.class, PrimitiveTypeId.INT64, DbTypeQualifier.MILLISECONDS, false, DURATION_MILLI_SETTER, DURATION_MILLI_GETTER, DURATION_MILLI_SDK_GETTER, DURATION_MILLI_SDK_SETTER);
+        registerYqlType(Duration.class, PrimitiveTypeId.UINT64, DbTypeQualifier.MILLISECONDS, false, DURATION_MILLI_UINT_SETTER, DURATION_MILLI_UINT_GETTER, DURATION_MILLI_UINT_SDK_GETTER, DURATION_MILLI_UINT_SDK_SETTER);
+        registerYqlType(Duration.class, PrimitiveTypeId.INT32, null, false, DURATION_SECOND_SETTER, DURATION_SECOND_GETTER, DURATION_SECOND_SDK_GETTER, DURATION_SECOND_SDK_SETTER);
+        registerYqlType(Duration.class, PrimitiveTypeId.UINT32, null, false, DURATION_SECOND_UINT_SETTER, DURATION_SECOND_UINT_GETTER, DURATION_SECOND_UINT_SDK_GETTER, DURATION_SECOND_UINT_SDK_SETTER);
+        registerYqlType(Duration.class, PrimitiveTypeId.UTF8, null, false, DURATION_UTF8_SETTER, DURATION_UTF8_GETTER, DURATION_UTF8_SDK_GETTER, DURATION_UTF8_SDK_SETTER);
+
+        registerYqlType(UUID.class, PrimitiveTypeId.UTF8, null, true, UUID_UTF8_SETTER, UUID_UTF8_GETTER, UUID_UTF8_SDK_GETTER, UUID_UTF8_SDK_SETTER);
+        registerYqlType(UUID.class, PrimitiveTypeId.STRING, null, false, UUID_STRING_SETTER, UUID_STRING_GETTER, UUID_STRING_SDK_GETTER, UUID_STRING_SDK_SETTER);
 
         registerPrimitiveTypes();
 
-        registerYqlType(FieldValueType.STRING, PrimitiveTypeId.STRING, null, true, STRING_VALUE_STRING_SETTERS, STRING_VALUE_STRING_GETTERS);
-        registerYqlType(FieldValueType.STRING, PrimitiveTypeId.UTF8, null, false, STRING_VALUE_UTF8_SETTERS, STRING_VALUE_UTF8_GETTERS);
-        registerYqlType(FieldValueType.STRING, PrimitiveTypeId.JSON, null, false, STRING_VALUE_UTF8_SETTERS, STRING_VALUE_UTF8_GETTERS);
-
-        registerYqlType(FieldValueType.ENUM, PrimitiveTypeId.STRING, null, true, ENUM_NAME_STRING_SETTERS, ENUM_NAME_STRING_GETTERS);
-        registerYqlType(FieldValueType.ENUM, PrimitiveTypeId.UTF8, null, false, ENUM_NAME_UTF8_SETTERS, ENUM_NAME_UTF8_GETTERS);
-        registerYqlType(FieldValueType.ENUM, PrimitiveTypeId.STRING, DbTypeQualifier.ENUM_NAME, false, ENUM_NAME_STRING_SETTERS, ENUM_NAME_STRING_GETTERS);
-        registerYqlType(FieldValueType.ENUM, PrimitiveTypeId.UTF8, DbTypeQualifier.ENUM_NAME, false, ENUM_NAME_UTF8_SETTERS, ENUM_NAME_UTF8_GETTERS);
-        registerYqlType(FieldValueType.ENUM, PrimitiveTypeId.STRING, DbTypeQualifier.ENUM_TO_STRING, false, ENUM_TO_STRING_STRING_SETTERS, ENUM_TO_STRING_STRING_GETTERS);
-        registerYqlType(FieldValueType.ENUM, PrimitiveTypeId.UTF8, DbTypeQualifier.ENUM_TO_STRING, false, ENUM_TO_STRING_UTF8_SETTERS, ENUM_TO_STRING_UTF8_GETTERS);
-
-        registerYqlType(FieldValueType.OBJECT, PrimitiveTypeId.JSON, null, true, JSON_UTF8_SETTERS, JSON_UTF8_GETTERS);
-        registerYqlType(FieldValueType.OBJECT, PrimitiveTypeId.JSON_DOCUMENT, null, false, JSON_UTF8_SETTERS, JSON_UTF8_GETTERS);
-        registerYqlType(FieldValueType.OBJECT, PrimitiveTypeId.STRING, null, false, JSON_STRING_SETTERS, JSON_STRING_GETTERS);
-        registerYqlType(FieldValueType.OBJECT, PrimitiveTypeId.UTF8, null, false, JSON_UTF8_SETTERS, JSON_UTF8_GETTERS);
+        registerYqlType(FieldValueType.STRING, PrimitiveTypeId.STRING, null, true, STRING_VALUE_STRING_SETTERS, STRING_VALUE_STRING_GETTERS, STRING_VALUE_STRING_SDK_GETTERS, STRING_VALUE_STRING_SDK_SETTERS);
+        registerYqlType(FieldValueType.STRING, PrimitiveTypeId.UTF8, null, false, STRING_VALUE_UTF8_SETTERS, STRING_VALUE_UTF8_GETTERS, STRING_VALUE_UTF8_SDK_GETTERS, STRING_VALUE_UTF8_SDK_SETTERS);
+        registerYqlType(FieldValueType.STRING, PrimitiveTypeId.JSON, null, false, STRING_VALUE_UTF8_SETTERS, STRING_VALUE_UTF8_GETTERS, STRING_VALUE_JSON_SDK_GETTERS, STRING_VALUE_JSON_SDK_SETTERS);
+
+        registerYqlType(FieldValueType.ENUM, PrimitiveTypeId.STRING, null, true, ENUM_NAME_STRING_SETTERS, ENUM_NAME_STRING_GETTERS, ENUM_NAME_STRING_SDK_GETTERS, ENUM_NAME_STRING_SDK_SETTERS);
+        registerYqlType(FieldValueType.ENUM, PrimitiveTypeId.UTF8, null, false, ENUM_NAME_UTF8_SETTERS, ENUM_NAME_UTF8_GETTERS, ENUM_NAME_UTF8_SDK_GETTERS, ENUM_NAME_UTF8_SDK_SETTERS);
+        registerYqlType(FieldValueType.ENUM, PrimitiveTypeId.STRING, DbTypeQualifier.ENUM_NAME, false, ENUM_NAME_STRING_SETTERS, ENUM_NAME_STRING_GETTERS, ENUM_NAME_STRING_SDK_GETTERS, ENUM_NAME_STRING_SDK_SETTERS);
+        registerYqlType(FieldValueType.ENUM, PrimitiveTypeId.UTF8, DbTypeQualifier.ENUM_NAME, false, ENUM_NAME_UTF8_SETTERS, ENUM_NAME_UTF8_GETTERS, ENUM_NAME_UTF8_SDK_GETTERS, ENUM_NAME_UTF8_SDK_SETTERS);
+        registerYqlType(FieldValueType.ENUM, PrimitiveTypeId.STRING, DbTypeQualifier.ENUM_TO_STRING, false, ENUM_TO_STRING_STRING_SETTERS, ENUM_TO_STRING_STRING_GETTERS, ENUM_TO_STRING_STRING_SDK_GETTERS, ENUM_TO_STRING_STRING_SDK_SETTERS);
+        registerYqlType(FieldValueType.ENUM, PrimitiveTypeId.UTF8, DbTypeQualifier.ENUM_TO_STRING, false, ENUM_TO_STRING_UTF8_SETTERS, ENUM_TO_STRING_UTF8_GETTERS, ENUM_TO_STRING_UTF8_SDK_GETTERS, ENUM_TO_STRING_UTF8_SDK_SETTERS);
+
+        registerYqlType(FieldValueType.OBJECT, PrimitiveTypeId.JSON, null, true, JSON_UTF8_SETTERS, JSON_UTF8_GETTERS, JSON_JSON_SDK_GETTERS, JSON_JSON_SDK_SETTERS);
+        registerYqlType(FieldValueType.OBJECT, PrimitiveTypeId.JSON_DOCUMENT, null, false, JSON_UTF8_SETTERS, JSON_UTF8_GETTERS, JSON_JSON_DOCUMENT_SDK_GETTERS, JSON_JSON_DOCUMENT_SDK_SETTERS);
+        registerYqlType(FieldValueType.OBJECT, PrimitiveTypeId.STRING, null, false, JSON_STRING_SETTERS, JSON_STRING_GETTERS, JSON_STRING_SDK_GETTERS, JSON_STRING_SDK_SETTERS);
+        registerYqlType(FieldValueType.OBJECT, PrimitiveTypeId.UTF8, null, false, JSON_UTF8_SETTERS, JSON_UTF8_GETTERS, JSON_UTF8_SDK_GETTERS, JSON_UTF8_SDK_SETTERS);
     }
 
     Type javaType;
@@ -237,6 +367,14 @@ public class YqlPrimitiveType implements YqlType {
 
     Function<ValueProtos.Value, Object> getter;
 
+    Function<ValueReader, Object> sdkGetter;
+
+    /**
+     * Builds SDK parameter values directly, without an intermediate protobuf value. {@code null} if values must be converted
+     * through {@link #toYql(Object) the protobuf representation}.
+     */
+    Function<Object, tech.ydb.table.values.Value<?>> sdkSetter;
+
     private static void checkSupportedYqlType(PrimitiveTypeId primitiveTypeId) {
         if (YQL_TYPE_NAMES.containsKey(primitiveTypeId)) {
             return;
@@ -259,14 +397,16 @@ public class YqlPrimitiveType implements YqlType {
             String qualifier,
             boolean isDefault,
             Setter setter,
-            Getter getter
+            Getter getter,
+            SdkGetter sdkGetter,
+            SdkSetter sdkSetter
     ) {
         checkSupportedYqlType(yqlType);
 
         var typeSelector = new YqlTypeSelector(javaType, yqlType, qualifier);
         YQL_TYPES.compute(typeSelector, (k, v) -> {
             if (v == null) {
-                return new YqlPrimitiveType(javaType, yqlType, setter, getter);
+                return new YqlPrimitiveType(javaType, yqlType, setter, getter, sdkGetter, sdkSetter);
             }
 
             throw new RuntimeException(format("YQL type %s is already registered!", k));
@@ -296,7 +436,8 @@ public class YqlPrimitiveType implements YqlType {
                 if (!YQL_TYPES.containsKey(primitiveSelector)) {
                     yqlTypes.put(
                             selector.withJavaType(primitiveType),
-                            new YqlPrimitiveType(primitiveType, yqlType.getYqlType(), yqlType.getSetter(), yqlType.getGetter()));
+                            new YqlPrimitiveType(primitiveType, yqlType.getYqlType(), yqlType.getSetter(), yqlType.getGetter(),
+                                    yqlType.getSdkGetter(), yqlType.getSdkSetter()));
                 }
             }
         });
@@ -323,14 +464,16 @@ public class YqlPrimitiveType implements YqlType {
             String qualifier,
             boolean isDefault,
             Function<Type, Setter> setters,
-            Function<Type, Getter> getters
+            Function<Type, Getter> getters,
+            Function<Type, SdkGetter> sdkGetters,
+            Function<Type, SdkSetter> sdkSetters
     ) {
         checkSupportedYqlType(yqlType);
 
         var typeSelector = new ValueYqlTypeSelector(valueType, yqlType, qualifier);
         JAVA_YQL_TYPE_ACCESSORS.compute(typeSelector, (k, v) -> {
             if (v == null) {
-                return new JavaYqlTypeAccessors(setters, getters);
+                return new JavaYqlTypeAccessors(setters, getters, sdkGetters, sdkSetters);
             }
 
             throw new RuntimeException(format("YQL type %s is already registered!", k));
@@ -398,12 +541,12 @@ public class YqlPrimitiveType implements YqlType {
                 case UUID -> {
                     var selector = new YqlTypeSelector(Instant.class, PrimitiveTypeId.STRING, null);
                     JAVA_DEFAULT_YQL_TYPES.put(UUID.class, selector);
-                    YQL_TYPES.put(selector, new YqlPrimitiveType(UUID.class, PrimitiveTypeId.STRING, UUID_STRING_SETTER, UUID_STRING_GETTER));
+                    YQL_TYPES.put(selector, new YqlPrimitiveType(UUID.class, PrimitiveTypeId.STRING, UUID_STRING_SETTER, UUID_STRING_GETTER, UUID_STRING_SDK_GETTER, UUID_STRING_SDK_SETTER));
                 }
                 case TIMESTAMP -> {
                     var selector = new YqlTypeSelector(Instant.class, PrimitiveTypeId.INT64, null);
                     JAVA_DEFAULT_YQL_TYPES.put(Instant.class, selector);
-                    YQL_TYPES.put(selector, new YqlPrimitiveType(Instant.class, PrimitiveTypeId.INT64, INSTANT_SETTER, INSTANT_GETTER));
+                    YQL_TYPES.put(selector, new YqlPrimitiveType(Instant.class, PrimitiveTypeId.INT64, INSTANT_SETTER, INSTANT_GETTER, INSTANT_SDK_GETTER, INSTANT_SDK_SETTER));
                 }
             }
         }
@@ -429,12 +572,12 @@ public class YqlPrimitiveType implements YqlType {
                 case UUID -> {
                     var selector = new YqlTypeSelector(Instant.class, PrimitiveTypeId.UTF8, null);
                     JAVA_DEFAULT_YQL_TYPES.put(UUID.class, selector);
-                    YQL_TYPES.put(selector, new YqlPrimitiveType(UUID.class, PrimitiveTypeId.UTF8, UUID_UTF8_SETTER, UUID_UTF8_GETTER));
+                    YQL_TYPES.put(selector, new YqlPrimitiveType(UUID.class, PrimitiveTypeId.UTF8, UUID_UTF8_SETTER, UUID_UTF8_GETTER, UUID_UTF8_SDK_GETTER, UUID_UTF8_SDK_SETTER));
                 }
                 case TIMESTAMP -> {
                     var selector = new YqlTypeSelector(Instant.class, PrimitiveTypeId.TIMESTAMP, null);
                     JAVA_DEFAULT_YQL_TYPES.put(Instant.class, selector);
-                    YQL_TYPES.put(selector, new YqlPrimitiveType(Instant.class, PrimitiveTypeId.TIMESTAMP, TIMESTAMP_SETTER, TIMESTAMP_GETTER));
+                    YQL_TYPES.put(selector, new YqlPrimitiveType(Instant.class, PrimitiveTypeId.TIMESTAMP, TIMESTAMP_SETTER, TIMESTAMP_GETTER, TIMESTAMP_SDK_GETTER, TIMESTAMP_SDK_SETTER));
                 }
             }
         }
@@ -489,7 +632,9 @@ public class YqlPrimitiveType implements YqlType {
                 javaType,
                 underlyingType.yqlType,
                 (b, o) -> underlyingType.setter.accept(b, CustomValueTypes.preconvert(column, o)),
-                v -> CustomValueTypes.postconvert(column, underlyingType.getter.apply(v))
+                v -> CustomValueTypes.postconvert(column, underlyingType.getter.apply(v)),
+                r -> CustomValueTypes.postconvert(column, underlyingType.sdkGetter.apply(r)),
+                underlyingType.sdkSetter == null ? null : o -> underlyingType.sdkSetter.apply(CustomValueTypes.preconvert(column, o))
         );
     }
 
@@ -537,8 +682,10 @@ public class YqlPrimitiveType implements YqlType {
 
                     Setter setter = typeAccessors.getSetters().apply(javaType);
                     Getter getter = typeAccessors.getGetters().apply(javaType);
+                    SdkGetter sdkGetter = typeAccessors.getSdkGetters().apply(javaType);
+                    SdkSetter sdkSetter = typeAccessors.getSdkSetters().apply(javaType);
 
-                    return new YqlPrimitiveType(javaType, typeSelector.getYqlType(), setter, getter);
+                    return new YqlPrimitiveType(javaType, typeSelector.getYqlType(), setter, getter, sdkGetter, sdkSetter);
                 });
 
             case COMPOSITE:
@@ -597,6 +744,35 @@ public class YqlPrimitiveType implements YqlType {
         return builder;
     }
 
+    @Override
+    public PrimitiveType toSdkType() {
+        return SDK_TYPES.get(yqlType);
+    }
+
+    @Override
+    public OptionalType toSdkOptionalType() {
+        return SDK_OPTIONAL_TYPES.get(yqlType);
+    }
+
+    @Override
+    public tech.ydb.table.values.Value<?> toSdkValue(Object value) {
+        if (sdkSetter == null) {
+            return ProtoValue.fromPb(toSdkType(), toYql(value).build());
+        }
+
+        try {
+            return sdkSetter.apply(value);
+        } catch (Exception e) {
+            throw new ConversionException(format(
+                    "Could not convert Java value of type \"%s\" to YDB value of type \"%s\": %s",
+                    javaType.getTypeName(), getYqlTypeName(), value), e);
+        }
+    }
+
+    private static long toMicros(Duration duration) {
+        return TimeUnit.NANOSECONDS.toMicros(duration.toNanos());
+    }
+
     private static Descriptors.FieldDescriptor getValueDescriptor(String name) {
         return ValueProtos.Value.getDescriptor().findFieldByName(name);
     }
@@ -630,12 +806,44 @@ public class YqlPrimitiveType implements YqlType {
         }
     }
 
+    @Override
+    public Function<ValueReader, Object> sdkReader(tech.ydb.table.values.Type columnType) {
+        ValueProtos.Type type = columnType.toPb();
+        boolean optional = type.hasOptionalType();
+        if (optional) {
+            type = type.getOptionalType().getItem();
+        }
+        if (type.getTypeCase() != ValueProtos.Type.TypeCase.TYPE_ID || type.getTypeId() != yqlType) {
+            // Lenient conversion of compatible column types (e.g. Int8 column read as Int32) and containers
+            return YqlType.super.sdkReader(columnType);
+        }
+
+        return column -> {
+            if (optional && !column.isOptionalItemPresent()) {
+                return null;
+            }
+            try {
+                return sdkGetter.apply(column);
+            } catch (Exception e) {
+                throw new ConversionException(format(
+                        "Could not convert YDB value of type \"%s\" to Java value of type \"%s\": %s",
+                        getYqlTypeName(), javaType.getTypeName(), column), e);
+            }
+        };
+    }
+
     private interface Setter extends BiConsumer<ValueProtos.Value.Builder, Object> {
     }
 
     private interface Getter extends Function<ValueProtos.Value, Object> {
     }
 
+    private interface SdkGetter extends Function<ValueReader, Object> {
+    }
+
+    private interface SdkSetter extends Function<Object, tech.ydb.table.values.Value<?>> {
+    }
+
     @Value
     private static class YqlTypeSelector {
         @NonNull
@@ -663,6 +871,10 @@ public class YqlPrimitiveType implements YqlType {
         private final Function<Type, Setter> setters;
         @NonNull
         private final Function<Type, Getter> getters;
+        @NonNull
+        private final Function<Type, SdkGetter> sdkGetters;
+        @NonNull
+        private final Function<Type, SdkSetter> sdkSetters;
     }
 
     private static class YdbContainerValueGetter implements Getter {
@@ -2,10 +2,15 @@ package tech.ydb.yoj.repository.ydb.yql;
 
 import lombok.NonNull;
 import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.result.ValueReader;
+import tech.ydb.table.values.OptionalType;
+import tech.ydb.table.values.Value;
 import tech.ydb.yoj.databind.schema.Column;
 import tech.ydb.yoj.databind.schema.Schema.JavaField;
+import tech.ydb.yoj.repository.ydb.client.YdbConverter;
 
 import java.lang.reflect.Type;
+import java.util.function.Function;
 
 public interface YqlType {
     ValueProtos.Type.Builder getYqlTypeBuilder();
@@ -38,5 +43,43 @@ public interface YqlType {
 
     ValueProtos.Value.Builder toYql(Object value);
 
+    /**
+     * @return YDB SDK type corresponding to this YQL type
+     */
+    default tech.ydb.table.values.Type toSdkType() {
+        return YdbConverter.typeToSDK(getYqlTypeBuilder().build());
+    }
+
+    /**
+     * @return YDB SDK type corresponding to {@code Optional<}this YQL type{@code >}
+     */
+    default OptionalType toSdkOptionalType() {
+        return toSdkType().makeOptional();
+    }
+
+    /**
+     * Converts Java value to YDB SDK value of {@link #toSdkType() the corresponding type}.
+     * <p>Default implementation converts the value to YDB protobuf first, using {@link #toYql(Object)}.
+     *
+     * @param value non-{@code null} Java value
+     * @return YDB SDK value
+     */
+    default Value<?> toSdkValue(Object value) {
+        return YdbConverter.toSDK(getYqlTypeBuilder().build(), toYql(value).build());
+    }
+
     Object fromYql(ValueProtos.Value value);
+
+    /**
+     * Returns a function that reads Java values directly from YDB SDK result set columns of the specified type,
+     * without converting each value to YDB protobuf {@code Value} first.
+     * <p>The returned function is meant to be obtained once per result set column and then applied to every row.
+     * Default implementation converts column values to YDB protobuf and calls {@link #fromYql(ValueProtos.Value)}.
+     *
+     * @param columnType result set column type, as returned by YDB
+     * @return function reading a Java value from the current row of a result set column
+     */
+    default Function<ValueReader, Object> sdkReader(tech.ydb.table.values.Type columnType) {
+        return column -> fromYql(YdbConverter.convertValueToProto(column).build());
+    }
 }
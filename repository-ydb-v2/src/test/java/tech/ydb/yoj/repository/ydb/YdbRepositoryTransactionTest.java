@@ -0,0 +1,160 @@
+package tech.ydb.yoj.repository.ydb;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import tech.ydb.core.Result;
+import tech.ydb.core.Status;
+import tech.ydb.core.StatusCode;
+import tech.ydb.proto.ValueProtos;
+import tech.ydb.proto.table.YdbTable;
+import tech.ydb.table.Session;
+import tech.ydb.table.query.DataQueryResult;
+import tech.ydb.table.transaction.TxControl;
+import tech.ydb.yoj.repository.db.bulk.BulkParams;
+import tech.ydb.yoj.repository.test.sample.model.Complex;
+import tech.ydb.yoj.repository.ydb.client.SessionManager;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class YdbRepositoryTransactionTest {
+    private static final String TX_ID = "tx-1";
+
+    @Mock
+    private Session session;
+    @Mock
+    private SessionManager sessionManager;
+    @Mock
+    private TestYdbRepository testYdbRepository;
+
+    @Before
+    public void init() {
+        MockitoAnnotations.initMocks(this);
+        when(testYdbRepository.getSessionManager()).thenReturn(sessionManager);
+        when(sessionManager.getSession()).thenReturn(session);
+        when(session.executeDataQuery(any(), any(), any(), any())).thenReturn(resultWithTxId());
+        when(session.commitTransaction(any(), any())).thenReturn(CompletableFuture.completedFuture(Status.SUCCESS));
+    }
+
+    @Test
+    public void lastWriteCommitsTransaction() {
+        var tx = new TestYdbRepository.TestYdbRepositoryTransaction(testYdbRepository);
+
+        tx.complexes().find(new Complex.Id(1, 1L, "c", Complex.Status.OK));
+        tx.complexes().save(new Complex(new Complex.Id(1, 2L, "c", Complex.Status.OK)));
+        tx.complexes().insert(new Complex(new Complex.Id(1, 3L, "c", Complex.Status.OK)));
+        tx.commit();
+
+        verify(session, times(2)).executeDataQuery(any(), argThat(txControl -> !isCommitTx(txControl)), any(), any());
+        verify(session, times(1)).executeDataQuery(any(), argThat(this::isCommitTx), any(), any());
+        verify(session, never()).commitTransaction(any(), any());
+    }
+
+    @Test
+    public void explicitCommitIfNothingWasWritten() {
+        var tx = new TestYdbRepository.TestYdbRepositoryTransaction(testYdbRepository);
+
+        tx.complexes().find(new Complex.Id(1, 1L, "c", Complex.Status.OK));
+        tx.commit();
+
+        verify(session, never()).executeDataQuery(any(), argThat(this::isCommitTx), any(), any());
+        verify(session, times(1)).commitTransaction(any(), any());
+    }
+
+    @Test
+    public void bulkUpsertInChunks() {
+        when(session.executeBulkUpsert(any(), any(), any())).thenReturn(CompletableFuture.completedFuture(Status.SUCCESS));
+        var tx = new TestYdbRepository.TestYdbRepositoryTransaction(testYdbRepository);
+
+        tx.complexes().bulkUpsert(complexes(5), BulkParams.builder().maxChunkRows(2).parallelism(2).build());
+
+        verify(session, times(2)).executeBulkUpsert(any(), argThat(rows -> rows.size() == 2), any());
+        verify(session, times(1)).executeBulkUpsert(any(), argThat(rows -> rows.size() == 1), any());
+    }
+
+    @Test
+    public void bulkUpsertInChunksBySize() {
+        when(session.executeBulkUpsert(any(), any(), any())).thenReturn(CompletableFuture.completedFuture(Status.SUCCESS));
+        var tx = new TestYdbRepository.TestYdbRepositoryTransaction(testYdbRepository);
+
+        tx.complexes().bulkUpsert(complexes(3), BulkParams.builder().maxChunkBytes(1).build());
+
+        verify(session, times(3)).executeBulkUpsert(any(), argThat(rows -> rows.size() == 1), any());
+    }
+
+    @Test
+    public void bulkUpsertRetriesFailedChunk() {
+        when(session.executeBulkUpsert(any(), any(), any())).thenReturn(
+                CompletableFuture.completedFuture(Status.of(StatusCode.OVERLOADED)),
+                CompletableFuture.completedFuture(Status.SUCCESS)
+        );
+        var tx = new TestYdbRepository.TestYdbRepositoryTransaction(testYdbRepository);
+
+        tx.complexes().bulkUpsert(complexes(2), BulkParams.builder().maxChunkRetries(1).build());
+
+        verify(session, times(2)).executeBulkUpsert(any(), argThat(rows -> rows.size() == 2), any());
+    }
+
+    @Test
+    public void bulkUpsertFromStreamInDefaultChunks() {
+        when(session.executeBulkUpsert(any(), any(), any())).thenReturn(CompletableFuture.completedFuture(Status.SUCCESS));
+        var tx = new TestYdbRepository.TestYdbRepositoryTransaction(testYdbRepository);
+
+        tx.complexes().bulkUpsert(complexes(2500).stream(), BulkParams.DEFAULT);
+
+        verify(session, times(2)).executeBulkUpsert(any(), argThat(rows -> rows.size() == 1000), any());
+        verify(session, times(1)).executeBulkUpsert(any(), argThat(rows -> rows.size() == 500), any());
+    }
+
+    @Test
+    public void bulkUpsertPullsInputLazily() {
+        var pending = new CompletableFuture<Status>();
+        when(session.executeBulkUpsert(any(), any(), any())).thenReturn(pending);
+        var tx = new TestYdbRepository.TestYdbRepositoryTransaction(testYdbRepository);
+        var pulled = new AtomicInteger();
+        Iterator<Complex> input = complexes(10).stream().peek(__ -> pulled.incrementAndGet()).iterator();
+
+        var upsert = CompletableFuture.runAsync(() ->
+                tx.complexes().bulkUpsert(input, BulkParams.builder().maxChunkRows(2).build()));
+
+        // One chunk is in flight, and the next one is ready to be sent
+        verify(session, timeout(10_000).times(1)).executeBulkUpsert(any(), any(), any());
+        assertThat(pulled).hasValueLessThanOrEqualTo(4);
+
+        pending.complete(Status.SUCCESS);
+        upsert.join();
+        assertThat(pulled).hasValue(10);
+    }
+
+    private static List<Complex> complexes(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new Complex(new Complex.Id(i, (long) i, "c", Complex.Status.OK)))
+                .toList();
+    }
+
+    private boolean isCommitTx(TxControl<?> txControl) {
+        return txControl != null && txControl.isCommitTx();
+    }
+
+    private static CompletableFuture<Result<DataQueryResult>> resultWithTxId() {
+        var executeQueryResult = YdbTable.ExecuteQueryResult.newBuilder()
+                .addResultSets(ValueProtos.ResultSet.newBuilder().build())
+                .setTxMeta(YdbTable.TransactionMeta.newBuilder().setId(TX_ID).build())
+                .build();
+        return CompletableFuture.completedFuture(Result.success(new DataQueryResult(executeQueryResult)));
+    }
+}
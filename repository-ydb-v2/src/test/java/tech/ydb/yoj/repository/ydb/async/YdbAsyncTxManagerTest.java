@@ -0,0 +1,114 @@
+package tech.ydb.yoj.repository.ydb.async;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import tech.ydb.core.Result;
+import tech.ydb.core.Status;
+import tech.ydb.core.StatusCode;
+import tech.ydb.proto.table.YdbTable;
+import tech.ydb.table.Session;
+import tech.ydb.table.query.DataQueryResult;
+import tech.ydb.yoj.repository.test.sample.model.Complex;
+import tech.ydb.yoj.repository.ydb.TestYdbRepository;
+import tech.ydb.yoj.repository.ydb.client.SessionManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class YdbAsyncTxManagerTest {
+    private static final Complex.Id ID = new Complex.Id(1, 2L, "c", Complex.Status.OK);
+
+    @Mock
+    private Session session;
+    @Mock
+    private SessionManager sessionManager;
+    @Mock
+    private TestYdbRepository testYdbRepository;
+
+    private YdbAsyncTxManager txManager;
+
+    @Before
+    public void init() {
+        MockitoAnnotations.initMocks(this);
+        when(testYdbRepository.getSessionManager()).thenReturn(sessionManager);
+        when(sessionManager.getSessionAsync()).thenAnswer(__ -> CompletableFuture.completedFuture(session));
+        txManager = new YdbAsyncTxManager(testYdbRepository).withMaxRetries(2);
+    }
+
+    @Test
+    public void findReturnsNullIfNothingFound() {
+        when(session.executeDataQuery(any(), any(), any(), any())).thenReturn(emptyResult());
+
+        Complex found = txManager.txAsync(tx -> tx.table(Complex.class).find(ID)).join();
+
+        assertThat(found).isNull();
+        verify(session, times(1)).executeDataQuery(any(), any(), any(), any());
+        verify(sessionManager, times(1)).release(session);
+    }
+
+    @Test
+    public void retriesOnRetryableException() {
+        when(session.executeDataQuery(any(), any(), any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(Result.fail(Status.of(StatusCode.ABORTED))))
+                .thenReturn(emptyResult());
+
+        AtomicInteger attempts = new AtomicInteger();
+        Complex found = txManager.txAsync(tx -> {
+            attempts.incrementAndGet();
+            return tx.table(Complex.class).find(ID);
+        }).join();
+
+        assertThat(found).isNull();
+        assertThat(attempts).hasValue(2);
+        verify(session, times(2)).executeDataQuery(any(), any(), any(), any());
+        // ABORTED invalidates the session, so it is discarded instead of being returned to the pool
+        verify(sessionManager, times(1)).discard(session);
+        verify(sessionManager, times(1)).release(session);
+    }
+
+    @Test
+    public void findReturnsEntityWrittenByTransaction() {
+        when(session.executeDataQuery(any(), any(), any(), any())).thenReturn(emptyResult());
+        Complex complex = new Complex(ID);
+
+        Complex found = txManager.txAsync(tx -> {
+            tx.table(Complex.class).save(complex);
+            return tx.table(Complex.class).find(ID);
+        }).join();
+
+        assertThat(found).isEqualTo(complex);
+        // Only the write is sent to YDB, the entity is found in the first-level cache
+        verify(session, times(1)).executeDataQuery(any(), any(), any(), any());
+    }
+
+    @Test
+    public void doesNotRetryOnFatalException() {
+        AtomicInteger attempts = new AtomicInteger();
+        CompletableFuture<Object> result = txManager.txAsync(tx -> {
+            attempts.incrementAndGet();
+            throw new IllegalArgumentException("fatal");
+        });
+
+        assertThatThrownBy(result::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThat(attempts).hasValue(1);
+        verify(session, never()).executeDataQuery(any(), any(), any(), any());
+    }
+
+    private static CompletableFuture<Result<DataQueryResult>> emptyResult() {
+        var executeQueryResult = YdbTable.ExecuteQueryResult.newBuilder().build();
+        return CompletableFuture.completedFuture(Result.success(new DataQueryResult(executeQueryResult)));
+    }
+}
@@ -0,0 +1,172 @@
+package tech.ydb.yoj.repository.ydb.client;
+
+import org.junit.Before;
+import org.junit.Test;
+import tech.ydb.table.Session;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ThreadAffinitySessionManagerTest {
+    private final Session session1 = mock(Session.class);
+    private final Session session2 = mock(Session.class);
+
+    private SessionManager delegate;
+    private ThreadAffinitySessionManager sessionManager;
+
+    @Before
+    public void init() {
+        delegate = mock(SessionManager.class);
+        when(delegate.getSession()).thenReturn(session1, session2);
+        sessionManager = new ThreadAffinitySessionManager(delegate, Duration.ofMinutes(1), 1);
+    }
+
+    @Test
+    public void reuseSessionOnSameThread() {
+        Session first = sessionManager.getSession();
+        sessionManager.release(first);
+        Session second = sessionManager.getSession();
+
+        assertThat(second).isSameAs(first);
+        verify(delegate, times(1)).getSession();
+        verify(delegate, never()).release(first);
+    }
+
+    @Test
+    public void doNotReuseDiscardedSession() {
+        Session first = sessionManager.getSession();
+        sessionManager.discard(first);
+        Session second = sessionManager.getSession();
+
+        assertThat(second).isNotSameAs(first);
+        verify(delegate).discard(first);
+    }
+
+    @Test
+    public void doNotReuseSessionOnOtherThread() {
+        sessionManager.release(sessionManager.getSession());
+
+        Session other = CompletableFuture.supplyAsync(sessionManager::getSession).join();
+
+        assertThat(other).isSameAs(session2);
+    }
+
+    @Test
+    public void releaseSessionToPoolIfThreadAlreadyKeepsOne() {
+        Session outer = sessionManager.getSession();
+        Session inner = sessionManager.getSession();
+        sessionManager.release(inner);
+        sessionManager.release(outer);
+
+        verify(delegate, never()).release(inner);
+        verify(delegate).release(outer);
+        assertThat(sessionManager.getSession()).isSameAs(inner);
+    }
+
+    @Test
+    public void releaseAsyncSessionToPool() {
+        when(delegate.getSessionAsync()).thenReturn(CompletableFuture.completedFuture(session1));
+
+        Session session = sessionManager.getSessionAsync().join();
+        sessionManager.release(session);
+
+        verify(delegate).release(session);
+    }
+
+    @Test
+    public void releaseIdleSessionsOnShutdown() {
+        Session session = sessionManager.getSession();
+        sessionManager.release(session);
+        sessionManager.shutdown();
+
+        verify(delegate).release(session);
+        verify(delegate).shutdown();
+    }
+
+    @Test
+    public void moreThreadsThanPoolSize() throws Exception {
+        var pool = new BoundedSessionPool(2);
+        var manager = new ThreadAffinitySessionManager(pool, Duration.ofMinutes(1), 1);
+
+        // Each thread keeps running after its transaction, so the sessions kept for it do not expire
+        var done = new CountDownLatch(1);
+        var threads = new ArrayList<Thread>();
+        try {
+            for (int i = 0; i < 6; i++) {
+                var txCompleted = new CompletableFuture<Void>();
+                var thread = new Thread(() -> {
+                    try {
+                        manager.release(manager.getSession());
+                        txCompleted.complete(null);
+                        done.await();
+                    } catch (Throwable t) {
+                        txCompleted.completeExceptionally(t);
+                    }
+                });
+                threads.add(thread);
+                thread.start();
+                txCompleted.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            done.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        }
+
+        assertThat(pool.sessions).hasSize(1);
+    }
+
+    private static final class BoundedSessionPool implements SessionManager {
+        private final BlockingQueue<Session> sessions = new LinkedBlockingQueue<>();
+
+        private BoundedSessionPool(int size) {
+            for (int i = 0; i < size; i++) {
+                sessions.add(mock(Session.class));
+            }
+        }
+
+        @Override
+        public Session getSession() {
+            try {
+                Session session = sessions.poll(5, TimeUnit.SECONDS);
+                if (session == null) {
+                    throw new IllegalStateException("Session pool is exhausted");
+                }
+                return session;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void release(Session session) {
+            sessions.add(session);
+        }
+
+        @Override
+        public void warmup() {
+        }
+
+        @Override
+        public void invalidateAllSessions() {
+        }
+
+        @Override
+        public void shutdown() {
+        }
+    }
+}
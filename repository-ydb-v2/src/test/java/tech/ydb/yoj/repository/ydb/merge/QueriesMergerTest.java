@@ -4,24 +4,38 @@ import org.assertj.core.api.Assertions;
 import org.junit.Test;
 import tech.ydb.yoj.repository.db.Entity;
 import tech.ydb.yoj.repository.db.EntitySchema;
+import tech.ydb.yoj.repository.db.Range;
 import tech.ydb.yoj.repository.db.TableDescriptor;
 import tech.ydb.yoj.repository.db.cache.RepositoryCache;
 import tech.ydb.yoj.repository.db.cache.RepositoryCacheImpl;
+import tech.ydb.yoj.repository.test.sample.model.Book;
+import tech.ydb.yoj.repository.test.sample.model.Bubble;
+import tech.ydb.yoj.repository.test.sample.model.Complex;
 import tech.ydb.yoj.repository.test.sample.model.Primitive;
 import tech.ydb.yoj.repository.test.sample.model.Project;
 import tech.ydb.yoj.repository.ydb.YdbRepository;
+import tech.ydb.yoj.repository.ydb.exception.YdbRepositoryException;
 import tech.ydb.yoj.repository.ydb.statement.DeleteAllStatement;
 import tech.ydb.yoj.repository.ydb.statement.DeleteByIdStatement;
+import tech.ydb.yoj.repository.ydb.statement.DeleteRangeStatement;
 import tech.ydb.yoj.repository.ydb.statement.FindYqlStatement;
 import tech.ydb.yoj.repository.ydb.statement.InsertYqlStatement;
+import tech.ydb.yoj.repository.ydb.statement.MultiStatement;
 import tech.ydb.yoj.repository.ydb.statement.Statement;
+import tech.ydb.yoj.repository.ydb.statement.UpdateByIdStatement;
+import tech.ydb.yoj.repository.ydb.statement.UpdateColumnsByIdStatement;
+import tech.ydb.yoj.repository.ydb.statement.UpdateModel;
 import tech.ydb.yoj.repository.ydb.statement.UpsertYqlStatement;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 public class QueriesMergerTest {
     @Test
@@ -140,6 +154,179 @@ public class QueriesMergerTest {
         Assertions.assertThat(result.get(0).getStatement().getQueryType()).isEqualTo(Statement.QueryType.DELETE_ALL);
     }
 
+    @Test
+    public void doNotMergeOrReorderRangeDeletes() {
+        RepositoryCacheImpl cache = new RepositoryCacheImpl();
+        QueriesMerger merger = QueriesMerger.create(cache);
+
+        Project p = new Project(new Project.Id("1"), "project");
+        Project p2 = new Project(new Project.Id("2"), "new project2");
+        cache.put(new RepositoryCache.Key(Project.class, p.getId()), p);
+        List<YdbRepository.Query<?>> result = merger.merge(
+                insert(p2),
+                deleteRange(Range.create(new Project.Id("1"), new Project.Id("3"))),
+                upsert(p));
+
+        assertThat(result).hasSize(3);
+        Assertions.assertThat(result.get(0).getStatement().getQueryType()).isEqualTo(Statement.QueryType.INSERT);
+        Assertions.assertThat(result.get(1).getStatement().getQueryType()).isEqualTo(Statement.QueryType.DELETE_RANGE);
+        // upsert of the cached value is not skipped, because the range delete has deleted it
+        Assertions.assertThat(result.get(2).getStatement().getQueryType()).isEqualTo(Statement.QueryType.UPSERT);
+        assertThat(result.get(2).getValues()).isEqualTo(Collections.singletonList(p));
+    }
+
+    @Test
+    public void partialUpdatesOfReadEntities() {
+        RepositoryCacheImpl cache = new RepositoryCacheImpl();
+        QueriesMerger merger = QueriesMerger.create(cache).withPartialUpdates();
+
+        Bubble b1 = new Bubble(new Bubble.Id("a", "1"), "a1", "b1", "c1");
+        Bubble b2 = new Bubble(new Bubble.Id("a", "2"), "a2", "b2", "c2");
+        Bubble b3 = new Bubble(new Bubble.Id("a", "3"), "a3", "b3", "c3");
+        Bubble b4 = new Bubble(new Bubble.Id("a", "4"), "a4", "b4", "c4");
+        Bubble b5 = new Bubble(new Bubble.Id("a", "5"), "a5", "b5", "c5");
+        Stream.of(b1, b2, b3, b4).forEach(b -> cache.put(new RepositoryCache.Key(Bubble.class, b.getId()), b));
+
+        Bubble b1Changed = new Bubble(b1.getId(), "changed", "b1", "c1");
+        Bubble b2Changed = new Bubble(b2.getId(), "changed", "b2", "c2");
+        Bubble b3Changed = new Bubble(b3.getId(), "a3", "changed", "c3");
+        Bubble b4Changed = new Bubble(b4.getId(), "changed", "b4", "c4");
+        List<YdbRepository.Query<?>> result = merger.merge(
+                upsert(b1Changed),
+                upsert(b2Changed),
+                upsert(b3Changed),
+                delete(b4),
+                upsert(b4Changed),
+                upsert(b5));
+
+        assertThat(result).hasSize(3);
+        // b4 has been deleted and b5 has not been read, so they are upserted as a whole
+        Assertions.assertThat(result.get(0).getStatement().getQueryType()).isEqualTo(Statement.QueryType.UPSERT);
+        assertThat(values(result.get(0))).containsExactlyInAnyOrder(b4Changed, b5);
+
+        // updates of different columns are separate queries, in no particular order
+        var updates = result.subList(1, 3).stream()
+                .sorted(Comparator.comparingInt((YdbRepository.Query<?> q) -> q.getValues().size()).reversed())
+                .toList();
+        assertThat(updates).allMatch(q -> q.getStatement().getQueryType() == Statement.QueryType.UPDATE);
+        assertThat(values(updates.get(0))).containsExactlyInAnyOrder(b1Changed, b2Changed);
+        assertThat(updates.get(0).getStatement().getQuery(""))
+                .contains("UPDATE", "fieldA")
+                .doesNotContain("fieldB", "fieldC");
+        assertThat(values(updates.get(1))).containsExactly(b3Changed);
+        assertThat(updates.get(1).getStatement().getQuery(""))
+                .contains("UPDATE", "fieldB")
+                .doesNotContain("fieldA", "fieldC");
+    }
+
+    @Test
+    public void mergeUpdatesByIdOfSameFields() {
+        QueriesMerger merger = createMerger();
+
+        Project p3 = new Project(new Project.Id("3"), "third");
+        List<YdbRepository.Query<?>> result = merger.merge(
+                update(new Project.Id("1"), Map.of("name", "done")),
+                upsert(p3),
+                update(new Project.Id("2"), Map.of("name", "done")),
+                update(new Project.Id("4"), Map.of("name", "failed")));
+
+        assertThat(result).hasSize(2);
+        Assertions.assertThat(result.get(0).getStatement().getQueryType()).isEqualTo(Statement.QueryType.UPSERT);
+        assertThat(values(result.get(0))).containsExactly(p3);
+
+        var update = result.get(1);
+        assertThat(update.getStatement()).isInstanceOf(UpdateColumnsByIdStatement.class);
+        assertThat(update.getStatement().getQuery(""))
+                .contains("UPDATE", "ON SELECT * FROM AS_TABLE($Input)", "name");
+        assertThat(values(update))
+                .extracting(v -> ((UpdateModel.ById<?>) v).getId())
+                .containsExactlyInAnyOrder(new Project.Id("1"), new Project.Id("2"), new Project.Id("4"));
+    }
+
+    @Test
+    public void doNotMergeUpdatesByIdWithNullIdFields() {
+        QueriesMerger merger = createMerger();
+
+        List<YdbRepository.Query<?>> result = merger.merge(
+                update(Complex.class, new Complex.Id(1, 2L, "c", Complex.Status.OK), Map.of("value", "x")),
+                update(Complex.class, new Complex.Id(1, null, "c", Complex.Status.OK), Map.of("value", "y")));
+
+        assertThat(result).hasSize(2).allMatch(q -> q.getStatement() instanceof UpdateByIdStatement);
+    }
+
+    @Test
+    public void doNotMergeUpdateByIdWithOtherModificationsOfSameEntity() {
+        QueriesMerger merger = createMerger();
+
+        Project p = new Project(new Project.Id("1"), "first");
+        assertThatExceptionOfType(YdbRepositoryException.class).isThrownBy(() -> merger.merge(
+                upsert(p),
+                update(p.getId(), Map.of("name", "done"))));
+        assertThatExceptionOfType(YdbRepositoryException.class).isThrownBy(() -> merger.merge(
+                update(p.getId(), Map.of("name", "done")),
+                delete(p)));
+    }
+
+    @Test
+    public void partialUpdateWritesValuesMutatedInPlace() {
+        RepositoryCacheImpl cache = new RepositoryCacheImpl();
+        QueriesMerger merger = QueriesMerger.create(cache).withPartialUpdates();
+
+        var authors = new ArrayList<>(List.of("Ilf"));
+        Book read = new Book(new Book.Id("12 chairs"), 1, "12 Chairs", authors);
+        cache.put(new RepositoryCache.Key(Book.class, read.getId()), read);
+
+        // The saved entity shares the list with the read one, so the read entity has the new authors, too
+        authors.add("Petrov");
+        Book saved = read.withTitle("The Twelve Chairs");
+        List<YdbRepository.Query<?>> result = merger.merge(upsert(saved));
+
+        assertThat(result).hasSize(1);
+        Assertions.assertThat(result.get(0).getStatement().getQueryType()).isEqualTo(Statement.QueryType.UPDATE);
+        assertThat(values(result.get(0))).containsExactly(saved);
+        assertThat(result.get(0).getStatement().getQuery(""))
+                .contains("title", "authors")
+                .doesNotContain("version");
+    }
+
+    @Test
+    public void combineQueriesForDifferentTables() {
+        QueriesMerger merger = QueriesMerger.createMultiStatement(new RepositoryCacheImpl());
+
+        List<YdbRepository.Query<?>> queries = new ArrayList<>();
+        getProjects().forEach(p -> queries.add(upsert(p)));
+        getPrimitives().forEach(p -> queries.add(insert(p)));
+        List<YdbRepository.Query<?>> result = merger.merge(queries);
+
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getStatement()).isInstanceOf(MultiStatement.class);
+
+        @SuppressWarnings("unchecked")
+        var query = (YdbRepository.Query<List<?>>) result.get(0);
+        String yql = query.getStatement().getQuery("");
+        assertThat(yql)
+                .contains("DECLARE $q0_Input AS", "DECLARE $q1_Input AS")
+                .doesNotContain("$Input");
+        assertThat(query.getStatement().toSdkParameters(query.getValues().get(0)))
+                .containsOnlyKeys("$q0_Input", "$q1_Input");
+    }
+
+    @Test
+    public void doNotCombineQueriesForSameTable() {
+        QueriesMerger merger = QueriesMerger.createMultiStatement(new RepositoryCacheImpl());
+
+        List<YdbRepository.Query<?>> result = merger.merge(
+                insert(new Project(new Project.Id("1"), "new project")),
+                upsert(new Project(new Project.Id("2"), "new project2")));
+
+        assertThat(result).hasSize(2);
+        assertThat(result).noneMatch(q -> q.getStatement() instanceof MultiStatement);
+    }
+
+    private static List<Object> values(YdbRepository.Query<?> query) {
+        return List.copyOf(query.getValues());
+    }
+
     private QueriesMerger createMerger() {
         return QueriesMerger.create(new RepositoryCacheImpl());
     }
@@ -150,6 +337,23 @@ public class QueriesMergerTest {
         return new YdbRepository.Query<>(new DeleteAllStatement<>(tableDescriptor, schema), null);
     }
 
+    private YdbRepository.Query<?> deleteRange(Range<Project.Id> range) {
+        EntitySchema<Project> schema = EntitySchema.of(Project.class);
+        TableDescriptor<Project> tableDescriptor = TableDescriptor.from(schema);
+        return new YdbRepository.Query<>(new DeleteRangeStatement<>(tableDescriptor, schema, range), range);
+    }
+
+    private YdbRepository.Query<?> update(Project.Id id, Map<String, ?> newValues) {
+        return update(Project.class, id, newValues);
+    }
+
+    private <T extends Entity<T>> YdbRepository.Query<?> update(Class<T> clazz, Entity.Id<T> id, Map<String, ?> newValues) {
+        EntitySchema<T> schema = EntitySchema.of(clazz);
+        TableDescriptor<T> tableDescriptor = TableDescriptor.from(schema);
+        var model = new UpdateModel.ById<>(id, newValues);
+        return new YdbRepository.Query<>(new UpdateByIdStatement<>(tableDescriptor, schema, model), model);
+    }
+
     @SuppressWarnings("unchecked")
     private <T extends Entity<T>> YdbRepository.Query<?> upsert(T p) {
         EntitySchema<T> schema = EntitySchema.of((Class<T>) p.getClass());
@@ -4,6 +4,8 @@ import org.junit.Assert;
 import org.junit.ClassRule;
 import org.junit.Test;
 import tech.ydb.yoj.repository.db.Repository;
+import tech.ydb.yoj.repository.db.TxManager;
+import tech.ydb.yoj.repository.db.statement.Changeset;
 import tech.ydb.yoj.repository.test.RepositoryTestSupport;
 import tech.ydb.yoj.repository.test.entity.TestEntities;
 import tech.ydb.yoj.repository.test.sample.TestDb;
@@ -13,6 +15,8 @@ import tech.ydb.yoj.repository.ydb.TestYdbRepository;
 import tech.ydb.yoj.repository.ydb.YdbEnvAndTransportRule;
 import tech.ydb.yoj.repository.ydb.util.RandomUtils;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 public class YqlQueryMergerIntegrationTest extends RepositoryTestSupport {
     @ClassRule
     public static final YdbEnvAndTransportRule ydbEnvAndTransport = new YdbEnvAndTransportRule();
@@ -46,4 +50,48 @@ public class YqlQueryMergerIntegrationTest extends RepositoryTestSupport {
             db.projects().insert(new Project(id, "project-1"));
         });
     }
+
+    @Test
+    public void upsertAndUpdatesByIdOfDifferentEntities() {
+        upsertAndUpdatesByIdOfDifferentEntities(db);
+    }
+
+    @Test
+    public void upsertAndUpdatesByIdOfDifferentEntities_DelayedWrites() {
+        upsertAndUpdatesByIdOfDifferentEntities(db.delayedWrites());
+    }
+
+    @Test
+    public void upsertAndUpdatesByIdOfDifferentEntities_CombinedWrites() {
+        upsertAndUpdatesByIdOfDifferentEntities(db.combinedWrites());
+    }
+
+    @Test
+    public void upsertAndUpdatesByIdOfDifferentEntities_ImmediateWrites() {
+        upsertAndUpdatesByIdOfDifferentEntities(db.immediateWrites());
+    }
+
+    @SuppressWarnings("deprecation")
+    private void upsertAndUpdatesByIdOfDifferentEntities(TxManager txManager) {
+        Project a = new Project(new Project.Id(RandomUtils.nextString(10)), "a");
+        Project b = new Project(new Project.Id(RandomUtils.nextString(10)), "b");
+        Project c = new Project(new Project.Id(RandomUtils.nextString(10)), "c");
+        Project.Id missing = new Project.Id(RandomUtils.nextString(10));
+        db.tx(() -> db.projects().insert(b, c));
+
+        txManager.tx(() -> {
+            db.projects().save(a);
+            db.projects().update(b.getId(), new Changeset().set("name", "b-updated"));
+            db.projects().update(c.getId(), new Changeset().set("name", "c-updated"));
+            db.projects().update(missing, new Changeset().set("name", "missing-updated"));
+        });
+
+        db.tx(() -> {
+            assertThat(db.projects().find(a.getId())).isEqualTo(a);
+            assertThat(db.projects().find(b.getId())).isEqualTo(b.withName("b-updated"));
+            assertThat(db.projects().find(c.getId())).isEqualTo(c.withName("c-updated"));
+            // Update by ID does not create the entity
+            assertThat(db.projects().find(missing)).isNull();
+        });
+    }
 }
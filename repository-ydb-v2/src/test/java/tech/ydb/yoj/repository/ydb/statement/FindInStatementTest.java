@@ -15,6 +15,7 @@ import tech.ydb.yoj.repository.db.EntitySchema;
 import tech.ydb.yoj.repository.db.Table;
 import tech.ydb.yoj.repository.db.TableDescriptor;
 import tech.ydb.yoj.repository.db.ViewSchema;
+import tech.ydb.yoj.repository.ydb.client.YdbConverter;
 
 import javax.annotation.Nullable;
 import java.util.List;
@@ -86,6 +87,37 @@ public class FindInStatementTest {
         assertThat(statement.getQueryType()).isEqualTo(Statement.QueryType.SELECT);
     }
 
+    @Test
+    public void testYqlIsGeneratedOnce() {
+        FindInStatement<Set<Foo.Id>, Foo, Foo> statement = buildFindInStatement(
+                ENTITY_SCHEMA, ENTITY_SCHEMA, IDS, null, DEFAULT_ORDER, null
+        );
+
+        String yql = statement.getYql("/tablespace/");
+        assertThat(yql).isEqualTo(Statement.SYNTAX_V1_PRAGMA + statement.getQuery("/tablespace/"));
+        assertThat(statement.getYql("/tablespace/")).isSameAs(yql);
+        assertThat(statement.getYql("/other/")).isEqualTo(Statement.SYNTAX_V1_PRAGMA + statement.getQuery("/other/"));
+
+        FindInStatement<Set<Foo.Id>, Foo, Foo> sameStatement = buildFindInStatement(
+                ENTITY_SCHEMA, ENTITY_SCHEMA, IDS, null, DEFAULT_ORDER, null
+        );
+        assertThat(sameStatement).isEqualTo(statement).hasSameHashCodeAs(statement);
+    }
+
+    @Test
+    public void testUnfilteredStatementIsCached() {
+        var statement = buildFindInStatement(ENTITY_SCHEMA, ENTITY_SCHEMA, IDS, null, DEFAULT_ORDER, 10);
+        var otherIds = Set.of(Foo.Id.of("3", "4"), Foo.Id.of("5", "6"));
+        assertThat(buildFindInStatement(ENTITY_SCHEMA, ENTITY_SCHEMA, otherIds, null, DEFAULT_ORDER, 10))
+                .isSameAs(statement);
+        assertThat(buildFindInStatement(ENTITY_SCHEMA, ENTITY_SCHEMA, IDS, null, DEFAULT_ORDER, 20))
+                .isNotSameAs(statement);
+
+        var filter = newFilterBuilder(Foo.class).where("value1").neq(42L).build();
+        assertThat(buildFindInStatement(ENTITY_SCHEMA, ENTITY_SCHEMA, IDS, filter, DEFAULT_ORDER, 10))
+                .isNotSameAs(buildFindInStatement(ENTITY_SCHEMA, ENTITY_SCHEMA, IDS, filter, DEFAULT_ORDER, 10));
+    }
+
     @Test
     public void testToDebugString() {
         FindInStatement<Set<Foo.Id>, Foo, Foo> statement = buildFindInStatement(
@@ -406,6 +438,20 @@ public class FindInStatementTest {
         assertThat(queryParams.keySet()).containsOnly("$Input", "$pred_0_value1", "$pred_1_value2");
     }
 
+    @Test
+    public void testToSdkParameters() {
+        FilterExpression<Foo> filter = newFilterBuilder(Foo.class)
+                .where("value1").neq(42L)
+                .and("value2").in("v1", "v2")
+                .build();
+        FindInStatement<Set<Foo.Id>, Foo, FooView> statement = buildFindInStatement(
+                ENTITY_SCHEMA, VIEW_SCHEMA, IDS, filter, DEFAULT_ORDER, null
+        );
+
+        assertThat(statement.toSdkParameters(IDS))
+                .isEqualTo(YdbConverter.toSDK(statement.toQueryParameters(IDS)));
+    }
+
     @Test
     public void testEntityWithSimpleId() {
         EntitySchema<Bar> entitySchema = EntitySchema.of(Bar.class);
@@ -163,6 +163,13 @@ public class YqlTypeAllTypesLegacyMappingTest {
         assertThat(actual).isEqualTo(value);
     }
 
+    @Test
+    public void testSdkValueSameAsProto() {
+        var yqlType = YqlType.of(SCHEMA.getField(fieldName));
+
+        assertThat(yqlType.toSdkValue(value).toPb()).isEqualTo(yqlType.toYql(value).build());
+    }
+
     @AllArgsConstructor
     public static class TestFields {
         @Column
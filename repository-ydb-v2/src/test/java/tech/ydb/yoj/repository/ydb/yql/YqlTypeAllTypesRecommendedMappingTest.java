@@ -169,6 +169,13 @@ public class YqlTypeAllTypesRecommendedMappingTest {
         assertThat(actual).isEqualTo(value);
     }
 
+    @Test
+    public void testSdkValueSameAsProto() {
+        var yqlType = YqlType.of(SCHEMA.getField(fieldName));
+
+        assertThat(yqlType.toSdkValue(value).toPb()).isEqualTo(yqlType.toYql(value).build());
+    }
+
     @AllArgsConstructor
     public static class TestFields {
         @Column
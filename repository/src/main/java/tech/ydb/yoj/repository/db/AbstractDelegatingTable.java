@@ -61,6 +61,24 @@ public abstract class AbstractDelegatingTable<T extends Entity<T>> implements Ta
         return target.find(viewClass, indexName, finalFilter, orderBy, limit, offset, distinct);
     }
 
+    @Override
+    public Stream<T> findStream(@Nullable String indexName, @Nullable FilterExpression<T> filter, @Nullable OrderExpression<T> orderBy, @Nullable Integer limit, @Nullable Long offset) {
+        return target.findStream(indexName, filter, orderBy, limit, offset);
+    }
+
+    @Override
+    public <V extends View> Stream<V> findStream(
+            Class<V> viewClass,
+            @Nullable String indexName,
+            @Nullable FilterExpression<T> finalFilter,
+            @Nullable OrderExpression<T> orderBy,
+            @Nullable Integer limit,
+            @Nullable Long offset,
+            boolean distinct
+    ) {
+        return target.findStream(viewClass, indexName, finalFilter, orderBy, limit, offset, distinct);
+    }
+
     @Override
     public <ID extends Entity.Id<T>> List<T> find(Set<ID> ids, @Nullable FilterExpression<T> filter, @Nullable OrderExpression<T> orderBy, @Nullable Integer limit) {
         return target.find(ids, filter, orderBy, limit);
@@ -106,6 +106,16 @@ public abstract class DelegatingTxManager implements TxManager {
         return createTxManager(this.delegate.immediateWrites());
     }
 
+    @Override
+    public final TxManager combinedWrites() {
+        return createTxManager(this.delegate.combinedWrites());
+    }
+
+    @Override
+    public final TxManager partialUpdates() {
+        return createTxManager(this.delegate.partialUpdates());
+    }
+
     @Override
     public final TxManager noFirstLevelCache() {
         return createTxManager(this.delegate.noFirstLevelCache());
@@ -141,6 +151,11 @@ public abstract class DelegatingTxManager implements TxManager {
         return createTxManager(this.delegate.withTimeout(timeout));
     }
 
+    @Override
+    public final TxManager withDeadline(TxDeadline deadline) {
+        return createTxManager(this.delegate.withDeadline(deadline));
+    }
+
     @Override
     public final TxManager withVerboseLogging() {
         return createTxManager(this.delegate.withVerboseLogging());
@@ -225,6 +240,11 @@ public abstract class DelegatingTxManager implements TxManager {
             return new ReadonlyBuilderImpl(delegate.withFirstLevelCache(firstLevelCache));
         }
 
+        @Override
+        public ReadonlyBuilder withHedging(HedgingPolicy hedgingPolicy) {
+            return new ReadonlyBuilderImpl(delegate.withHedging(hedgingPolicy));
+        }
+
         @Override
         public <T> T run(Supplier<T> supplier) throws RetryableException {
             return doRunTx(() -> this.delegate.run(wrapTxBody(supplier)));
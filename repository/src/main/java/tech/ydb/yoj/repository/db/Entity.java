@@ -63,9 +63,13 @@ public interface Entity<E extends Entity<E>> extends Table.ViewId<E> {
 
         default boolean isPartial() {
             var schema = EntitySchema.of(getType()).getIdSchema();
-            var columns = schema.flattenFields();
-            var nonNullFields = schema.flatten(this);
-            return columns.size() > nonNullFields.size();
+            var row = schema.flattenToRow(this);
+            for (int i = 0; i < row.size(); i++) {
+                if (row.get(i) == null) {
+                    return true;
+                }
+            }
+            return false;
         }
     }
 }
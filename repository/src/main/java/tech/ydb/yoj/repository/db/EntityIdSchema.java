@@ -5,6 +5,7 @@ import com.google.common.reflect.TypeToken;
 import lombok.NonNull;
 import tech.ydb.yoj.databind.CustomValueTypes;
 import tech.ydb.yoj.databind.FieldValueType;
+import tech.ydb.yoj.databind.schema.FlatRow;
 import tech.ydb.yoj.databind.schema.Schema;
 import tech.ydb.yoj.databind.schema.configuration.SchemaRegistry;
 import tech.ydb.yoj.databind.schema.configuration.SchemaRegistry.SchemaKey;
@@ -15,7 +16,6 @@ import javax.annotation.Nullable;
 import java.lang.reflect.Type;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
 import static tech.ydb.yoj.databind.FieldValueType.BOOLEAN;
@@ -162,15 +162,15 @@ public final class EntityIdSchema<ID extends Entity.Id<?>> extends Schema<ID> im
 
     @Override
     public int compare(@NonNull ID a, @NonNull ID b) {
-        Map<String, Object> idA = flatten(a);
-        Map<String, Object> idB = flatten(b);
+        FlatRow idA = flattenToRow(a);
+        FlatRow idB = flattenToRow(b);
 
-        List<JavaField> flatFields = flattenFields();
-        for (JavaField field : flatFields) {
-            var fieldName = field.getName();
+        List<JavaField> flatFields = idA.getFields();
+        for (int i = 0; i < flatFields.size(); i++) {
+            JavaField field = flatFields.get(i);
 
             @SuppressWarnings("unchecked")
-            int res = compare(toComparable(idA.get(fieldName), field), toComparable(idB.get(fieldName), field));
+            int res = compare(toComparable(idA.get(i), field), toComparable(idB.get(i), field));
 
             if (res != 0) {
                 return res;
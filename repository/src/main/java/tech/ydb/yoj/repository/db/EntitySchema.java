@@ -2,6 +2,7 @@ package tech.ydb.yoj.repository.db;
 
 import com.google.common.reflect.TypeToken;
 import lombok.Getter;
+import tech.ydb.yoj.databind.schema.FlatRow;
 import tech.ydb.yoj.databind.schema.Schema;
 import tech.ydb.yoj.databind.schema.configuration.SchemaRegistry;
 import tech.ydb.yoj.databind.schema.configuration.SchemaRegistry.SchemaKey;
@@ -109,4 +110,8 @@ public final class EntitySchema<T extends Entity<T>> extends Schema<T> {
     public Map<String, Object> flattenId(Entity.Id<T> idValue) {
         return getIdSchema().flatten(idValue);
     }
+
+    public FlatRow flattenIdToRow(Entity.Id<T> idValue) {
+        return getIdSchema().flattenToRow(idValue);
+    }
 }
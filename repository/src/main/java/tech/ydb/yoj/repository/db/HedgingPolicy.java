@@ -0,0 +1,96 @@
+package tech.ydb.yoj.repository.db;
+
+import com.google.common.base.Preconditions;
+import lombok.NonNull;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Tells when to start a hedged (second) attempt of a read-only transaction, if the first attempt has not completed yet.
+ * Hedging reduces tail latency caused by a slow database node or a GC pause on the server, at the cost of running
+ * some transactions twice.
+ *
+ * @see TxManager.ReadonlyBuilder#withHedging(HedgingPolicy)
+ */
+public final class HedgingPolicy {
+    private static final int WINDOW_SIZE = 128;
+    private static final int MIN_SAMPLES = 16;
+
+    private final Duration initialDelay;
+    private final double percentile;
+    private final ConcurrentMap<String, DurationWindow> windows = new ConcurrentHashMap<>();
+
+    private HedgingPolicy(Duration initialDelay, double percentile) {
+        this.initialDelay = initialDelay;
+        this.percentile = percentile;
+    }
+
+    /**
+     * @param delay time to wait for the first attempt before starting the hedged attempt
+     * @return hedging policy with a fixed delay
+     */
+    public static HedgingPolicy after(@NonNull Duration delay) {
+        Preconditions.checkArgument(!delay.isNegative(), "delay must be >= 0");
+        return new HedgingPolicy(delay, Double.NaN);
+    }
+
+    /**
+     * Starts the hedged attempt when the first attempt takes longer than the specified percentile of recent durations
+     * of the same transaction (by transaction name). E.g., {@code atPercentile(0.95, ...)} hedges about 5% of
+     * transactions: the slowest ones.
+     *
+     * @param percentile   percentile of recent transaction durations, from {@code 0} (exclusive) to {@code 1} (exclusive)
+     * @param initialDelay delay to use until enough transaction durations have been observed
+     * @return hedging policy with a delay that adapts to observed transaction durations
+     */
+    public static HedgingPolicy atPercentile(double percentile, @NonNull Duration initialDelay) {
+        Preconditions.checkArgument(percentile > 0 && percentile < 1, "percentile must be in (0, 1) range");
+        Preconditions.checkArgument(!initialDelay.isNegative(), "initialDelay must be >= 0");
+        return new HedgingPolicy(initialDelay, percentile);
+    }
+
+    Duration getDelay(String txName) {
+        if (Double.isNaN(percentile)) {
+            return initialDelay;
+        }
+        DurationWindow window = windows.get(txName);
+        return window == null ? initialDelay : window.getPercentile(percentile, initialDelay);
+    }
+
+    void recordDuration(String txName, Duration duration) {
+        if (!Double.isNaN(percentile)) {
+            windows.computeIfAbsent(txName, __ -> new DurationWindow()).add(duration.toNanos());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Double.isNaN(percentile)
+                ? "HedgingPolicy[after " + initialDelay + "]"
+                : "HedgingPolicy[at p" + percentile * 100 + ", initially after " + initialDelay + "]";
+    }
+
+    private static final class DurationWindow {
+        private final long[] nanos = new long[WINDOW_SIZE];
+        private long count;
+
+        private synchronized void add(long durationNanos) {
+            nanos[(int) (count++ % WINDOW_SIZE)] = durationNanos;
+        }
+
+        private Duration getPercentile(double percentile, Duration defaultValue) {
+            long[] sorted;
+            synchronized (this) {
+                if (count < MIN_SAMPLES) {
+                    return defaultValue;
+                }
+                sorted = Arrays.copyOf(nanos, (int) Math.min(count, WINDOW_SIZE));
+            }
+            Arrays.sort(sorted);
+            return Duration.ofNanos(sorted[(int) (percentile * (sorted.length - 1))]);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package tech.ydb.yoj.repository.db;
+
+import com.google.common.base.Preconditions;
+import tech.ydb.yoj.repository.db.exception.RetryableException;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits transaction retries, so that a struggling database does not get hit by a retry storm.
+ * <p>The budget is a token bucket: each successful transaction attempt adds {@code retryRatio} tokens to the bucket
+ * (up to {@code maxTokens}), and each retry takes one token from the bucket. If there are no tokens left, the
+ * transaction fails without retrying. So in the long run, the number of retries is at most {@code retryRatio} of the
+ * number of successful attempts, while short bursts of failures are still retried. The budget is tracked both for all
+ * transactions using it and for each transaction name separately, and a retry needs a token from both.
+ * <p>Retry delays are also increased if the database is {@link RetryableException#isOverloaded() overloaded}
+ * often: the delay recommended by the exception is multiplied by up to {@code 10}, depending on the recent
+ * share of overloaded attempts.
+ * <p>Share one {@code RetryBudget} between all {@link StdTxManager transaction managers} of a repository:
+ * <pre>
+ * TxManager txManager = new StdTxManager(repository).withRetryBudget(RetryBudget.create(0.1, 100));
+ * </pre>
+ */
+public final class RetryBudget {
+    private static final double MAX_DELAY_MULTIPLIER = 10.0;
+    // Weight of the most recent attempt in the share of overloaded attempts
+    private static final double OVERLOAD_RATE_ALPHA = 0.05;
+
+    private final double retryRatio;
+    private final double maxTokens;
+
+    private final TokenBucket total;
+    private final ConcurrentMap<String, TokenBucket> byTxName = new ConcurrentHashMap<>();
+    private final AtomicLong overloadRateBits = new AtomicLong(Double.doubleToLongBits(0.0));
+
+    private RetryBudget(double retryRatio, double maxTokens) {
+        this.retryRatio = retryRatio;
+        this.maxTokens = maxTokens;
+        this.total = new TokenBucket(maxTokens);
+    }
+
+    /**
+     * @param retryRatio maximum number of retries per successful attempt, in the long run; e.g. {@code 0.1} allows
+     *                   one retry per 10 successful attempts
+     * @param maxTokens  maximum number of retries that can be made in a row, without successful attempts in between;
+     *                   the budget starts full
+     * @return new retry budget
+     */
+    public static RetryBudget create(double retryRatio, int maxTokens) {
+        Preconditions.checkArgument(retryRatio > 0, "retryRatio must be > 0");
+        Preconditions.checkArgument(maxTokens > 0, "maxTokens must be > 0");
+        return new RetryBudget(retryRatio, maxTokens);
+    }
+
+    void onSuccess(String txName) {
+        total.deposit(retryRatio);
+        bucket(txName).deposit(retryRatio);
+        updateOverloadRate(false);
+    }
+
+    /**
+     * @return {@code true} if the transaction can be retried after the failure {@code e}; {@code false} if the retry
+     * budget is exhausted
+     */
+    boolean tryRetry(String txName, RetryableException e) {
+        updateOverloadRate(e.isOverloaded());
+
+        TokenBucket txBucket = bucket(txName);
+        if (!txBucket.tryWithdraw()) {
+            return false;
+        }
+        if (!total.tryWithdraw()) {
+            txBucket.deposit(1.0);
+            return false;
+        }
+        return true;
+    }
+
+    Duration getRetryDelay(RetryableException e, int attempt) {
+        double multiplier = 1.0 + (MAX_DELAY_MULTIPLIER - 1.0) * getOverloadRate();
+        return Duration.ofNanos((long) (e.getRetryDelay(attempt).toNanos() * multiplier));
+    }
+
+    double getOverloadRate() {
+        return Double.longBitsToDouble(overloadRateBits.get());
+    }
+
+    private void updateOverloadRate(boolean overloaded) {
+        double sample = overloaded ? 1.0 : 0.0;
+        overloadRateBits.updateAndGet(bits -> {
+            double rate = Double.longBitsToDouble(bits);
+            return Double.doubleToLongBits(rate + OVERLOAD_RATE_ALPHA * (sample - rate));
+        });
+    }
+
+    private TokenBucket bucket(String txName) {
+        return byTxName.computeIfAbsent(txName, __ -> new TokenBucket(maxTokens));
+    }
+
+    private static final class TokenBucket {
+        // Token count is stored in millitokens, so that fractional deposits are not lost
+        private static final long ONE_TOKEN = 1000;
+
+        private final long capacity;
+        private final AtomicLong tokens;
+
+        private TokenBucket(double capacity) {
+            this.capacity = (long) (capacity * ONE_TOKEN);
+            this.tokens = new AtomicLong(this.capacity);
+        }
+
+        private void deposit(double amount) {
+            long delta = (long) (amount * ONE_TOKEN);
+            tokens.updateAndGet(t -> Math.min(capacity, t + delta));
+        }
+
+        private boolean tryWithdraw() {
+            long prev = tokens.getAndUpdate(t -> t >= ONE_TOKEN ? t - ONE_TOKEN : t);
+            return prev >= ONE_TOKEN;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package tech.ydb.yoj.repository.db;
 
 import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
 import io.prometheus.client.Counter;
 import io.prometheus.client.Histogram;
 import io.prometheus.client.Histogram.Timer;
@@ -15,13 +16,24 @@ import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 import tech.ydb.yoj.DeprecationWarnings;
 import tech.ydb.yoj.repository.db.cache.TransactionLog;
+import tech.ydb.yoj.repository.db.exception.DeadlineExceededException;
+import tech.ydb.yoj.repository.db.exception.QueryInterruptedException;
 import tech.ydb.yoj.repository.db.exception.RetryableException;
 import tech.ydb.yoj.util.lang.CallStack;
 import tech.ydb.yoj.util.lang.Strings;
 
 import javax.annotation.Nullable;
 import java.time.Duration;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import java.util.regex.Pattern;
@@ -56,6 +68,12 @@ public final class StdTxManager implements TxManager, TxManagerState {
     private static final Logger log = LoggerFactory.getLogger(StdTxManager.class);
 
     private static final CallStack callStack = new CallStack();
+    private static final ClassValue<Map<Set<String>, TxInfo>> txInfoByBodyClass = new ClassValue<>() {
+        @Override
+        protected Map<Set<String>, TxInfo> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
 
     private static final int DEFAULT_MAX_ATTEMPT_COUNT = 10;
     private static final double[] TX_ATTEMPTS_BUCKETS = new double[]
@@ -86,6 +104,9 @@ public final class StdTxManager implements TxManager, TxManagerState {
     private static final Counter retries = Counter.build("tx_retries", "Tx retry reasons")
             .labelNames("tx_name", "reason")
             .register();
+    private static final Counter hedges = Counter.build("tx_hedges", "Hedged read-only tx attempts: started and won")
+            .labelNames("tx_name", "result")
+            .register();
     private static final AtomicLong txLogIdSeq = new AtomicLong();
 
     private static final Pattern PACKAGE_PATTERN = Pattern.compile(".*\\.");
@@ -109,11 +130,19 @@ public final class StdTxManager implements TxManager, TxManagerState {
     private final SeparatePolicy separatePolicy;
     @With
     private final Set<String> skipCallerPackages;
+    /**
+     * Retry budget shared with other transaction managers, or {@code null} if retries are limited only by
+     * {@link #withMaxRetries(int) max retry count}.
+     */
+    @With
+    private final RetryBudget retryBudget;
+    @With(AccessLevel.PRIVATE)
+    private final HedgingPolicy hedgingPolicy;
 
     private final long txLogId = txLogIdSeq.incrementAndGet();
 
     public StdTxManager(Repository repository) {
-        this(repository, DEFAULT_MAX_ATTEMPT_COUNT, null, null, null, TxOptions.create(SERIALIZABLE_READ_WRITE), SeparatePolicy.LOG, Set.of());
+        this(repository, DEFAULT_MAX_ATTEMPT_COUNT, null, null, null, TxOptions.create(SERIALIZABLE_READ_WRITE), SeparatePolicy.LOG, Set.of(), null, null);
     }
 
     /**
@@ -122,7 +151,7 @@ public final class StdTxManager implements TxManager, TxManagerState {
      */
     @Deprecated(forRemoval = true)
     public StdTxManager(Repository repository, int maxAttemptCount, String name, Integer logLine, String logContext, TxOptions options) {
-        this(repository, maxAttemptCount, name, logLine, logContext, options, SeparatePolicy.LOG, Set.of());
+        this(repository, maxAttemptCount, name, logLine, logContext, options, SeparatePolicy.LOG, Set.of(), null, null);
         DeprecationWarnings.warnOnce("StdTxManager(Repository, int, String, Integer, String, TxOptions)",
                 "Please use the recommended StdTxManager(Repository) constructor and customize the TxManager by using with<...>() methods");
     }
@@ -142,6 +171,16 @@ public final class StdTxManager implements TxManager, TxManagerState {
         return withOptions(this.options.withImmediateWrites(true));
     }
 
+    @Override
+    public TxManager combinedWrites() {
+        return withOptions(this.options.withImmediateWrites(false).withCombinedWrites(true));
+    }
+
+    @Override
+    public TxManager partialUpdates() {
+        return withOptions(this.options.withImmediateWrites(false).withPartialUpdates(true));
+    }
+
     @Override
     public TxManager noFirstLevelCache() {
         return withOptions(this.options.withFirstLevelCache(false));
@@ -168,6 +207,11 @@ public final class StdTxManager implements TxManager, TxManagerState {
         return withOptions(this.options.withTimeoutOptions(new TxOptions.TimeoutOptions(timeout)));
     }
 
+    @Override
+    public TxManager withDeadline(TxDeadline deadline) {
+        return withOptions(this.options.withDeadline(deadline));
+    }
+
     @Override
     public TxManager withLogLevel(TransactionLog.Level level) {
         return withOptions(this.options.withLogLevel(level));
@@ -180,7 +224,7 @@ public final class StdTxManager implements TxManager, TxManagerState {
 
     @Override
     public ReadonlyBuilder readOnly() {
-        return new ReadonlyBuilderImpl(this.options.withIsolationLevel(ONLINE_CONSISTENT_READ_ONLY));
+        return new ReadonlyBuilderImpl(this.options.withIsolationLevel(ONLINE_CONSISTENT_READ_ONLY), null);
     }
 
     @Override
@@ -190,6 +234,11 @@ public final class StdTxManager implements TxManager, TxManagerState {
 
     @Override
     public void tx(Runnable runnable) {
+        if (name == null) {
+            withGeneratedNameAndLine(runnable).tx(runnable);
+            return;
+        }
+
         tx(() -> {
             runnable.run();
             return null;
@@ -199,23 +248,41 @@ public final class StdTxManager implements TxManager, TxManagerState {
     @Override
     public <T> T tx(Supplier<T> supplier) {
         if (name == null) {
-            return withGeneratedNameAndLine().tx(supplier);
+            return withGeneratedNameAndLine(supplier).tx(supplier);
         }
 
         checkSeparatePolicy(separatePolicy, name);
-        return txImpl(supplier);
+        return hedgingPolicy == null ? txImpl(supplier) : hedgedTxImpl(supplier);
     }
 
     private <T> T txImpl(Supplier<T> supplier) {
+        return txImpl(supplier, null);
+    }
+
+    /**
+     * @param hedgedAttempt hedged attempt running this transaction, or {@code null}. Callbacks deferred by the hedged
+     *                      attempt are not run here; they are run on the calling thread if the attempt wins
+     */
+    private <T> T txImpl(Supplier<T> supplier, @Nullable HedgedAttempt<T> hedgedAttempt) {
         RetryableException lastRetryableException = null;
         TxImpl lastTx = null;
         try (Timer ignored = totalDuration.labels(name).startTimer()) {
             for (int attempt = 1; attempt <= maxAttemptCount; attempt++) {
+                if (options.getDeadline() != null && options.getDeadline().isExpired()) {
+                    results.labels(name, "fail").inc();
+                    throw new DeadlineExceededException("Transaction deadline exceeded before attempt " + attempt,
+                            lastRetryableException);
+                }
+
+                long attemptStartNanos = System.nanoTime();
                 try {
                     attempts.labels(name).observe(attempt);
                     T result;
                     try (var ignored1 = attemptDuration.labels(name).startTimer()) {
-                        lastTx = new TxImpl(name, repository.startTransaction(options), options);
+                        lastTx = new TxImpl(name, repository.startTransaction(options), options, hedgedAttempt == null, repository);
+                        if (hedgedAttempt != null) {
+                            hedgedAttempt.lastTx = lastTx;
+                        }
                         result = runAttempt(supplier, lastTx);
                     }
 
@@ -225,12 +292,31 @@ public final class StdTxManager implements TxManager, TxManagerState {
                     } else {
                         results.labels(name, "commit").inc();
                     }
+                    if (retryBudget != null) {
+                        retryBudget.onSuccess(name);
+                    }
                     return result;
                 } catch (RetryableException e) {
                     retries.labels(name, getExceptionNameForMetric(e)).inc();
                     lastRetryableException = e;
                     if (attempt + 1 <= maxAttemptCount) {
-                        e.sleep(attempt);
+                        Duration delay = retryBudget == null ? e.getRetryDelay(attempt) : retryBudget.getRetryDelay(e, attempt);
+                        // Expect the next attempt to take about as long as this one
+                        if (!fitsDeadline(delay.plusNanos(System.nanoTime() - attemptStartNanos))) {
+                            retries.labels(name, "DeadlineExceeded").inc();
+                            results.labels(name, "fail").inc();
+                            throw new DeadlineExceededException("Transaction deadline does not leave time for attempt "
+                                    + (attempt + 1), e);
+                        }
+                        if (retryBudget != null && !retryBudget.tryRetry(name, e)) {
+                            retries.labels(name, "RetryBudgetExhausted").inc();
+                            break;
+                        }
+                        if (retryBudget == null) {
+                            e.sleep(attempt);
+                        } else {
+                            sleep(delay);
+                        }
                     }
                 } catch (Exception e) {
                     results.labels(name, "rollback").inc();
@@ -241,12 +327,98 @@ public final class StdTxManager implements TxManager, TxManagerState {
 
             throw requireNonNull(lastRetryableException).rethrow();
         } finally {
-            if (!options.isDryRun() && lastTx != null) {
+            if (hedgedAttempt == null && !options.isDryRun() && lastTx != null) {
                 lastTx.runDeferredFinally();
             }
         }
     }
 
+    /**
+     * Runs the transaction on a worker thread, and if it does not complete in {@link HedgingPolicy#getDelay(String)
+     * hedging delay}, starts a hedged attempt on another worker thread. Returns the result of the first attempt that
+     * succeeds, and cancels (interrupts) the other one. Callbacks deferred by the winning attempt are run on the
+     * calling thread; callbacks deferred by the cancelled attempt are dropped, as for failed attempts before a retry.
+     * <p>Hedging policy gets the time the caller has waited for the result, from the start of the first attempt.
+     * Durations of single attempts would not include the slowest (cancelled) attempts, so the hedging delay would
+     * only decrease over time.
+     */
+    private <T> T hedgedTxImpl(Supplier<T> supplier) {
+        long start = System.nanoTime();
+        HedgedAttempt<T> primary = new HedgedAttempt<>(supplier);
+        HedgedAttempt<T> hedge = null;
+        HedgedAttempt<T> winner = null;
+        try {
+            if (await(primary.result, hedgingPolicy.getDelay(name))) {
+                winner = primary;
+            } else {
+                hedges.labels(name, "started").inc();
+                hedge = new HedgedAttempt<>(supplier);
+                winner = awaitFirstSuccess(primary, hedge);
+                if (winner == hedge) {
+                    hedges.labels(name, "won").inc();
+                }
+            }
+            T result = winner.getResult();
+            hedgingPolicy.recordDuration(name, Duration.ofNanos(System.nanoTime() - start));
+            return result;
+        } finally {
+            primary.cancel();
+            if (hedge != null) {
+                hedge.cancel();
+            }
+            if (winner != null) {
+                winner.runDeferred();
+            }
+        }
+    }
+
+    private static <T> HedgedAttempt<T> awaitFirstSuccess(HedgedAttempt<T> a, HedgedAttempt<T> b) {
+        await(CompletableFuture.anyOf(a.result, b.result), null);
+        HedgedAttempt<T> first = a.result.isDone() ? a : b;
+        if (first.isSuccess()) {
+            return first;
+        }
+
+        HedgedAttempt<T> second = first == a ? b : a;
+        await(second.result, null);
+        return second.isSuccess() ? second : first;
+    }
+
+    /**
+     * @return {@code true} if the future has completed (successfully or not); {@code false} if the timeout has expired
+     */
+    private static boolean await(Future<?> future, @Nullable Duration timeout) {
+        try {
+            if (timeout == null) {
+                future.get();
+            } else {
+                future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        } catch (ExecutionException ignored) {
+            // Failed attempt, its exception is rethrown by HedgedAttempt.getResult() if there is no better attempt
+        } catch (TimeoutException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new QueryInterruptedException("DB query interrupted", e);
+        }
+        return true;
+    }
+
+    private boolean fitsDeadline(Duration duration) {
+        TxDeadline deadline = options.getDeadline();
+        return deadline == null || deadline.remaining().compareTo(duration) > 0;
+    }
+
+    private static void sleep(Duration delay) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(delay.toNanos());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new QueryInterruptedException("DB query interrupted", e);
+        }
+    }
+
     private static void checkSeparatePolicy(SeparatePolicy separatePolicy, String txName) {
         if (!Tx.Current.exists()) {
             return;
@@ -268,28 +440,74 @@ public final class StdTxManager implements TxManager, TxManagerState {
     }
 
     private <T> T runAttempt(Supplier<T> supplier, TxImpl tx) {
-        try (var ignored2 = MDC.putCloseable("tx", formatTx());
-             var ignored3 = MDC.putCloseable("tx-id", formatTxId());
-             var ignored4 = MDC.putCloseable("tx-name", formatTxName(false))) {
+        try (var ignored2 = putMdc("tx", formatTx());
+             var ignored3 = putMdc("tx-id", formatTxId());
+             var ignored4 = putMdc("tx-name", formatTxName(false))) {
             return tx.run(supplier);
         }
     }
 
-    private StdTxManager withGeneratedNameAndLine() {
-        record TxInfo(String name, int lineNumber) {
-        }
+    /**
+     * Like {@link MDC#putCloseable(String, String)}, but restores the previous value of the key instead of removing it,
+     * so that the MDC of the enclosing transaction is intact after a {@link #separate() separate} transaction ends.
+     */
+    private static MdcValue putMdc(String key, String value) {
+        String previous = MDC.get(key);
+        MDC.put(key, value);
+        return () -> {
+            if (previous == null) {
+                MDC.remove(key);
+            } else {
+                MDC.put(key, previous);
+            }
+        };
+    }
+
+    private interface MdcValue extends AutoCloseable {
+        @Override
+        void close();
+    }
 
+    /**
+     * @param txBody transaction body; if it is a lambda or an anonymous class, the name derived for its first
+     *               transaction is reused for all subsequent transactions with the same body class, without walking
+     *               the call stack again
+     */
+    private StdTxManager withGeneratedNameAndLine(Object txBody) {
         if (!useNewTxNameGeneration) {
             DeprecationWarnings.warnOnce("StdTxManager.useNewTxNameGeneration",
                     "As of YOJ 2.6.1, setting StdTxManager.useNewTxNameGeneration has no effect. Please stop setting this field");
         }
 
-        var info = callStack.findCallingFrame()
-                .skipPackage(StdTxManager.class.getPackageName())
-                .skipPackages(skipCallerPackages)
-                .map(f -> new TxInfo(txName(f.getClassName(), f.getMethodName()), f.getLineNumber()));
+        Class<?> bodyClass = txBody.getClass();
+        Map<Set<String>, TxInfo> cache = isCallSiteClass(bodyClass) ? txInfoByBodyClass.get(bodyClass) : null;
+        TxInfo info = cache != null ? cache.get(skipCallerPackages) : null;
+        if (info == null) {
+            // Call stack is not walked inside cache.computeIfAbsent(), because its frames would be found as the caller
+            info = callStack.findCallingFrame()
+                    .skipPackage(StdTxManager.class.getPackageName())
+                    .skipPackages(skipCallerPackages)
+                    .map(f -> new TxInfo(txName(f.getClassName(), f.getMethodName()), f.getLineNumber()));
+            if (cache != null) {
+                cache.putIfAbsent(skipCallerPackages, info);
+            }
+        }
+
+        return new StdTxManager(repository, maxAttemptCount, info.name(), info.lineNumber(), logContext, options,
+                separatePolicy, skipCallerPackages, retryBudget, hedgingPolicy);
+    }
 
-        return withName(info.name).withLogLine(info.lineNumber);
+    /**
+     * Each lambda expression, method reference and anonymous class is compiled to its own class, so such a class
+     * identifies the place in code where the transaction is run. Classes from the packages that are skipped when
+     * looking for the caller (e.g., wrappers of the transaction body in a {@link DelegatingTxManager}) do not.
+     */
+    private boolean isCallSiteClass(Class<?> bodyClass) {
+        if (!bodyClass.isSynthetic() && !bodyClass.isAnonymousClass()) {
+            return false;
+        }
+        String packageName = bodyClass.getPackageName();
+        return !packageName.equals(StdTxManager.class.getPackageName()) && !skipCallerPackages.contains(packageName);
     }
 
     @NonNull
@@ -377,10 +595,66 @@ public final class StdTxManager implements TxManager, TxManagerState {
         }
     }
 
+    private final class HedgedAttempt<T> implements Runnable {
+        private final Supplier<T> supplier;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final Future<?> future;
+        private volatile TxImpl lastTx;
+
+        private HedgedAttempt(Supplier<T> supplier) {
+            this.supplier = supplier;
+            this.future = TxWorkers.submit(Executors.callable(this));
+        }
+
+        @Override
+        public void run() {
+            try {
+                result.complete(txImpl(supplier, this));
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        }
+
+        private boolean isSuccess() {
+            return result.isDone() && !result.isCompletedExceptionally();
+        }
+
+        private T getResult() {
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                Throwables.throwIfUnchecked(e.getCause());
+                throw new IllegalStateException("Unexpected checked exception in transaction " + name, e.getCause());
+            }
+        }
+
+        private void cancel() {
+            future.cancel(true);
+        }
+
+        private void runDeferred() {
+            TxImpl tx = lastTx;
+            if (tx == null) {
+                return;
+            }
+            try {
+                if (isSuccess()) {
+                    tx.runDeferredAfterCommit();
+                }
+            } finally {
+                if (!options.isDryRun()) {
+                    tx.runDeferredFinally();
+                }
+            }
+        }
+    }
+
     @AllArgsConstructor
     private class ReadonlyBuilderImpl implements ReadonlyBuilder {
         @With(AccessLevel.PRIVATE)
         private final TxOptions options;
+        @With(AccessLevel.PRIVATE)
+        private final HedgingPolicy hedgingPolicy;
 
         @Override
         public ReadonlyBuilder withStatementIsolationLevel(IsolationLevel isolationLevel) {
@@ -394,12 +668,20 @@ public final class StdTxManager implements TxManager, TxManagerState {
             return withOptions(options.withFirstLevelCache(firstLevelCache));
         }
 
+        @Override
+        public ReadonlyBuilder withHedging(HedgingPolicy hedgingPolicy) {
+            return withHedgingPolicy(hedgingPolicy);
+        }
+
         @Override
         public <T> T run(Supplier<T> supplier) throws RetryableException {
-            return StdTxManager.this.withOptions(options).tx(supplier);
+            return StdTxManager.this.withOptions(options).withHedgingPolicy(hedgingPolicy).tx(supplier);
         }
     }
 
+    private record TxInfo(String name, int lineNumber) {
+    }
+
     private enum SeparatePolicy {
         ALLOW,
         LOG,
@@ -17,6 +17,7 @@ import javax.annotation.Nullable;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -158,6 +159,37 @@ public interface Table<T extends Entity<T>> {
         return readTableIds(ReadTableParams.getDefault());
     }
 
+    /**
+     * Same as {@link #find(String, FilterExpression, OrderExpression, Integer, Long)}, but returns a stream which
+     * converts query results to entities as they are consumed, if the table implementation supports this.
+     * As with {@code find()}, entities read this way are put into the first-level cache.
+     */
+    default Stream<T> findStream(
+            @Nullable String indexName,
+            @Nullable FilterExpression<T> filter,
+            @Nullable OrderExpression<T> orderBy,
+            @Nullable Integer limit,
+            @Nullable Long offset
+    ) {
+        return find(indexName, filter, orderBy, limit, offset).stream();
+    }
+
+    /**
+     * Same as {@link #find(Class, String, FilterExpression, OrderExpression, Integer, Long, boolean)}, but returns a
+     * stream which converts query results to views as they are consumed, if the table implementation supports this.
+     */
+    default <V extends Table.View> Stream<V> findStream(
+            Class<V> viewType,
+            @Nullable String indexName,
+            @Nullable FilterExpression<T> filter,
+            @Nullable OrderExpression<T> orderBy,
+            @Nullable Integer limit,
+            @Nullable Long offset,
+            boolean distinct
+    ) {
+        return find(viewType, indexName, filter, orderBy, limit, offset, distinct).stream();
+    }
+
     default FirstLevelCache getFirstLevelCache() {
         return null;
     }
@@ -322,6 +354,24 @@ public interface Table<T extends Entity<T>> {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Bulk upserts entities pulled lazily from {@code input}, so that the input does not have to fit in memory, e.g.
+     * when copying {@link #readTable(ReadTableParams) readTable()} results to another table. Entities are sent in
+     * chunks of {@link BulkParams#getMaxChunkRows()} rows (or a reasonable default number of rows, if no limit is
+     * set), and more entities are pulled only when a chunk can be sent, keeping at most
+     * {@link BulkParams#getParallelism()} chunks in flight.
+     */
+    default void bulkUpsert(Iterator<T> input, BulkParams params) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * @see #bulkUpsert(Iterator, BulkParams)
+     */
+    default void bulkUpsert(Stream<T> input, BulkParams params) {
+        bulkUpsert(input.iterator(), params);
+    }
+
     default TableQueryBuilder<T> toQueryBuilder(ListRequest<T> request) {
         return query()
                 .index(request.getIndex())
@@ -13,6 +13,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 import static lombok.AccessLevel.PRIVATE;
 
@@ -108,6 +109,40 @@ public final class TableQueryBuilder<T extends Entity<T>> {
         }
     }
 
+    /**
+     * Same as {@link #find()}, but returns a stream which converts query results to entities as they are consumed,
+     * if the table supports this. Queries by {@link #ids(Set) IDs} and {@link #keys(Set) keys} are always read fully.
+     *
+     * @see Table#findStream(String, FilterExpression, OrderExpression, Integer, Long)
+     */
+    @NonNull
+    public Stream<T> stream() {
+        if (ids == null && keys == null) {
+            return table.findStream(indexName, getFinalFilter(), orderBy, limit, offset);
+        }
+        return find(limit).stream();
+    }
+
+    @NonNull
+    public <V extends Table.View> Stream<V> stream(Class<V> viewClass) {
+        return stream(viewClass, false);
+    }
+
+    /**
+     * Same as {@link #find(Class, boolean)}, but returns a stream which converts query results to views as they
+     * are consumed, if the table supports this. Queries by {@link #ids(Set) IDs} and {@link #keys(Set) keys} are
+     * always read fully.
+     *
+     * @see Table#findStream(Class, String, FilterExpression, OrderExpression, Integer, Long, boolean)
+     */
+    @NonNull
+    public <V extends Table.View> Stream<V> stream(Class<V> viewClass, boolean distinct) {
+        if (ids == null && keys == null) {
+            return table.findStream(viewClass, indexName, getFinalFilter(), orderBy, limit, offset, distinct);
+        }
+        return find(viewClass, distinct).stream();
+    }
+
     @NonNull
     public <ID extends Entity.Id<T>> List<ID> findIds() {
         return table.findIds(indexName, getFinalFilter(), orderBy, limit, offset);
@@ -3,6 +3,8 @@ package tech.ydb.yoj.repository.db;
 import com.google.common.base.Preconditions;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Supplier;
 
 public interface Tx {
@@ -12,6 +14,32 @@ public interface Tx {
 
     void deferBeforeCommit(Runnable runnable);
 
+    /**
+     * Runs independent read-only actions concurrently, each on its own session, and returns their results in the
+     * same order. Use this to save round trips when an action performs several independent reads, e.g. a few
+     * {@code find()} and {@code count()} calls.
+     * <p>Only allowed in scan and read-only transactions whose consistency does not depend on a single server-side
+     * transaction, i.e. in all read-only transactions except {@link IsolationLevel#SNAPSHOT}. The first action runs
+     * in this transaction, and each of the others runs in a separate transaction with the same settings, on a worker
+     * thread (logging MDC is copied, though).
+     * <p>Entities read by the actions are added to the first-level cache of this transaction, unless the cache
+     * already has them. Callbacks {@link #defer(Runnable) deferred} by the actions are run as if they were deferred
+     * by this transaction.
+     * <p>Default implementation runs the actions one after another in this transaction, on the calling thread.
+     *
+     * @param actions actions to run
+     * @return results of the actions, in the same order as {@code actions}
+     * @throws tech.ydb.yoj.repository.db.exception.IllegalTransactionIsolationLevelException if the transaction is not
+     *                                                                                         read-only or is a snapshot one
+     */
+    default <T> List<T> parallel(List<? extends Supplier<? extends T>> actions) {
+        List<T> results = new ArrayList<>(actions.size());
+        for (Supplier<? extends T> action : actions) {
+            results.add(action.get());
+        }
+        return results;
+    }
+
     String getName();
 
     RepositoryTransaction getRepositoryTransaction();
@@ -0,0 +1,52 @@
+package tech.ydb.yoj.repository.db;
+
+import lombok.NonNull;
+
+import java.time.Duration;
+
+/**
+ * Point in time by which a transaction must complete, including all of its statements, commit, retries and
+ * delays between retries. Unlike {@link TxManager#withTimeout(Duration) timeout}, which applies to each statement
+ * separately, the deadline is shared by everything the transaction does, so a transaction does not go on using the
+ * database after its client has already given up.
+ * <p>Create a deadline when handling of a client request starts, and pass it to all transactions that serve the
+ * request:
+ * <pre>
+ * TxDeadline deadline = TxDeadline.after(Duration.ofSeconds(10));
+ * txManager.withDeadline(deadline).tx(() -> ...);
+ * </pre>
+ *
+ * @see TxManager#withDeadline(TxDeadline)
+ */
+public final class TxDeadline {
+    private final long deadlineNanos;
+
+    private TxDeadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * @param timeout time from now
+     * @return deadline that expires after {@code timeout} from now
+     */
+    public static TxDeadline after(@NonNull Duration timeout) {
+        return new TxDeadline(System.nanoTime() + timeout.toNanos());
+    }
+
+    /**
+     * @return time left before the deadline; {@link Duration#ZERO} if the deadline has already expired
+     */
+    public Duration remaining() {
+        long remainingNanos = deadlineNanos - System.nanoTime();
+        return remainingNanos > 0 ? Duration.ofNanos(remainingNanos) : Duration.ZERO;
+    }
+
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    @Override
+    public String toString() {
+        return "TxDeadline[remaining=" + remaining() + "]";
+    }
+}
@@ -1,14 +1,22 @@
 package tech.ydb.yoj.repository.db;
 
+import com.google.common.base.Preconditions;
 import com.google.common.base.Stopwatch;
+import com.google.common.base.Throwables;
 import lombok.Getter;
+import lombok.NonNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import tech.ydb.yoj.repository.db.exception.IllegalTransactionIsolationLevelException;
 import tech.ydb.yoj.repository.db.exception.OptimisticLockException;
+import tech.ydb.yoj.repository.db.exception.QueryInterruptedException;
 import tech.ydb.yoj.util.lang.Interrupts;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.function.Supplier;
 
 final class TxImpl implements Tx {
@@ -22,14 +30,31 @@ final class TxImpl implements Tx {
 
     private final List<Runnable> deferredFinally = new ArrayList<>();
     private final List<Runnable> deferredBeforeCommit = new ArrayList<>();
+    private final TxOptions options;
+    private final Repository repository;
     private final boolean dryRun;
     private final boolean logStatementOnSuccess;
+    private final boolean runAfterCommitCallbacks;
 
     public TxImpl(String name, RepositoryTransaction repositoryTransaction, TxOptions options) {
+        this(name, repositoryTransaction, options, true, null);
+    }
+
+    /**
+     * @param runAfterCommitCallbacks if {@code false}, callbacks {@link #defer(Runnable) deferred} after commit are not
+     *                                run by {@link #run(Supplier)}, and must be run by {@link #runDeferredAfterCommit()}
+     * @param repository              repository to start additional transactions for {@link #parallel(List) parallel}
+     *                                statements in; {@code null} if parallel statements are not supported
+     */
+    TxImpl(String name, RepositoryTransaction repositoryTransaction, TxOptions options,
+           boolean runAfterCommitCallbacks, @Nullable Repository repository) {
         this.name = name;
         this.repositoryTransaction = repositoryTransaction;
+        this.options = options;
         this.dryRun = options.isDryRun();
         this.logStatementOnSuccess = options.isLogStatementOnSuccess();
+        this.runAfterCommitCallbacks = runAfterCommitCallbacks;
+        this.repository = repository;
     }
 
     <R> R run(Supplier<R> supplier) {
@@ -43,13 +68,22 @@ final class TxImpl implements Tx {
             throw e;
         }
 
-        if (!dryRun) {
-            deferredAfterCommit.forEach(Runnable::run);
+        if (runAfterCommitCallbacks) {
+            runDeferredAfterCommit();
         }
 
         return value;
     }
 
+    /**
+     * Called by {@link StdTxManager} for the winning attempt of a hedged transaction, after it has committed
+     */
+    void runDeferredAfterCommit() {
+        if (!dryRun) {
+            deferredAfterCommit.forEach(Runnable::run);
+        }
+    }
+
     @Override
     public void defer(Runnable runnable) {
         deferredAfterCommit.add(runnable);
@@ -72,6 +106,59 @@ final class TxImpl implements Tx {
         deferredBeforeCommit.add(runnable);
     }
 
+    @Override
+    public <T> List<T> parallel(@NonNull List<? extends Supplier<? extends T>> actions) {
+        if (!options.isScan() && (options.isReadWrite() || options.getIsolationLevel() == IsolationLevel.SNAPSHOT)) {
+            throw new IllegalTransactionIsolationLevelException("Parallel statements", options.getIsolationLevel());
+        }
+        Preconditions.checkState(repository != null, "Parallel statements are not supported in transaction %s", name);
+
+        List<Future<ParallelBranch<T>>> branches = new ArrayList<>(actions.size());
+        for (Supplier<? extends T> action : actions.subList(Math.min(1, actions.size()), actions.size())) {
+            branches.add(TxWorkers.submit(() -> runParallelBranch(action)));
+        }
+
+        List<T> results = new ArrayList<>(actions.size());
+        try {
+            // The first action does not need another session, so it is run in this transaction
+            if (!actions.isEmpty()) {
+                results.add(actions.get(0).get());
+            }
+            for (Future<ParallelBranch<T>> future : branches) {
+                ParallelBranch<T> branch = join(future);
+                results.add(branch.value());
+
+                TxImpl branchTx = branch.tx();
+                repositoryTransaction.getTransactionLocal().firstLevelCache()
+                        .putAllAbsent(branchTx.repositoryTransaction.getTransactionLocal().firstLevelCache());
+                deferredAfterCommit.addAll(branchTx.deferredAfterCommit);
+                deferredFinally.addAll(branchTx.deferredFinally);
+            }
+        } finally {
+            branches.forEach(f -> f.cancel(true));
+        }
+        return results;
+    }
+
+    private <T> ParallelBranch<T> runParallelBranch(Supplier<? extends T> action) {
+        // Callbacks deferred by the branch are run by this transaction, as if they were deferred by it
+        TxImpl branchTx = new TxImpl(name, repository.startTransaction(options), options, false, null);
+        T value = branchTx.run(action);
+        return new ParallelBranch<>(value, branchTx);
+    }
+
+    private static <T> T join(Future<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new IllegalStateException("Unexpected checked exception in parallel statement", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new QueryInterruptedException("DB query interrupted", e);
+        }
+    }
+
     private <R> R runImpl(Supplier<R> supplier) {
         Stopwatch sw = Stopwatch.createStarted();
         R res;
@@ -125,4 +212,7 @@ final class TxImpl implements Tx {
     private String formatExecutionLogMultiline(String prefix) {
         return repositoryTransaction.getTransactionLocal().log().format(prefix);
     }
+
+    private record ParallelBranch<T>(T value, TxImpl tx) {
+    }
 }
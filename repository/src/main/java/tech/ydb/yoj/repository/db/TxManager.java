@@ -41,6 +41,25 @@ public interface TxManager {
      */
     TxManager immediateWrites();
 
+    /**
+     * Enable pending write queue in transaction, like {@link #delayedWrites()}, and send the pending writes to all
+     * tables in as few requests as possible, right before the transaction is committed.
+     * <p>Transaction managers that cannot combine writes just return {@code this}.
+     */
+    default TxManager combinedWrites() {
+        return this;
+    }
+
+    /**
+     * Enable pending write queue in transaction, like {@link #delayedWrites()}, and write only the changed columns of
+     * the entities that have been read by the transaction, instead of the whole rows.
+     * <p>Has no effect if the {@link #noFirstLevelCache() first-level cache} is turned off. Transaction managers that
+     * cannot write only the changed columns just return {@code this}.
+     */
+    default TxManager partialUpdates() {
+        return this;
+    }
+
     /**
      * Turn off first level cache
      */
@@ -129,6 +148,20 @@ public interface TxManager {
      */
     TxManager withTimeout(Duration timeout);
 
+    /**
+     * Sets a deadline for the whole transaction, including all its statements, commit and retries. Each statement
+     * and commit is given no more time than is left before the deadline. If the remaining time is not enough for
+     * another attempt, the transaction is not retried and {@link DeadlineExceededException} caused by the last
+     * retryable error is thrown. Statements started after the deadline also throw {@link DeadlineExceededException}.
+     * <p>Default implementation throws {@link UnsupportedOperationException}, because running the transaction without
+     * the deadline could make it run for much longer than the caller expects.
+     *
+     * @param deadline transaction deadline; {@code null} to remove the deadline
+     */
+    default TxManager withDeadline(TxDeadline deadline) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support transaction deadlines");
+    }
+
     /**
      * Performs the specified action inside a transaction. The action must be idempotent, because it might be executed
      * multiple times in case of {@link OptimisticLockException transaction lock
@@ -200,6 +233,21 @@ public interface TxManager {
 
         ReadonlyBuilder withFirstLevelCache(boolean firstLevelCache);
 
+        /**
+         * Runs the transaction on a separate thread, and if it does not complete in time, runs the same transaction
+         * once more, in parallel with the first one. The result of the first transaction to complete successfully is
+         * returned, and the other one is cancelled.
+         * <p>Transaction body must not depend on the calling thread, because it is run on other threads (logging
+         * MDC is copied, though). Callbacks {@link Tx#defer(Runnable) deferred} by the cancelled transaction are
+         * not run; those of the successful one are run on the calling thread, after the transaction completes.
+         * <p>Builders that do not support hedging ignore the policy and return {@code this}.
+         *
+         * @param hedgingPolicy when to start the second transaction; {@code null} to disable hedging
+         */
+        default ReadonlyBuilder withHedging(HedgingPolicy hedgingPolicy) {
+            return this;
+        }
+
         <T> T run(Supplier<T> supplier);
 
         default void run(Runnable runnable) {
@@ -16,6 +16,8 @@ import java.time.Duration;
 @With
 @Builder(access = AccessLevel.PRIVATE)
 public class TxOptions {
+    private static final Duration MIN_DEADLINE_TIMEOUT = Duration.ofMillis(1);
+
     @NonNull
     IsolationLevel isolationLevel;
 
@@ -33,6 +35,25 @@ public class TxOptions {
 
     boolean immediateWrites;
 
+    /**
+     * Whether pending writes should be sent to the database in as few requests as possible, by combining writes
+     * to different tables into a single query. Has no effect if {@link #isImmediateWrites() immediateWrites} is set.
+     */
+    boolean combinedWrites;
+
+    /**
+     * Whether saving an entity that has been read by the transaction should only write the columns that differ from
+     * the read entity, by an {@code UPDATE} statement instead of a full-row {@code UPSERT}. Has no effect if
+     * {@link #isImmediateWrites() immediateWrites} is set or {@link #isFirstLevelCache() firstLevelCache} is not.
+     */
+    boolean partialUpdates;
+
+    /**
+     * Deadline shared by all statements, commit and retries of the transaction, or {@code null} if the transaction
+     * is limited only by {@link #getTimeoutOptions() statement timeout}.
+     */
+    TxDeadline deadline;
+
     public static TxOptions create(@NonNull IsolationLevel isolationLevel) {
         return builder()
                 .isolationLevel(isolationLevel)
@@ -65,6 +86,17 @@ public class TxOptions {
     }
 
     public TimeoutOptions minTimeoutOptions(Duration timeoutFromExternalCtx) {
+        if (deadline != null) {
+            // Zero timeout means "no timeout" to the YDB SDK, so an expired deadline becomes a minimal timeout instead
+            Duration remaining = deadline.remaining();
+            if (remaining.compareTo(MIN_DEADLINE_TIMEOUT) < 0) {
+                remaining = MIN_DEADLINE_TIMEOUT;
+            }
+            if (timeoutFromExternalCtx == null || remaining.compareTo(timeoutFromExternalCtx) < 0) {
+                timeoutFromExternalCtx = remaining;
+            }
+        }
+
         if (timeoutFromExternalCtx == null && timeoutOptions == null) {
             return TimeoutOptions.DEFAULT;
         }
@@ -0,0 +1,38 @@
+package tech.ydb.yoj.repository.db;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.MDC;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Worker threads for the parts of transactions that are run off the calling thread: hedged attempts of read-only
+ * transactions and parallel statements. Logging MDC of the submitting thread is copied to the worker.
+ */
+final class TxWorkers {
+    private static final ExecutorService executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+            .setNameFormat("yoj-tx-worker-%d")
+            .setDaemon(true)
+            .build());
+
+    private TxWorkers() {
+    }
+
+    static <T> Future<T> submit(Callable<T> task) {
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        return executor.submit(() -> {
+            if (mdc != null) {
+                MDC.setContextMap(mdc);
+            }
+            try {
+                return task.call();
+            } finally {
+                MDC.clear();
+            }
+        });
+    }
+}
@@ -21,4 +21,31 @@ public class BulkParams {
 
     @Builder.Default
     String traceId = null;
+
+    /**
+     * Maximum number of rows sent in one bulk upsert request. {@code 0} means no limit.
+     */
+    @Builder.Default
+    int maxChunkRows = 0;
+
+    /**
+     * Maximum approximate size of the rows sent in one bulk upsert request, in bytes. {@code 0} means no limit.
+     * A row which alone exceeds the limit is sent in a request of its own.
+     */
+    @Builder.Default
+    long maxChunkBytes = 0;
+
+    /**
+     * Maximum number of bulk upsert requests sent concurrently, if the input is split into several requests by
+     * {@link #maxChunkRows} and {@link #maxChunkBytes} limits.
+     */
+    @Builder.Default
+    int parallelism = 1;
+
+    /**
+     * How many times a bulk upsert request is resent if it fails with a retryable error. Unlike a transaction retry,
+     * only the failed request is resent, not the whole input.
+     */
+    @Builder.Default
+    int maxChunkRetries = 0;
 }
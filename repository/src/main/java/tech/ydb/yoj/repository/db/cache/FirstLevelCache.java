@@ -11,6 +11,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -40,6 +41,33 @@ public interface FirstLevelCache {
 
     <E extends Entity<E>> boolean containsKey(@NonNull Entity.Id<E> id);
 
+    /**
+     * Returns ids of all entities in the transaction L1 cache, including ids of entities that are known to be absent.
+     * <p>Default implementation throws {@link UnsupportedOperationException}, so caches that do not override it cannot
+     * be {@link #putAllAbsent(FirstLevelCache) merged into other caches}.
+     */
+    default Set<Entity.Id<?>> ids() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support listing entity ids");
+    }
+
+    /**
+     * Copies entries of the {@code other} cache which are not in this cache, e.g. when merging the cache of another
+     * transaction that has read the same data.
+     */
+    default void putAllAbsent(@NonNull FirstLevelCache other) {
+        for (Entity.Id<?> id : other.ids()) {
+            putIfAbsent(other, id);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <E extends Entity<E>> void putIfAbsent(FirstLevelCache other, Entity.Id<?> entityId) {
+        Entity.Id<E> id = (Entity.Id<E>) entityId;
+        if (!containsKey(id)) {
+            other.peek(id).ifPresentOrElse(this::put, () -> putEmpty(id));
+        }
+    }
+
     static FirstLevelCache empty() {
         return new FirstLevelCache() {
             @Override
@@ -74,6 +102,11 @@ public interface FirstLevelCache {
             public <E extends Entity<E>> boolean containsKey(Entity.@NonNull Id<E> id) {
                 return false;
             }
+
+            @Override
+            public Set<Entity.Id<?>> ids() {
+                return Set.of();
+            }
         };
     }
 
@@ -145,6 +178,11 @@ public interface FirstLevelCache {
             public <E extends Entity<E>> boolean containsKey(Entity.@NonNull Id<E> id) {
                 return getEntityCache().containsKey(id);
             }
+
+            @Override
+            public Set<Entity.Id<?>> ids() {
+                return Set.copyOf(entityCache.keySet());
+            }
         };
     }
 }
@@ -4,6 +4,7 @@ import com.google.common.base.Preconditions;
 import lombok.SneakyThrows;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import tech.ydb.yoj.databind.Lazy;
 
 import javax.annotation.ParametersAreNonnullByDefault;
 import java.lang.reflect.Type;
@@ -126,7 +127,15 @@ public final class CommonConverters {
     }
 
     public static String serializeOpaqueObjectValue(Type type, Object v) {
-        return jsonConverter.toJson(type, v);
+        if (v instanceof Lazy<?> lazy) {
+            // Lazy values which have not been accessed are written back as-is, without deserializing and serializing them
+            // again. Accessed values might have been mutated in place, so they are always serialized
+            String serialized = lazy.getSerialized();
+            return serialized != null && !lazy.isLoaded()
+                    ? serialized
+                    : jsonConverter.toJson(Lazy.getValueType(type), lazy.get());
+        }
+        return jsonConverter.toJson(Lazy.isLazyType(type) ? Lazy.getValueType(type) : type, v);
     }
 
     public static Object deserializeOpaqueObjectValue(Type type, Object src) {
@@ -134,6 +143,10 @@ public final class CommonConverters {
     }
 
     public static <S> ThrowingGetter<S> opaqueObjectValueGetter(Type type, Function<S, Object> rawValueGetter) {
+        if (Lazy.isLazyType(type)) {
+            Type valueType = Lazy.getValueType(type);
+            return v -> Lazy.deserializing((String) rawValueGetter.apply(v), json -> jsonConverter.fromJson(valueType, json));
+        }
         return v -> jsonConverter.fromJson(type, (String) rawValueGetter.apply(v));
     }
 
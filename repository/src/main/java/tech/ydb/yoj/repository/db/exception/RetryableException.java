@@ -2,6 +2,8 @@ package tech.ydb.yoj.repository.db.exception;
 
 import tech.ydb.yoj.util.retry.RetryPolicy;
 
+import java.time.Duration;
+
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 /**
@@ -35,13 +37,34 @@ public abstract class RetryableException extends RepositoryException {
      */
     public void sleep(int attempt) {
         try {
-            MILLISECONDS.sleep(retryPolicy.calcDuration(attempt).toMillis());
+            MILLISECONDS.sleep(getRetryDelay(attempt).toMillis());
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new QueryInterruptedException("DB query interrupted", e);
         }
     }
 
+    /**
+     * Returns the recommended amount of time to wait before retrying. Use this instead of {@link #sleep(int)} if you
+     * cannot block the current thread, e.g. when scheduling a retry asynchronously.
+     *
+     * @param attempt request attempt count (starting from 1)
+     * @return recommended delay before the next attempt
+     */
+    public Duration getRetryDelay(int attempt) {
+        return retryPolicy.calcDuration(attempt);
+    }
+
+    /**
+     * Tells whether this exception means that the database is overloaded. If the database is overloaded often,
+     * {@link tech.ydb.yoj.repository.db.RetryBudget retry budget} increases retry delays.
+     *
+     * @return {@code true} if the database is overloaded; {@code false} otherwise
+     */
+    public boolean isOverloaded() {
+        return false;
+    }
+
     public RepositoryException rethrow() {
         return UnavailableException.afterRetries("Retries failed", this);
     }
@@ -10,6 +10,7 @@ import tech.ydb.yoj.databind.expression.OrExpr;
 import tech.ydb.yoj.databind.expression.OrderExpression;
 import tech.ydb.yoj.databind.expression.ScalarExpr;
 import tech.ydb.yoj.databind.expression.values.FieldValue;
+import tech.ydb.yoj.databind.schema.FlatRow;
 import tech.ydb.yoj.databind.schema.Schema;
 import tech.ydb.yoj.databind.schema.Schema.JavaField;
 import tech.ydb.yoj.repository.db.Entity;
@@ -18,7 +19,6 @@ import tech.ydb.yoj.util.function.StreamSupplier;
 import javax.annotation.Nullable;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -145,12 +145,17 @@ public final class InMemoryQueries {
 
     public static <T extends Entity<T>> Comparator<T> toComparator(@NonNull OrderExpression<T> orderBy) {
         Schema<T> schema = orderBy.getSchema();
+        List<OrderExpression.SortKey> sortKeys = orderBy.getKeys();
+        List<List<JavaField>> sortKeyFields = sortKeys.stream()
+                .map(sortKey -> sortKey.getField().flatten().collect(toList()))
+                .collect(toList());
         return (a, b) -> {
-            Map<String, Object> mapA = schema.flatten(a);
-            Map<String, Object> mapB = schema.flatten(b);
-            for (OrderExpression.SortKey sortKey : orderBy.getKeys()) {
-                for (JavaField field : sortKey.getField().flatten().collect(toList())) {
-                    int res = compare(FieldValue.getComparable(mapA, field), FieldValue.getComparable(mapB, field));
+            FlatRow rowA = schema.flattenToRow(a);
+            FlatRow rowB = schema.flattenToRow(b);
+            for (int i = 0; i < sortKeys.size(); i++) {
+                OrderExpression.SortKey sortKey = sortKeys.get(i);
+                for (JavaField field : sortKeyFields.get(i)) {
+                    int res = compare(FieldValue.getComparable(rowA, field), FieldValue.getComparable(rowB, field));
                     if (res != 0) {
                         return sortKey.getOrder() == ASCENDING ? res : -res;
                     }
@@ -8,20 +8,32 @@ import org.apache.logging.log4j.core.appender.AbstractAppender;
 import org.apache.logging.log4j.core.config.Configuration;
 import org.apache.logging.log4j.core.config.LoggerConfig;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.slf4j.MDC;
 import tech.ydb.yoj.repository.db.cache.TransactionLocal;
 import tech.ydb.yoj.repository.db.cache.TransactionLog;
+import tech.ydb.yoj.repository.db.exception.DeadlineExceededException;
 import tech.ydb.yoj.repository.db.exception.OptimisticLockException;
+import tech.ydb.yoj.repository.db.exception.QueryInterruptedException;
+import tech.ydb.yoj.repository.db.exception.RetryableException;
+import tech.ydb.yoj.repository.db.exception.UnavailableException;
 import tech.ydb.yoj.repository.db.testcaller.TestDbTxCaller;
 import tech.ydb.yoj.repository.testcaller.TestTxCaller;
+import tech.ydb.yoj.util.retry.RetryPolicy;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -71,6 +83,74 @@ public class StdTxManagerTest {
         assertThat(name).isEqualTo("omg");
     }
 
+    @Test
+    public void testGeneratedNameIsCachedForLambda() {
+        when(repository.startTransaction(any(TxOptions.class))).thenReturn(repositoryTransaction);
+        when(repositoryTransaction.getTransactionLocal()).thenReturn(transactionLocal);
+        when(transactionLocal.log()).thenReturn(transactionLog);
+
+        var txManager = new StdTxManager(repository);
+        var names = new ArrayList<String>();
+        for (int i = 0; i < 3; i++) {
+            names.add(txManager.tx(() -> Tx.Current.get().getName()));
+        }
+        txManager.tx(() -> names.add(Tx.Current.get().getName()));
+
+        assertThat(names).containsOnly("StdTxManTes#testGenNamIsCacForLam").hasSize(4);
+    }
+
+    @Test
+    public void testMdcOfEnclosingTxRestoredAfterSeparateTx() {
+        when(repository.startTransaction(any(TxOptions.class))).thenReturn(repositoryTransaction);
+        when(repositoryTransaction.getTransactionLocal()).thenReturn(transactionLocal);
+        when(transactionLocal.log()).thenReturn(transactionLog);
+
+        var txManager = new StdTxManager(repository);
+        var mdcAfterSeparateTx = txManager.withName("outer").tx(() -> {
+            txManager.separate().withName("inner").tx(() -> assertThat(MDC.get("tx-name")).isEqualTo("inner"));
+            return MDC.get("tx-name");
+        });
+
+        assertThat(mdcAfterSeparateTx).isEqualTo("outer");
+        assertThat(MDC.get("tx-name")).isNull();
+    }
+
+    @Test
+    public void testCombinedWrites() {
+        when(repository.startTransaction(any(TxOptions.class))).thenReturn(repositoryTransaction);
+        when(repositoryTransaction.getTransactionLocal()).thenReturn(transactionLocal);
+        when(transactionLocal.log()).thenReturn(transactionLog);
+
+        new StdTxManager(repository).immediateWrites().combinedWrites().tx(() -> {
+        });
+        new StdTxManager(repository).tx(() -> {
+        });
+
+        var options = ArgumentCaptor.forClass(TxOptions.class);
+        verify(repository, times(2)).startTransaction(options.capture());
+        assertThat(options.getAllValues())
+                .extracting(TxOptions::isCombinedWrites, TxOptions::isImmediateWrites)
+                .containsExactly(tuple(true, false), tuple(false, false));
+    }
+
+    @Test
+    public void testPartialUpdates() {
+        when(repository.startTransaction(any(TxOptions.class))).thenReturn(repositoryTransaction);
+        when(repositoryTransaction.getTransactionLocal()).thenReturn(transactionLocal);
+        when(transactionLocal.log()).thenReturn(transactionLog);
+
+        new StdTxManager(repository).immediateWrites().partialUpdates().tx(() -> {
+        });
+        new StdTxManager(repository).tx(() -> {
+        });
+
+        var options = ArgumentCaptor.forClass(TxOptions.class);
+        verify(repository, times(2)).startTransaction(options.capture());
+        assertThat(options.getAllValues())
+                .extracting(TxOptions::isPartialUpdates, TxOptions::isImmediateWrites)
+                .containsExactly(tuple(true, false), tuple(false, false));
+    }
+
     @Test
     public void testDryDun_True() {
         when(repository.startTransaction(any(TxOptions.class))).thenReturn(repositoryTransaction);
@@ -186,6 +266,197 @@ public class StdTxManagerTest {
         verify(repositoryTransaction, times(0)).commit();
     }
 
+    @Test
+    public void testRetryBudget_Exhausted() {
+        when(repository.startTransaction(any(TxOptions.class))).thenReturn(repositoryTransaction);
+        when(repositoryTransaction.getTransactionLocal()).thenReturn(transactionLocal);
+        when(transactionLocal.log()).thenReturn(transactionLog);
+
+        var txManager = new StdTxManager(repository).withRetryBudget(RetryBudget.create(0.1, 2));
+        var i = new AtomicInteger();
+
+        assertThatThrownBy(() -> txManager.tx(() -> {
+            i.incrementAndGet();
+            throw new OptimisticLockException("lock exception");
+        })).isInstanceOf(UnavailableException.class);
+
+        // first attempt + 2 retries allowed by the budget
+        assertThat(i).hasValue(3);
+    }
+
+    @Test
+    public void testRetryBudget_RefilledBySuccessfulAttempts() {
+        var budget = RetryBudget.create(0.5, 1);
+        var e = new OptimisticLockException("lock exception");
+
+        assertThat(budget.tryRetry("tx", e)).isTrue();
+        assertThat(budget.tryRetry("tx", e)).isFalse();
+
+        budget.onSuccess("tx");
+        assertThat(budget.tryRetry("tx", e)).isFalse();
+        budget.onSuccess("tx");
+        assertThat(budget.tryRetry("tx", e)).isTrue();
+    }
+
+    @Test
+    public void testRetryBudget_AdaptiveDelay() {
+        var budget = RetryBudget.create(1.0, 1000);
+        var overloaded = new RetryableException("overloaded", RetryPolicy.fixed(Duration.ofMillis(100))) {
+            @Override
+            public boolean isOverloaded() {
+                return true;
+            }
+        };
+
+        assertThat(budget.getRetryDelay(overloaded, 1)).isEqualTo(Duration.ofMillis(100));
+        for (int j = 0; j < 50; j++) {
+            budget.tryRetry("tx", overloaded);
+        }
+        assertThat(budget.getRetryDelay(overloaded, 1)).isGreaterThan(Duration.ofMillis(500));
+
+        for (int j = 0; j < 200; j++) {
+            budget.onSuccess("tx");
+        }
+        assertThat(budget.getRetryDelay(overloaded, 1)).isLessThan(Duration.ofMillis(110));
+    }
+
+    @Test
+    public void testDeadline_NoRetryIfAttemptDoesNotFit() {
+        when(repository.startTransaction(any(TxOptions.class))).thenReturn(repositoryTransaction);
+        when(repositoryTransaction.getTransactionLocal()).thenReturn(transactionLocal);
+        when(transactionLocal.log()).thenReturn(transactionLog);
+
+        var txManager = new StdTxManager(repository).withDeadline(TxDeadline.after(Duration.ofMillis(300)));
+        var i = new AtomicInteger();
+
+        assertThatThrownBy(() -> txManager.tx(() -> {
+            i.incrementAndGet();
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                throw new QueryInterruptedException("interrupted", e);
+            }
+            throw new OptimisticLockException("lock exception");
+        }))
+                .isInstanceOf(DeadlineExceededException.class)
+                .hasCauseInstanceOf(OptimisticLockException.class);
+
+        assertThat(i).hasValue(1);
+    }
+
+    @Test
+    public void testDeadline_Expired() {
+        var txManager = new StdTxManager(repository).withDeadline(TxDeadline.after(Duration.ZERO));
+        var i = new AtomicInteger();
+
+        assertThatThrownBy(() -> txManager.tx(i::incrementAndGet))
+                .isInstanceOf(DeadlineExceededException.class);
+
+        assertThat(i).hasValue(0);
+        verify(repository, times(0)).startTransaction(any(TxOptions.class));
+    }
+
+    @Test
+    public void testHedging_SlowAttemptIsCancelled() throws InterruptedException {
+        when(repository.startTransaction(any(TxOptions.class))).thenReturn(repositoryTransaction);
+        when(repositoryTransaction.getTransactionLocal()).thenReturn(transactionLocal);
+        when(transactionLocal.log()).thenReturn(transactionLog);
+
+        var txManager = new StdTxManager(repository).withMaxRetries(0);
+        var attempt = new AtomicInteger();
+        var deferred = Collections.synchronizedList(new ArrayList<String>());
+        var cancelled = new CountDownLatch(1);
+
+        String result = txManager.readOnly().withHedging(HedgingPolicy.after(Duration.ofMillis(10))).run(() -> {
+            if (attempt.incrementAndGet() == 1) {
+                Tx.Current.get().defer(() -> deferred.add("primary"));
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    cancelled.countDown();
+                    throw new QueryInterruptedException("interrupted", e);
+                }
+            }
+            Tx.Current.get().defer(() -> deferred.add("hedge"));
+            return "hedge";
+        });
+
+        assertThat(result).isEqualTo("hedge");
+        assertThat(cancelled.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(deferred).containsExactly("hedge");
+    }
+
+    @Test
+    public void testHedging_FastAttemptIsNotHedged() {
+        when(repository.startTransaction(any(TxOptions.class))).thenReturn(repositoryTransaction);
+        when(repositoryTransaction.getTransactionLocal()).thenReturn(transactionLocal);
+        when(transactionLocal.log()).thenReturn(transactionLog);
+
+        var txManager = new StdTxManager(repository);
+        var attempt = new AtomicInteger();
+        var callbackThreads = new ArrayList<Thread>();
+
+        txManager.readOnly().withHedging(HedgingPolicy.after(Duration.ofMinutes(1))).run(() -> {
+            attempt.incrementAndGet();
+            Tx.Current.get().defer(() -> callbackThreads.add(Thread.currentThread()));
+            Tx.Current.get().deferFinally(() -> callbackThreads.add(Thread.currentThread()));
+        });
+
+        assertThat(attempt).hasValue(1);
+        assertThat(callbackThreads).containsExactly(Thread.currentThread(), Thread.currentThread());
+        verify(repositoryTransaction, times(1)).commit();
+    }
+
+    @Test
+    public void testHedging_FailedAttemptIsRethrown() {
+        when(repository.startTransaction(any(TxOptions.class))).thenReturn(repositoryTransaction);
+        when(repositoryTransaction.getTransactionLocal()).thenReturn(transactionLocal);
+        when(transactionLocal.log()).thenReturn(transactionLog);
+
+        var txManager = new StdTxManager(repository);
+
+        assertThatThrownBy(() -> txManager.readOnly().withHedging(HedgingPolicy.after(Duration.ofMillis(10))).run(() -> {
+            throw new IllegalArgumentException("business exception");
+        })).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testHedging_PolicyGetsDurationSeenByCaller() {
+        when(repository.startTransaction(any(TxOptions.class))).thenReturn(repositoryTransaction);
+        when(repositoryTransaction.getTransactionLocal()).thenReturn(transactionLocal);
+        when(transactionLocal.log()).thenReturn(transactionLog);
+
+        var txManager = new StdTxManager(repository).withName("hedged").withMaxRetries(0);
+        var policy = HedgingPolicy.atPercentile(0.5, Duration.ofMillis(20));
+        for (int i = 0; i < 16; i++) {
+            var attempt = new AtomicInteger();
+            txManager.readOnly().withHedging(policy).run(() -> {
+                if (attempt.incrementAndGet() == 1) {
+                    try {
+                        new CountDownLatch(1).await();
+                    } catch (InterruptedException e) {
+                        throw new QueryInterruptedException("interrupted", e);
+                    }
+                }
+            });
+        }
+
+        // Hedged attempts complete at once, but the caller has waited for the hedging delay before starting them
+        assertThat(policy.getDelay("hedged")).isGreaterThanOrEqualTo(Duration.ofMillis(20));
+    }
+
+    @Test
+    public void testHedgingPolicy_Percentile() {
+        var policy = HedgingPolicy.atPercentile(0.9, Duration.ofSeconds(1));
+        assertThat(policy.getDelay("tx")).isEqualTo(Duration.ofSeconds(1));
+
+        for (int ms = 1; ms <= 100; ms++) {
+            policy.recordDuration("tx", Duration.ofMillis(ms));
+        }
+        assertThat(policy.getDelay("tx")).isEqualTo(Duration.ofMillis(90));
+        assertThat(policy.getDelay("other-tx")).isEqualTo(Duration.ofSeconds(1));
+    }
+
     private static final class TestAppender extends AbstractAppender {
         private final List<String> messages = new ArrayList<>();
 
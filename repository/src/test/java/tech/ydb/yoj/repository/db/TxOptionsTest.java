@@ -30,6 +30,26 @@ public class TxOptionsTest {
         assertThat(options2.minTimeoutOptions(Duration.ofNanos(1)).getTimeout()).isEqualTo(Duration.ofNanos(1));
     }
 
+    @Test
+    public void testMinTimeoutOptionsIsLimitedByDeadline() {
+        var options = TxOptions
+                .create(IsolationLevel.ONLINE_CONSISTENT_READ_ONLY)
+                .withTimeoutOptions(new TxOptions.TimeoutOptions(Duration.ofMinutes(1)))
+                .withDeadline(TxDeadline.after(Duration.ofSeconds(10)));
+
+        assertThat(options.minTimeoutOptions(null).getTimeout()).isLessThanOrEqualTo(Duration.ofSeconds(10));
+        assertThat(options.minTimeoutOptions(Duration.ofSeconds(1)).getTimeout()).isEqualTo(Duration.ofSeconds(1));
+    }
+
+    @Test
+    public void testMinTimeoutOptionsIsPositiveAfterDeadline() {
+        var options = TxOptions
+                .create(IsolationLevel.ONLINE_CONSISTENT_READ_ONLY)
+                .withDeadline(TxDeadline.after(Duration.ZERO));
+
+        assertThat(options.minTimeoutOptions(null).getTimeout()).isPositive();
+    }
+
     @Test(expected = NullPointerException.class)
     public void testTimeoutOptionsCantAcceptNullTimeout() {
         new TxOptions.TimeoutOptions(null);
@@ -0,0 +1,123 @@
+package tech.ydb.yoj.repository.db.common;
+
+import lombok.NonNull;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import tech.ydb.yoj.databind.Lazy;
+
+import javax.annotation.Nullable;
+import java.lang.reflect.Type;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LazyOpaqueObjectTest {
+    private static final Type LAZY_STRING_TYPE = lazyType("value");
+    private static final Type LAZY_STRING_BUILDER_TYPE = lazyType("mutableValue");
+
+    private final AtomicInteger deserializations = new AtomicInteger();
+    private final AtomicInteger serializations = new AtomicInteger();
+
+    @Before
+    public void setUp() {
+        CommonConverters.defineJsonConverter(new CountingJsonConverter());
+    }
+
+    @After
+    public void tearDown() {
+        CommonConverters.disableJsonConverter();
+    }
+
+    @Test
+    public void deserializedOnFirstAccess() {
+        var lazy = (Lazy<?>) CommonConverters.deserializeOpaqueObjectValue(LAZY_STRING_TYPE, "\"hello\"");
+        assertThat(lazy.isLoaded()).isFalse();
+        assertThat(deserializations).hasValue(0);
+
+        assertThat(lazy.get()).isEqualTo("hello");
+        assertThat(lazy.get()).isEqualTo("hello");
+        assertThat(lazy.isLoaded()).isTrue();
+        assertThat(deserializations).hasValue(1);
+    }
+
+    @Test
+    public void unchangedValueWrittenBackAsIs() {
+        var lazy = CommonConverters.deserializeOpaqueObjectValue(LAZY_STRING_TYPE, "\"hello\"");
+
+        assertThat(CommonConverters.serializeOpaqueObjectValue(LAZY_STRING_TYPE, lazy)).isEqualTo("\"hello\"");
+        assertThat(deserializations).hasValue(0);
+        assertThat(serializations).hasValue(0);
+    }
+
+    @Test
+    public void newValueSerialized() {
+        assertThat(CommonConverters.serializeOpaqueObjectValue(LAZY_STRING_TYPE, Lazy.of("bye"))).isEqualTo("\"bye\"");
+        assertThat(serializations).hasValue(1);
+    }
+
+    @Test
+    public void mutatedValueSerializedAgain() {
+        @SuppressWarnings("unchecked")
+        var lazy = (Lazy<StringBuilder>) CommonConverters.deserializeOpaqueObjectValue(LAZY_STRING_BUILDER_TYPE, "\"hello\"");
+        lazy.get().append(", world");
+
+        String saved = CommonConverters.serializeOpaqueObjectValue(LAZY_STRING_BUILDER_TYPE, lazy);
+        assertThat(saved).isEqualTo("\"hello, world\"");
+        assertThat(serializations).hasValue(1);
+
+        var reread = (Lazy<?>) CommonConverters.deserializeOpaqueObjectValue(LAZY_STRING_BUILDER_TYPE, saved);
+        assertThat(reread.get()).hasToString("hello, world");
+    }
+
+    @Test
+    public void equalityOfNotLoadedValuesIsBySerializedForm() {
+        var lazy1 = CommonConverters.deserializeOpaqueObjectValue(LAZY_STRING_TYPE, "\"hello\"");
+        var lazy2 = CommonConverters.deserializeOpaqueObjectValue(LAZY_STRING_TYPE, "\"hello\"");
+
+        assertThat(lazy1).isEqualTo(lazy2);
+        assertThat(deserializations).hasValue(0);
+    }
+
+    @Test
+    public void equalityIsByValue() {
+        var lazy = CommonConverters.deserializeOpaqueObjectValue(LAZY_STRING_TYPE, "\"hello\"");
+        assertThat(lazy).isEqualTo(Lazy.of("hello"));
+    }
+
+    private static Type lazyType(String fieldName) {
+        try {
+            return Holder.class.getDeclaredField(fieldName).getGenericType();
+        } catch (NoSuchFieldException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static final class Holder {
+        Lazy<String> value;
+        Lazy<StringBuilder> mutableValue;
+    }
+
+    private final class CountingJsonConverter implements JsonConverter {
+        @Override
+        public String toJson(@NonNull Type type, @Nullable Object o) {
+            assertThat(type).isIn(String.class, StringBuilder.class);
+            serializations.incrementAndGet();
+            return "\"" + o + "\"";
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T fromJson(@NonNull Type type, @NonNull String content) {
+            assertThat(type).isIn(String.class, StringBuilder.class);
+            deserializations.incrementAndGet();
+            String value = content.substring(1, content.length() - 1);
+            return (T) (type == StringBuilder.class ? new StringBuilder(value) : value);
+        }
+
+        @Override
+        public <T> T fromObject(@NonNull Type type, @Nullable Object content) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}